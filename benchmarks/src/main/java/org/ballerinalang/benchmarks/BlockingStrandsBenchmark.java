@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMode;
+
+import java.io.PrintStream;
+import java.util.function.Function;
+
+/**
+ * Measures how long the {@link Scheduler} takes to run a number of concurrent strands that block their Java thread,
+ * like a strand calling a blocking interop function such as a JDBC query, in each {@link SchedulerMode}.
+ * <p>
+ * The virtual thread mode requires Java 21 or later, the scheduler falls back to the shared mode otherwise.
+ * <p>
+ * Usage: {@code BlockingStrandsBenchmark [strands] [blockingTimeMillis] [threads]}
+ *
+ * @since 2.0.0
+ */
+public class BlockingStrandsBenchmark {
+
+    private static final PrintStream OUT = System.out;
+    private static final int DEFAULT_STRANDS = 10_000;
+    private static final int DEFAULT_BLOCKING_TIME = 10;
+    private static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors() * 2;
+
+    public static void main(String[] args) {
+        int strands = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STRANDS;
+        long blockingTime = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_BLOCKING_TIME;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_THREADS;
+
+        OUT.println("Scheduler Mode,Threads,Strands,Total Time (ms),Throughput (strands/second)");
+        for (SchedulerMode mode : SchedulerMode.values()) {
+            long startTime = System.nanoTime();
+            run(mode, threads, strands, blockingTime);
+            double totalTimeMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+            OUT.println(String.format("%s,%d,%d,%.2f,%.2f", mode.getValue(), threads, strands, totalTimeMillis,
+                                      strands / (totalTimeMillis / 1000.0)));
+        }
+    }
+
+    private static void run(SchedulerMode mode, int threads, int strands, long blockingTime) {
+        Scheduler scheduler = new Scheduler(threads, false, mode);
+        Function<Object[], Object> blockingCall = params -> {
+            try {
+                Thread.sleep(blockingTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        for (int i = 0; i < strands; i++) {
+            scheduler.schedule(new Object[1], blockingCall, null, null, null, PredefinedTypes.TYPE_NULL, "blocking",
+                               null);
+        }
+        scheduler.start();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures the time taken to compile a synthetic package with many modules through the project API, with and
+ * without the parallel parsing option.
+ * <p>
+ * Every module defines a few records and functions and imports the previous module of its group of four, hence the
+ * dependency graph consists of many short independent chains. The {@code ballerina.home} system property must point
+ * to a Ballerina distribution for the lang libraries to be resolved.
+ * <p>
+ * Usage: {@code ModuleCompilationBenchmark [modules] [functionsPerModule] [iterations]}
+ *
+ * @since 2.0.0
+ */
+public class ModuleCompilationBenchmark {
+
+    private static final PrintStream OUT = System.out;
+    private static final String PACKAGE_NAME = "modbench";
+    private static final int DEFAULT_MODULES = 40;
+    private static final int DEFAULT_FUNCTIONS = 50;
+    private static final int DEFAULT_ITERATIONS = 3;
+    private static final int CHAIN_LENGTH = 4;
+
+    public static void main(String[] args) throws IOException {
+        int modules = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MODULES;
+        int functions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FUNCTIONS;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ITERATIONS;
+
+        Path projectPath = createProject(modules, functions);
+        OUT.println("Parallel Parsing,Modules,Iteration,Total Time (ms),Errors");
+        for (boolean parallel : new boolean[]{false, true}) {
+            for (int i = 0; i < iterations; i++) {
+                BuildOptions buildOptions = new BuildOptionsBuilder()
+                        .skipTests(true)
+                        .offline(true)
+                        .parallelParsing(parallel)
+                        .build();
+                long startTime = System.nanoTime();
+                BuildProject project = BuildProject.load(projectPath, buildOptions);
+                PackageCompilation compilation = project.currentPackage().getCompilation();
+                double totalTimeMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+                OUT.println(String.format("%s,%d,%d,%.2f,%d", parallel, modules, i, totalTimeMillis,
+                                          compilation.diagnosticResult().errorCount()));
+            }
+        }
+    }
+
+    private static Path createProject(int modules, int functions) throws IOException {
+        Path projectPath = Files.createTempDirectory(PACKAGE_NAME);
+        Files.writeString(projectPath.resolve("Ballerina.toml"),
+                          "[package]\norg = \"bench\"\nname = \"" + PACKAGE_NAME + "\"\nversion = \"0.1.0\"\n");
+
+        StringBuilder main = new StringBuilder();
+        for (int i = 0; i < modules; i++) {
+            main.append("import ").append(PACKAGE_NAME).append(".mod").append(i).append(";\n");
+        }
+        main.append("\npublic function main() {\n");
+        for (int i = 0; i < modules; i++) {
+            main.append("    _ = mod").append(i).append(":fn0(").append(i).append(");\n");
+        }
+        main.append("}\n");
+        Files.writeString(projectPath.resolve("main.bal"), main.toString());
+
+        for (int i = 0; i < modules; i++) {
+            Path modulePath = Files.createDirectories(projectPath.resolve("modules").resolve("mod" + i));
+            Files.writeString(modulePath.resolve("mod" + i + ".bal"), createModuleSource(i, functions));
+        }
+        return projectPath;
+    }
+
+    private static String createModuleSource(int module, int functions) {
+        boolean hasDependency = module % CHAIN_LENGTH != 0;
+        StringBuilder source = new StringBuilder();
+        if (hasDependency) {
+            source.append("import ").append(PACKAGE_NAME).append(".mod").append(module - 1).append(";\n\n");
+        }
+        for (int i = 0; i < functions; i++) {
+            source.append("public type Rec").append(i).append(" record {|\n")
+                    .append("    int id;\n    string name;\n    decimal amount;\n    Rec").append(i)
+                    .append("? next = ();\n|};\n\n");
+            source.append("public function fn").append(i).append("(int x) returns int {\n")
+                    .append("    Rec").append(i).append(" r = {id: x, name: \"n\" + x.toString(), amount: 1.5};\n")
+                    .append("    int[] values = from int v in 0 ..< 10 where v % 2 == 0 select v * r.id;\n")
+                    .append("    int sum = 0;\n")
+                    .append("    foreach int v in values {\n        sum += v;\n    }\n");
+            if (hasDependency) {
+                source.append("    return sum + mod").append(module - 1).append(":fn").append(i).append("(x);\n");
+            } else {
+                source.append("    return sum;\n");
+            }
+            source.append("}\n\n");
+        }
+        return source.toString();
+    }
+}
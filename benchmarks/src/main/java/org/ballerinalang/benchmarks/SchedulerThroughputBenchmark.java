@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMode;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.io.PrintStream;
+import java.util.function.Function;
+
+/**
+ * Measures the number of strands per second the {@link Scheduler} can run in each {@link SchedulerMode}.
+ * <p>
+ * A root strand spawns the configured number of child strands, and each child spawns a single grandchild, so that
+ * strands are scheduled both from worker threads and before the scheduler starts.
+ * <p>
+ * Usage: {@code SchedulerThroughputBenchmark [strands] [iterations] [threads...]}
+ *
+ * @since 2.0.0
+ */
+public class SchedulerThroughputBenchmark {
+
+    private static final PrintStream OUT = System.out;
+    private static final int DEFAULT_STRANDS = 200_000;
+    private static final int DEFAULT_ITERATIONS = 5;
+    private static final int[] DEFAULT_THREADS = {1, 8, 32};
+
+    public static void main(String[] args) {
+        int strands = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STRANDS;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+        int[] threadCounts = DEFAULT_THREADS;
+        if (args.length > 2) {
+            threadCounts = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++) {
+                threadCounts[i - 2] = Integer.parseInt(args[i]);
+            }
+        }
+
+        OUT.println("Scheduler Mode,Threads,Strands,Throughput (strands/second)");
+        for (SchedulerMode mode : SchedulerMode.values()) {
+            for (int threads : threadCounts) {
+                // warm up
+                run(mode, threads, strands);
+                long totalStrands = 0;
+                long totalTime = 0;
+                for (int i = 0; i < iterations; i++) {
+                    long startTime = System.nanoTime();
+                    totalStrands += run(mode, threads, strands);
+                    totalTime += System.nanoTime() - startTime;
+                }
+                double throughput = totalStrands / (totalTime / 1_000_000_000.0);
+                OUT.println(String.format("%s,%d,%d,%.2f", mode.getValue(), threads, strands, throughput));
+            }
+        }
+    }
+
+    private static long run(SchedulerMode mode, int threads, int strands) {
+        Scheduler scheduler = new Scheduler(threads, false, mode);
+        Function<Object[], Object> leaf = params -> null;
+        Function<Object[], Object> child = params -> {
+            Strand strand = (Strand) params[0];
+            scheduler.schedule(new Object[1], leaf, strand, null, null, PredefinedTypes.TYPE_NULL, "leaf", null);
+            return null;
+        };
+        Function<Object[], Object> root = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < strands; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, null, PredefinedTypes.TYPE_NULL, "child",
+                                   null);
+            }
+            return null;
+        };
+        scheduler.schedule(new Object[1], root, null, null, null, PredefinedTypes.TYPE_NULL, "root", null);
+        scheduler.start();
+        return 1 + 2L * strands;
+    }
+}
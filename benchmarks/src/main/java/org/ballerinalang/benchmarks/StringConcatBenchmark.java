@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.benchmarks;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.PrintStream;
+
+/**
+ * Measures building a string by repeatedly concatenating fragments to it, as a Ballerina loop doing
+ * {@code s = s + part} does, compared with copying the whole string on every concatenation.
+ * <p>
+ * Usage: {@code StringConcatBenchmark [fragments] [iterations]}
+ *
+ * @since 2.0.0
+ */
+public class StringConcatBenchmark {
+
+    private static final PrintStream OUT = System.out;
+    private static final int DEFAULT_FRAGMENTS = 100_000;
+    private static final int DEFAULT_ITERATIONS = 5;
+
+    public static void main(String[] args) {
+        int fragments = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FRAGMENTS;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+        BString[] parts = new BString[fragments];
+        for (int i = 0; i < fragments; i++) {
+            parts[i] = StringUtils.fromString("{\"id\":" + i + "},");
+        }
+
+        OUT.println("Mode,Fragments,Length,Time (ms)");
+        for (int i = 0; i < iterations; i++) {
+            long startTime = System.nanoTime();
+            BString result = StringUtils.fromString("");
+            for (BString part : parts) {
+                result = result.concat(part);
+            }
+            int length = result.getValue().length();
+            report("concat", fragments, length, startTime);
+
+            startTime = System.nanoTime();
+            String copied = "";
+            for (BString part : parts) {
+                copied = copied + part.getValue();
+            }
+            report("copy", fragments, StringUtils.fromString(copied).length(), startTime);
+        }
+    }
+
+    private static void report(String mode, int fragments, int length, long startTime) {
+        OUT.println(String.format("%s,%d,%d,%.2f", mode, fragments, length,
+                                  (System.nanoTime() - startTime) / 1_000_000.0));
+    }
+}
@@ -57,6 +57,9 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String BALLERINA_PROFILER_OUTPUT_ENV_VAR = "BALLERINA_PROFILER_OUTPUT";
+    public static final String BALLERINA_PROFILER_INTERVAL_ENV_VAR = "BALLERINA_PROFILER_INTERVAL";
 
     public static final Module BALLERINA_BUILTIN_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX, "builtin");
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
@@ -35,6 +35,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 /**
@@ -113,6 +114,18 @@ public class JsonUtils {
         return JsonParser.parse(jsonStr, mode);
     }
 
+    /**
+     * Parses the UTF-8 encoded remaining contents in the given {@link ByteBuffer} and returns a json.
+     *
+     * @param buffer the buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        return JsonParser.parse(buffer, mode);
+    }
+
     /**
      * Parses the contents in the given {@link Reader} and returns a json.
      *
@@ -21,51 +21,239 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be held exclusively by a single strand, which may re-acquire it, or be shared by any number of
+ * strands executing lock statements that only read the guarded variables. Uncontended acquisition and release only
+ * update the lock state with a CAS. A strand that cannot acquire the lock is queued and yields. New shared
+ * acquisitions are queued as well while a strand is waiting for the exclusive lock, so that readers cannot starve
+ * writers. When the lock becomes free it is handed over either to the first queued strand, if that one waits for the
+ * exclusive lock, or to the run of strands waiting for the shared lock at the head of the queue, and only those
+ * strands are unblocked.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final int FREE = 0;
+    private static final int EXCLUSIVE = -1;
 
-    private ArrayDeque<Strand> waitingForLock;
+    /**
+     * {@link #FREE}, {@link #EXCLUSIVE} or the number of strands holding the lock in shared mode.
+     */
+    private final AtomicInteger state = new AtomicInteger(FREE);
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
-    }
+    /**
+     * Strand holding the lock exclusively.
+     */
+    private volatile Strand owner;
+
+    /**
+     * Number of times the owner acquired the lock. Only accessed by the owner, or by the strand handing the lock over
+     * to a new owner, which leaves it at zero until the new owner retries the lock.
+     */
+    private int holdCount;
+
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    private final AtomicInteger exclusiveWaiterCount = new AtomicInteger();
+
+    private final ArrayDeque<Waiter> waitingForLock = new ArrayDeque<>();
+
+    /**
+     * Strands which were handed the lock in shared mode but have not retried the lock yet.
+     */
+    private final Set<Strand> sharedGrants = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final AtomicInteger sharedGrantCount = new AtomicInteger();
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    /**
+     * Acquires the lock exclusively.
+     *
+     * @param strand strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield until the lock is released
+     */
+    public boolean lock(Strand strand) {
+        if (tryLock(strand)) {
             return true;
         }
+        return lockSlow(strand, false);
+    }
 
-        this.waitingForLock.offerLast(strand);
-
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
-        return false;
+    /**
+     * Acquires the lock in shared mode, for lock statements that only read the guarded variables.
+     *
+     * @param strand strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield until the lock is released
+     */
+    public boolean lockShared(Strand strand) {
+        if (this.sharedGrantCount.get() > 0 && takeSharedGrant(strand)) {
+            return true;
+        }
+        if (tryLockShared(strand)) {
+            return true;
+        }
+        return lockSlow(strand, true);
     }
 
-    public synchronized void unlock() {
+    public void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        if (--holdCount > 0) {
+            return;
+        }
+        this.owner = null;
+        this.state.set(FREE);
+        handOverToWaitingStrands();
+    }
+
+    public void unlockShared() {
+        if (this.owner != null) {
+            // Lock is shared by a strand that held it exclusively, see tryLockShared().
+            unlock();
+            return;
+        }
+        if (this.state.decrementAndGet() == FREE) {
+            handOverToWaitingStrands();
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.state.get() == FREE;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner == ctx;
+    }
+
+    private boolean tryLock(Strand strand) {
+        if (this.owner == strand) {
+            // Either a re-entrant acquire, or the first retry after the lock was handed over to this strand.
+            holdCount++;
+            return true;
+        }
+        if (this.state.compareAndSet(FREE, EXCLUSIVE)) {
+            this.owner = strand;
+            holdCount = 1;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean tryLockShared(Strand strand) {
+        if (this.owner == strand) {
+            // Already holds the lock exclusively, hence can read as well.
+            holdCount++;
+            return true;
+        }
+        while (this.exclusiveWaiterCount.get() == 0) {
+            int currentState = this.state.get();
+            if (currentState == EXCLUSIVE) {
+                return false;
+            }
+            if (this.state.compareAndSet(currentState, currentState + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized boolean takeSharedGrant(Strand strand) {
+        if (this.sharedGrants.remove(strand)) {
+            this.sharedGrantCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean lockSlow(Strand strand, boolean shared) {
+        // Waiter counts are incremented before retrying, so that a strand releasing the lock after the retry failed
+        // sees the waiter and hands the lock over once it has been queued.
+        this.waiterCount.incrementAndGet();
+        if (!shared) {
+            this.exclusiveWaiterCount.incrementAndGet();
+        }
+        synchronized (this) {
+            boolean locked = shared ? tryLockShared(strand) : tryLock(strand);
+            if (locked) {
+                this.waiterCount.decrementAndGet();
+                if (!shared) {
+                    this.exclusiveWaiterCount.decrementAndGet();
+                }
+                return true;
+            }
+            this.waitingForLock.offerLast(new Waiter(strand, shared));
+
+            // Strand state change
+            strand.setState(State.BLOCK_AND_YIELD);
+            strand.blockedOnExtern = false;
+            return false;
+        }
+    }
+
+    private void handOverToWaitingStrands() {
+        if (this.waiterCount.get() == 0) {
+            return;
+        }
+        synchronized (this) {
+            Waiter waiter = this.waitingForLock.peekFirst();
+            if (waiter == null) {
+                return;
+            }
+            if (!waiter.shared) {
+                // The lock may have been taken by a strand that did not have to wait, which will hand it over when
+                // it releases the lock.
+                if (!this.state.compareAndSet(FREE, EXCLUSIVE)) {
+                    return;
+                }
+                this.waitingForLock.pollFirst();
+                holdCount = 0;
+                this.owner = waiter.strand;
+                this.waiterCount.decrementAndGet();
+                this.exclusiveWaiterCount.decrementAndGet();
+                waiter.strand.scheduler.unblockStrand(waiter.strand);
+                return;
+            }
+
+            int readers = 0;
+            for (Waiter queued : this.waitingForLock) {
+                if (!queued.shared) {
+                    break;
+                }
+                readers++;
+            }
+            int currentState;
+            do {
+                currentState = this.state.get();
+                if (currentState == EXCLUSIVE) {
+                    return;
+                }
+            } while (!this.state.compareAndSet(currentState, currentState + readers));
+            for (int i = 0; i < readers; i++) {
+                Waiter reader = this.waitingForLock.pollFirst();
+                this.sharedGrants.add(reader.strand);
+                this.sharedGrantCount.incrementAndGet();
+                this.waiterCount.decrementAndGet();
+                reader.strand.scheduler.unblockStrand(reader.strand);
+            }
+        }
+    }
+
+    /**
+     * A strand waiting for the lock along with the mode it is waiting for.
+     */
+    private static class Waiter {
+        final Strand strand;
+        final boolean shared;
+
+        Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
@@ -34,12 +34,15 @@ import io.ballerina.runtime.internal.values.MapValueImpl;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -83,6 +86,11 @@ public class JsonParser {
      */
     public static Object parse(InputStream in, String charsetName) throws BError {
         try {
+            if (isUtf8(charsetName)) {
+                byte[] bytes = in.readAllBytes();
+                return changeForBString(parse(bytes, 0, bytes.length,
+                                              JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING));
+            }
             Object jsonObj = parse(new InputStreamReader(new BufferedInputStream(in), charsetName),
                                    JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
             return changeForBString(jsonObj);
@@ -92,6 +100,47 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the given byte array and returns a json. The bytes are scanned directly,
+     * without decoding them into characters first.
+     *
+     * @param bytes  the byte array which contains the JSON content
+     * @param offset the index of the first byte of the content
+     * @param length the number of bytes of the content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length, JsonUtils.NonStringValueProcessingMode mode)
+            throws BError {
+        try {
+            return new Utf8JsonParser(bytes, offset, length, mode).parse();
+        } catch (Utf8JsonParser.ParserStoppedException e) {
+            // Parse with the state machine, which produces the value or the error for the inputs the byte parser
+            // does not accept.
+            return parse(new InputStreamReader(new ByteArrayInputStream(bytes, offset, length),
+                                               StandardCharsets.UTF_8), mode);
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded remaining contents in the given {@link ByteBuffer} and returns a json. The position of
+     * the buffer is not changed.
+     *
+     * @param buffer the buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), mode);
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return parse(bytes, 0, bytes.length, mode);
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -115,6 +164,15 @@ public class JsonParser {
         return parse(new StringReader(jsonStr), mode);
     }
 
+    private static boolean isUtf8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // Unsupported charsets are reported when the reader is created
+            return false;
+        }
+    }
+
     private static Object changeForBString(Object jsonObj) {
         if (jsonObj instanceof String) {
             return StringUtils.fromString((String) jsonObj);
@@ -228,6 +286,8 @@ public class JsonParser {
 
         public void reset() {
             this.index = 0;
+            this.charBuffIndex = 0;
+            this.hexBuilder.setLength(0);
             this.currentJsonNode = null;
             this.line = 1;
             this.column = 0;
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread safe cache of subtype check results, keyed by the identities of the source and the target types.
+ * <p>
+ * When the cache grows past its capacity it is cleared, which keeps the bookkeeping free of any per-access
+ * ordering state. Only results that do not depend on the types being compared at the moment, i.e. those of top level
+ * type checks, must be added.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCache {
+
+    private final int capacity;
+    private final Map<TypePairKey, Boolean> results;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public TypeCheckCache(int capacity) {
+        this.capacity = capacity;
+        this.results = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return cached result, or null if the pair has not been checked yet
+     */
+    public Boolean get(Type sourceType, Type targetType) {
+        Boolean result = results.get(new TypePairKey(sourceType, targetType));
+        if (result == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return result;
+    }
+
+    public void put(Type sourceType, Type targetType, boolean result) {
+        if (results.size() >= capacity) {
+            results.clear();
+        }
+        results.put(new TypePairKey(sourceType, targetType), result);
+    }
+
+    public void clear() {
+        results.clear();
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Pair of types compared by reference.
+     */
+    private static class TypePairKey {
+        private final Type sourceType;
+        private final Type targetType;
+        private final int hash;
+
+        TypePairKey(Type sourceType, Type targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypePairKey)) {
+                return false;
+            }
+            TypePairKey other = (TypePairKey) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -122,6 +122,9 @@ import static io.ballerina.runtime.api.utils.TypeUtils.isValueType;
 @SuppressWarnings({"rawtypes"})
 public class TypeChecker {
 
+    private static final int TYPE_CHECK_CACHE_CAPACITY = 16384;
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache(TYPE_CHECK_CACHE_CAPACITY);
+
     public static Object checkCast(Object sourceVal, Type targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -597,7 +600,7 @@ public class TypeChecker {
         }
 
         if (sourceTypeTag == TypeTags.UNION_TAG) {
-            return isUnionTypeMatch((BUnionType) sourceType, targetType, unresolvedTypes);
+            return checkIsStructuralType(sourceType, targetType, unresolvedTypes);
         }
 
         switch (targetTypeTag) {
@@ -646,9 +649,39 @@ public class TypeChecker {
             case TypeTags.XML_PI_TAG:
                 return targetTypeTag == sourceTypeTag;
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                return checkIsStructuralType(sourceType, targetType, unresolvedTypes);
+        }
+    }
+
+    /**
+     * Returns the type check cache used for checks that need to walk the members of the source or the target type.
+     *
+     * @return type check cache
+     */
+    public static TypeCheckCache getTypeCheckCache() {
+        return TYPE_CHECK_CACHE;
+    }
+
+    private static boolean checkIsStructuralType(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean result;
+        if (sourceType.getTag() == TypeTags.UNION_TAG) {
+            result = isUnionTypeMatch((BUnionType) sourceType, targetType, unresolvedTypes);
+        } else {
+            result = checkIsRecursiveType(sourceType, targetType,
+                                          unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+        }
+
+        // Pairs that are already being checked are assumed to match while checking recursive types, hence only
+        // results of checks that did not start with such assumptions are final.
+        if (unresolvedTypes == null || unresolvedTypes.isEmpty()) {
+            TYPE_CHECK_CACHE.put(sourceType, targetType, result);
         }
+        return result;
     }
 
     private static boolean checkIsType(Object sourceVal, Type sourceType, Type targetType,
@@ -0,0 +1,850 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
+
+/**
+ * <p>
+ * Decodes a JSON string directly into a value of a target type in a single pass, without building the intermediate
+ * json value first. The decoder of a target type is compiled once and cached, for a bounded number of recently used
+ * target types.
+ * </p>
+ * <p>
+ * Only the target types whose conversion from json is unambiguous are decoded, i.e. simple basic types, json,
+ * anydata, maps, unsealed arrays and records of these, and optional types of them. A JSON value which is incompatible
+ * with the target type results in the same conversion error as converting the parsed value would. For the target
+ * types the decoder does not support, and for strings which are not valid JSON or use number formats the decoder does
+ * not read, {@link #NOT_DECODED} is returned. The caller then falls back to parsing the string and converting the
+ * parsed value, which reports the relevant error.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class TypedJsonDecoder {
+
+    /**
+     * Returned when the string could not be decoded into the target type.
+     */
+    public static final Object NOT_DECODED = new Object();
+
+    /**
+     * Maximum number of target types, the decoders of which are cached.
+     */
+    private static final int MAX_CACHED_DECODERS = 256;
+
+    private static final Map<TypeKey, ValueDecoder> decoders = Collections.synchronizedMap(new DecoderCache());
+    private static final ValueDecoder UNSUPPORTED_TYPE = new SimpleValueDecoder(PredefinedTypes.TYPE_NEVER);
+    private static final DecodingException DECODING_EXCEPTION = new DecodingException();
+    private static final DecodingException TYPE_MISMATCH = new DecodingException();
+    private static final Type JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_JSON);
+
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+    private static final String NULL = "null";
+
+    /**
+     * Decodes a JSON string into a value of the type described by the given typedesc.
+     *
+     * @param jsonStr  JSON string
+     * @param typedesc typedesc of the target type
+     * @return the decoded value, the conversion error if the JSON value is not compatible with the target type, or
+     * {@link #NOT_DECODED} if the string could not be decoded
+     */
+    public static Object decode(String jsonStr, BTypedesc typedesc) {
+        Type targetType = typedesc.getDescribingType();
+        ValueDecoder decoder = getDecoder(targetType);
+        if (decoder == UNSUPPORTED_TYPE) {
+            return NOT_DECODED;
+        }
+        JsonReader reader = new JsonReader(jsonStr, typedesc);
+        try {
+            Object value;
+            try {
+                value = decoder.decode(reader, false);
+            } catch (DecodingException e) {
+                if (e != TYPE_MISMATCH) {
+                    throw e;
+                }
+                // The string should still be valid JSON, for the mismatch to be reported rather than the syntax error
+                reader.skipRemaining();
+                if (reader.peek() != JsonReader.EOF) {
+                    return NOT_DECODED;
+                }
+                return createConversionError(jsonStr, targetType);
+            }
+            if (reader.peek() != JsonReader.EOF) {
+                return NOT_DECODED;
+            }
+            return value;
+        } catch (DecodingException | BError e) {
+            return NOT_DECODED;
+        }
+    }
+
+    /**
+     * Creates the error converting the parsed JSON value to the target type results in. The type of the parsed value
+     * is derived from the first value of the string, which is known to be valid JSON.
+     */
+    private static BError createConversionError(String jsonStr, Type targetType) throws DecodingException {
+        JsonReader reader = new JsonReader(jsonStr, null);
+        Type sourceType;
+        switch (reader.peek()) {
+            case '{':
+                sourceType = JSON_MAP_TYPE;
+                break;
+            case '[':
+                sourceType = PredefinedTypes.TYPE_JSON_ARRAY;
+                break;
+            default:
+                Object value = reader.readSimpleValue();
+                if (value == null) {
+                    return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR, BLangExceptionHelper
+                            .getErrorMessage(RuntimeErrors.CANNOT_CONVERT_NIL, targetType));
+                }
+                sourceType = TypeChecker.getType(value);
+        }
+        return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR, BLangExceptionHelper
+                .getErrorMessage(RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION, sourceType, targetType));
+    }
+
+    private static ValueDecoder getDecoder(Type targetType) {
+        TypeKey key = new TypeKey(targetType);
+        ValueDecoder decoder = decoders.get(key);
+        if (decoder == null) {
+            decoder = compile(targetType, new IdentityHashMap<>());
+            if (decoder == null) {
+                decoder = UNSUPPORTED_TYPE;
+            }
+            decoders.put(key, decoder);
+        }
+        return decoder;
+    }
+
+    private static ValueDecoder compile(Type type, Map<Type, RecordDecoder> records) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+                return new SimpleValueDecoder(type);
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                if (type.isReadOnly()) {
+                    return null;
+                }
+                return new GenericValueDecoder(type);
+            case TypeTags.UNION_TAG:
+                return compileOptionalType((UnionType) type, records);
+            case TypeTags.MAP_TAG:
+                if (type.isReadOnly()) {
+                    return null;
+                }
+                ValueDecoder constraintDecoder = compile(((MapType) type).getConstrainedType(), records);
+                return constraintDecoder == null ? null : new MapDecoder(type, constraintDecoder);
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                if (type.isReadOnly() || arrayType.getState() != ArrayType.ArrayState.OPEN) {
+                    return null;
+                }
+                ValueDecoder elementDecoder = compile(arrayType.getElementType(), records);
+                return elementDecoder == null ? null : new ArrayDecoder(arrayType, elementDecoder);
+            case TypeTags.RECORD_TYPE_TAG:
+                return compileRecordType((RecordType) type, records);
+            default:
+                return null;
+        }
+    }
+
+    private static ValueDecoder compileOptionalType(UnionType unionType, Map<Type, RecordDecoder> records) {
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        Type type;
+        if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+            type = memberTypes.get(1);
+        } else if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+            type = memberTypes.get(0);
+        } else {
+            return null;
+        }
+        if (type.getTag() == TypeTags.UNION_TAG || type.getTag() == TypeTags.NULL_TAG) {
+            return null;
+        }
+        ValueDecoder decoder = compile(type, records);
+        return decoder == null ? null : new OptionalValueDecoder(decoder);
+    }
+
+    private static ValueDecoder compileRecordType(RecordType recordType, Map<Type, RecordDecoder> records) {
+        if (recordType.isReadOnly()) {
+            return null;
+        }
+        RecordDecoder recordDecoder = records.get(recordType);
+        if (recordDecoder != null) {
+            return recordDecoder;
+        }
+        recordDecoder = new RecordDecoder(recordType);
+        records.put(recordType, recordDecoder);
+
+        Map<String, Field> fields = recordType.getFields();
+        int fieldIndex = 0;
+        recordDecoder.requiredFields = new boolean[fields.size()];
+        recordDecoder.nonOptionalFields = new boolean[fields.size()];
+        for (Field field : fields.values()) {
+            ValueDecoder fieldDecoder = compile(field.getFieldType(), records);
+            if (fieldDecoder == null) {
+                return null;
+            }
+            recordDecoder.fields.put(field.getFieldName(), new FieldDecoder(fieldIndex, fieldDecoder));
+            recordDecoder.requiredFields[fieldIndex] = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED);
+            recordDecoder.nonOptionalFields[fieldIndex] = !SymbolFlags.isFlagOn(field.getFlags(),
+                                                                                SymbolFlags.OPTIONAL);
+            fieldIndex++;
+        }
+        if (!recordType.isSealed()) {
+            recordDecoder.restFieldDecoder = compile(recordType.getRestFieldType(), records);
+            if (recordDecoder.restFieldDecoder == null) {
+                return null;
+            }
+        }
+        return recordDecoder;
+    }
+
+    /**
+     * Decodes a value of a target type from a JSON reader.
+     */
+    private abstract static class ValueDecoder {
+
+        /**
+         * Decodes the next value of the reader.
+         *
+         * @param reader JSON reader
+         * @param strict whether the value is a member of a map or an array, in which case the fields of records which
+         *               are not optional should be present, as when a json value is checked against a map or an array
+         *               type, instead of the required fields only
+         * @return the decoded value
+         * @throws DecodingException if the value could not be decoded. If the value is not compatible with the target
+         *                           type, the value is consumed before {@link #TYPE_MISMATCH} is thrown
+         */
+        abstract Object decode(JsonReader reader, boolean strict) throws DecodingException;
+    }
+
+    /**
+     * Decodes strings, numbers, booleans and nil, converting numbers to the target numeric type where needed.
+     */
+    private static class SimpleValueDecoder extends ValueDecoder {
+
+        private final Type type;
+
+        SimpleValueDecoder(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        Object decode(JsonReader reader, boolean strict) throws DecodingException {
+            char ch = reader.peek();
+            if (ch == '{' || ch == '[') {
+                reader.skipValue();
+                throw TYPE_MISMATCH;
+            }
+            Object value = reader.readSimpleValue();
+            if (value == null) {
+                if (type.isNilable()) {
+                    return null;
+                }
+                throw TYPE_MISMATCH;
+            }
+            if (TypeChecker.checkIsType(value, type)) {
+                return value;
+            }
+            if (!TypeChecker.checkIsLikeType(value, type, true)) {
+                throw TYPE_MISMATCH;
+            }
+            return TypeConverter.convertValues(type, value);
+        }
+    }
+
+    /**
+     * Decodes nil or a value of the non-nil member type of an optional type.
+     */
+    private static class OptionalValueDecoder extends ValueDecoder {
+
+        private final ValueDecoder decoder;
+
+        OptionalValueDecoder(ValueDecoder decoder) {
+            this.decoder = decoder;
+        }
+
+        @Override
+        Object decode(JsonReader reader, boolean strict) throws DecodingException {
+            if (reader.readNull()) {
+                return null;
+            }
+            return decoder.decode(reader, strict);
+        }
+    }
+
+    /**
+     * Decodes any JSON value as a json or an anydata value.
+     */
+    private static class GenericValueDecoder extends ValueDecoder {
+
+        private final Type mapType;
+        private final ArrayType arrayType;
+
+        GenericValueDecoder(Type type) {
+            this.mapType = new BMapType(type);
+            this.arrayType = type.getTag() == TypeTags.JSON_TAG ? PredefinedTypes.TYPE_JSON_ARRAY :
+                    new BArrayType(type);
+        }
+
+        @Override
+        Object decode(JsonReader reader, boolean strict) throws DecodingException {
+            switch (reader.peek()) {
+                case '{':
+                    BMap<BString, Object> map = ValueCreator.createMapValue(mapType);
+                    if (reader.startObject()) {
+                        do {
+                            BString key = StringUtils.fromString(reader.readFieldName());
+                            map.put(key, decode(reader, true));
+                        } while (reader.nextField());
+                    }
+                    return map;
+                case '[':
+                    BArray array = ValueCreator.createArrayValue(arrayType);
+                    if (reader.startArray()) {
+                        int index = 0;
+                        do {
+                            array.add(index++, decode(reader, true));
+                        } while (reader.nextElement());
+                    }
+                    return array;
+                default:
+                    return reader.readSimpleValue();
+            }
+        }
+    }
+
+    /**
+     * Decodes a JSON object as a map.
+     */
+    private static class MapDecoder extends ValueDecoder {
+
+        private final Type mapType;
+        private final ValueDecoder constraintDecoder;
+
+        MapDecoder(Type mapType, ValueDecoder constraintDecoder) {
+            this.mapType = mapType;
+            this.constraintDecoder = constraintDecoder;
+        }
+
+        @Override
+        Object decode(JsonReader reader, boolean strict) throws DecodingException {
+            if (reader.peek() != '{') {
+                reader.skipValue();
+                throw TYPE_MISMATCH;
+            }
+            BMap<BString, Object> map = ValueCreator.createMapValue(mapType);
+            if (reader.startObject()) {
+                do {
+                    BString key = StringUtils.fromString(reader.readFieldName());
+                    map.put(key, constraintDecoder.decode(reader, true));
+                } while (reader.nextField());
+            }
+            return map;
+        }
+    }
+
+    /**
+     * Decodes a JSON array as an unsealed array.
+     */
+    private static class ArrayDecoder extends ValueDecoder {
+
+        private final ArrayType arrayType;
+        private final ValueDecoder elementDecoder;
+
+        ArrayDecoder(ArrayType arrayType, ValueDecoder elementDecoder) {
+            this.arrayType = arrayType;
+            this.elementDecoder = elementDecoder;
+        }
+
+        @Override
+        Object decode(JsonReader reader, boolean strict) throws DecodingException {
+            if (reader.peek() != '[') {
+                reader.skipValue();
+                throw TYPE_MISMATCH;
+            }
+            BArray array = ValueCreator.createArrayValue(arrayType);
+            if (reader.startArray()) {
+                int index = 0;
+                do {
+                    array.add(index++, elementDecoder.decode(reader, true));
+                } while (reader.nextElement());
+            }
+            return array;
+        }
+    }
+
+    /**
+     * Decodes a JSON object as a record, failing on fields the record does not allow and missing fields it requires.
+     */
+    private static class RecordDecoder extends ValueDecoder {
+
+        private final RecordType recordType;
+        private final Map<String, FieldDecoder> fields = new HashMap<>();
+        private boolean[] requiredFields;
+        private boolean[] nonOptionalFields;
+        private ValueDecoder restFieldDecoder;
+
+        RecordDecoder(RecordType recordType) {
+            this.recordType = recordType;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object decode(JsonReader reader, boolean strict) throws DecodingException {
+            if (reader.peek() != '{') {
+                reader.skipValue();
+                throw TYPE_MISMATCH;
+            }
+            BMap<BString, Object> record;
+            if (reader.typedesc.getDescribingType() == recordType) {
+                record = (BMap<BString, Object>) reader.typedesc.instantiate(Scheduler.getStrand());
+            } else {
+                record = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+            }
+
+            boolean[] presentFields = new boolean[requiredFields.length];
+            if (reader.startObject()) {
+                do {
+                    String fieldName = reader.readFieldName();
+                    FieldDecoder field = fields.get(fieldName);
+                    Object value;
+                    if (field != null) {
+                        presentFields[field.index] = true;
+                        value = field.decoder.decode(reader, strict);
+                    } else if (restFieldDecoder != null) {
+                        value = restFieldDecoder.decode(reader, strict);
+                    } else {
+                        reader.skipValue();
+                        throw TYPE_MISMATCH;
+                    }
+                    record.put(StringUtils.fromString(fieldName), value);
+                } while (reader.nextField());
+            }
+
+            boolean[] mandatoryFields = strict ? nonOptionalFields : requiredFields;
+            for (int i = 0; i < presentFields.length; i++) {
+                if (mandatoryFields[i] && !presentFields[i]) {
+                    throw TYPE_MISMATCH;
+                }
+            }
+            return record;
+        }
+    }
+
+    /**
+     * Decoder of a record field.
+     */
+    private static class FieldDecoder {
+
+        private final int index;
+        private final ValueDecoder decoder;
+
+        FieldDecoder(int index, ValueDecoder decoder) {
+            this.index = index;
+            this.decoder = decoder;
+        }
+    }
+
+    /**
+     * Reads the tokens of a JSON string, accepting the same JSON texts as the {@link JsonParser} does and producing
+     * the same simple values for them.
+     */
+    private static class JsonReader {
+
+        private static final char EOF = (char) -1;
+
+        private final String str;
+        private final int length;
+        private final BTypedesc typedesc;
+        private int index;
+        private StringBuilder builder;
+        /**
+         * Closing characters of the objects and arrays which are open at the current position, innermost last.
+         */
+        private final StringBuilder openContainers = new StringBuilder();
+
+        JsonReader(String str, BTypedesc typedesc) {
+            this.str = str;
+            this.length = str.length();
+            this.typedesc = typedesc;
+        }
+
+        /**
+         * Skips whitespace and returns the next character without consuming it.
+         */
+        char peek() {
+            while (index < length) {
+                char ch = str.charAt(index);
+                if (ch != ' ' && ch != '\t' && ch != '\n' && ch != '\r') {
+                    return ch;
+                }
+                index++;
+            }
+            return EOF;
+        }
+
+        /**
+         * Consumes the '{' of an object and returns whether the object has fields.
+         */
+        boolean startObject() {
+            index++;
+            if (peek() == '}') {
+                index++;
+                return false;
+            }
+            openContainers.append('}');
+            return true;
+        }
+
+        String readFieldName() throws DecodingException {
+            if (peek() != '"') {
+                throw DECODING_EXCEPTION;
+            }
+            String fieldName = readString();
+            if (peek() != ':') {
+                throw DECODING_EXCEPTION;
+            }
+            index++;
+            return fieldName;
+        }
+
+        /**
+         * Consumes the separator after a field and returns whether another field follows.
+         */
+        boolean nextField() throws DecodingException {
+            return nextMember('}');
+        }
+
+        /**
+         * Consumes the '[' of an array and returns whether the array has elements.
+         */
+        boolean startArray() {
+            index++;
+            if (peek() == ']') {
+                index++;
+                return false;
+            }
+            openContainers.append(']');
+            return true;
+        }
+
+        /**
+         * Consumes the separator after an element and returns whether another element follows.
+         */
+        boolean nextElement() throws DecodingException {
+            return nextMember(']');
+        }
+
+        private boolean nextMember(char end) throws DecodingException {
+            char ch = peek();
+            index++;
+            if (ch == ',') {
+                return true;
+            } else if (ch == end) {
+                openContainers.setLength(openContainers.length() - 1);
+                return false;
+            }
+            throw DECODING_EXCEPTION;
+        }
+
+        /**
+         * Consumes the next value, checking that it is valid JSON.
+         */
+        void skipValue() throws DecodingException {
+            switch (peek()) {
+                case '{':
+                    if (startObject()) {
+                        do {
+                            readFieldName();
+                            skipValue();
+                        } while (nextField());
+                    }
+                    break;
+                case '[':
+                    if (startArray()) {
+                        do {
+                            skipValue();
+                        } while (nextElement());
+                    }
+                    break;
+                default:
+                    readSimpleValue();
+            }
+        }
+
+        /**
+         * Consumes the rest of the objects and arrays which are open after a value, checking that they are valid
+         * JSON.
+         */
+        void skipRemaining() throws DecodingException {
+            while (openContainers.length() > 0) {
+                char end = openContainers.charAt(openContainers.length() - 1);
+                while (nextMember(end)) {
+                    if (end == '}') {
+                        readFieldName();
+                    }
+                    skipValue();
+                }
+            }
+        }
+
+        /**
+         * Consumes the next value if it is null and returns whether it was.
+         */
+        boolean readNull() {
+            if (peek() == 'n' && str.startsWith(NULL, index)) {
+                int end = index + NULL.length();
+                if (end == length || isDelimiter(str.charAt(end))) {
+                    index = end;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Reads a string, number, boolean or null value.
+         */
+        Object readSimpleValue() throws DecodingException {
+            char ch = peek();
+            if (ch == '"') {
+                return StringUtils.fromString(readString());
+            } else if (ch == '{' || ch == '[' || ch == EOF) {
+                throw DECODING_EXCEPTION;
+            }
+
+            int start = index;
+            while (index < length && !isDelimiter(str.charAt(index))) {
+                ch = str.charAt(index);
+                if (!Character.isLetterOrDigit(ch) && ch != '-' && ch != '+' && ch != '.') {
+                    throw DECODING_EXCEPTION;
+                }
+                index++;
+            }
+            if (start == index) {
+                throw DECODING_EXCEPTION;
+            }
+            String token = str.substring(start, index);
+            try {
+                if (token.indexOf('.') >= 0) {
+                    return isNegativeZero(token) ? (Object) Double.parseDouble(token) : new DecimalValue(token);
+                }
+                switch (token) {
+                    case TRUE:
+                        return Boolean.TRUE;
+                    case FALSE:
+                        return Boolean.FALSE;
+                    case NULL:
+                        return null;
+                    default:
+                        return isNegativeZero(token) ? (Object) Double.parseDouble(token) : Long.parseLong(token);
+                }
+            } catch (NumberFormatException e) {
+                throw DECODING_EXCEPTION;
+            }
+        }
+
+        private String readString() throws DecodingException {
+            int start = ++index;
+            while (index < length) {
+                char ch = str.charAt(index);
+                if (ch == '"') {
+                    return str.substring(start, index++);
+                } else if (ch == '\\') {
+                    return readEscapedString(start);
+                }
+                index++;
+            }
+            throw DECODING_EXCEPTION;
+        }
+
+        private String readEscapedString(int start) throws DecodingException {
+            if (builder == null) {
+                builder = new StringBuilder();
+            }
+            builder.setLength(0);
+            builder.append(str, start, index);
+            while (index < length) {
+                char ch = str.charAt(index++);
+                if (ch == '"') {
+                    return builder.toString();
+                } else if (ch != '\\') {
+                    builder.append(ch);
+                    continue;
+                }
+                if (index == length) {
+                    break;
+                }
+                ch = str.charAt(index++);
+                switch (ch) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        builder.append(ch);
+                        break;
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        builder.append(readUnicodeEscape());
+                        break;
+                    default:
+                        throw DECODING_EXCEPTION;
+                }
+            }
+            throw DECODING_EXCEPTION;
+        }
+
+        private char readUnicodeEscape() throws DecodingException {
+            if (index + 4 > length) {
+                throw DECODING_EXCEPTION;
+            }
+            int codePoint = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(str.charAt(index++), 16);
+                if (digit < 0) {
+                    throw DECODING_EXCEPTION;
+                }
+                codePoint = (codePoint << 4) | digit;
+            }
+            return (char) codePoint;
+        }
+
+        private static boolean isDelimiter(char ch) {
+            return ch == ',' || ch == '}' || ch == ']' || ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+        }
+
+        private static boolean isNegativeZero(String token) {
+            return '-' == token.charAt(0) && 0 == Double.parseDouble(token);
+        }
+    }
+
+    /**
+     * Thrown without a stack trace when the decoder does not accept the JSON string.
+     */
+    private static class DecodingException extends Exception {
+
+        DecodingException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Decoders of the most recently used target types. The decoders refer to the target types, hence the number of
+     * decoders is bounded rather than holding the target types weakly.
+     */
+    private static class DecoderCache extends LinkedHashMap<TypeKey, ValueDecoder> {
+
+        DecoderCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TypeKey, ValueDecoder> eldest) {
+            return size() > MAX_CACHED_DECODERS;
+        }
+    }
+
+    /**
+     * Target type compared by reference.
+     */
+    private static class TypeKey {
+
+        private final Type type;
+
+        TypeKey(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TypeKey && ((TypeKey) obj).type == this.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+    }
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Parses JSON from UTF-8 encoded bytes, scanning the bytes directly instead of decoding them into characters first.
+ * </p>
+ * <p>
+ * The parser produces the same values as the {@link JsonParser} for well-formed documents. It does not report
+ * errors: it stops at the first byte it does not accept (i.e. invalid JSON, malformed UTF-8 and the lenient inputs
+ * the {@link JsonParser} accepts which are not JSON), and the caller parses the document with the {@link JsonParser}
+ * instead, which produces the value or the error for it.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class Utf8JsonParser {
+
+    private static final byte OTHER = 0;
+    private static final byte WHITESPACE = 1;
+    private static final byte TOKEN = 2;
+
+    private static final String NULL = "null";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
+    private static final int MAX_FAST_INT_DIGITS = 18;
+
+    /**
+     * Classes of the ASCII bytes. Bytes of non-string values which are not TOKEN bytes are either delimiters or make
+     * the parser stop.
+     */
+    private static final byte[] BYTE_CLASSES = new byte[128];
+
+    static {
+        BYTE_CLASSES[' '] = WHITESPACE;
+        BYTE_CLASSES['\t'] = WHITESPACE;
+        BYTE_CLASSES['\n'] = WHITESPACE;
+        BYTE_CLASSES['\r'] = WHITESPACE;
+        for (int ch = '0'; ch <= '9'; ch++) {
+            BYTE_CLASSES[ch] = TOKEN;
+        }
+        for (int ch = 'a'; ch <= 'z'; ch++) {
+            BYTE_CLASSES[ch] = TOKEN;
+            BYTE_CLASSES[Character.toUpperCase(ch)] = TOKEN;
+        }
+        BYTE_CLASSES['+'] = TOKEN;
+        BYTE_CLASSES['-'] = TOKEN;
+        BYTE_CLASSES['.'] = TOKEN;
+    }
+
+    private static final ParserStoppedException STOPPED = new ParserStoppedException();
+
+    private final byte[] bytes;
+    private final int limit;
+    private final JsonUtils.NonStringValueProcessingMode mode;
+    private final Type definedJsonType;
+    private int index;
+    private char[] chars = new char[64];
+
+    Utf8JsonParser(byte[] bytes, int offset, int length, JsonUtils.NonStringValueProcessingMode mode) {
+        this.bytes = bytes;
+        this.index = offset;
+        this.limit = offset + length;
+        this.mode = mode;
+        switch (mode) {
+            case FROM_JSON_DECIMAL_STRING:
+                this.definedJsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
+                break;
+            case FROM_JSON_FLOAT_STRING:
+                this.definedJsonType = PredefinedTypes.TYPE_JSON_FLOAT;
+                break;
+            default:
+                this.definedJsonType = PredefinedTypes.TYPE_JSON;
+                break;
+        }
+    }
+
+    /**
+     * Parses the document.
+     *
+     * @return JSON value
+     * @throws ParserStoppedException if the parser stopped at a byte it does not accept
+     */
+    Object parse() throws ParserStoppedException {
+        Object value;
+        int ch = peek();
+        if (ch == '{' || ch == '[') {
+            value = parseStructure();
+        } else if (ch == '"' || ch == '\'') {
+            value = StringUtils.fromString(readString());
+        } else if (ch < 0) {
+            throw STOPPED;
+        } else {
+            int start = index;
+            ch = scanToken();
+            if (ch >= 0 && BYTE_CLASSES[ch] != WHITESPACE) {
+                throw STOPPED;
+            }
+            value = processToken(start, index);
+        }
+        if (peek() >= 0) {
+            throw STOPPED;
+        }
+        return value;
+    }
+
+    /**
+     * Parses an object or an array, keeping the enclosing structures in a stack instead of recursing, as the
+     * {@link JsonParser} does.
+     */
+    private Object parseStructure() throws ParserStoppedException {
+        Object[] structures = new Object[16];
+        String[] fieldNames = new String[16];
+        int depth = 0;
+        Object current = newStructure(bytes[index++]);
+        boolean isMap = current instanceof MapValueImpl;
+        boolean first = true;
+        while (true) {
+            int ch = peek();
+            boolean ended;
+            if (first && ch == (isMap ? '}' : ']')) {
+                index++;
+                ended = true;
+            } else {
+                String fieldName = null;
+                if (isMap) {
+                    if (ch != '"' && ch != '\'') {
+                        throw STOPPED;
+                    }
+                    fieldName = readString();
+                    if (peek() != ':') {
+                        throw STOPPED;
+                    }
+                    index++;
+                    ch = peek();
+                }
+                if (ch == '{' || ch == '[') {
+                    if (depth == structures.length) {
+                        structures = Arrays.copyOf(structures, depth * 2);
+                        fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+                    }
+                    structures[depth] = current;
+                    fieldNames[depth++] = fieldName;
+                    current = newStructure(bytes[index++]);
+                    isMap = current instanceof MapValueImpl;
+                    first = true;
+                    continue;
+                }
+                Object value;
+                if (ch == '"' || ch == '\'') {
+                    value = StringUtils.fromString(readString());
+                    ch = peek();
+                } else {
+                    int start = index;
+                    ch = scanToken();
+                    value = processToken(start, index);
+                    if (ch >= 0 && BYTE_CLASSES[ch] == WHITESPACE) {
+                        ch = peek();
+                    }
+                }
+                addMember(current, fieldName, value);
+                ended = endMember(ch, isMap);
+            }
+
+            // Add the ended structures to the enclosing ones
+            while (ended) {
+                if (depth == 0) {
+                    return current;
+                }
+                Object structure = current;
+                current = structures[--depth];
+                structures[depth] = null;
+                addMember(current, fieldNames[depth], structure);
+                isMap = current instanceof MapValueImpl;
+                ended = endMember(peek(), isMap);
+            }
+            first = false;
+        }
+    }
+
+    private Object newStructure(byte ch) {
+        if (ch == '{') {
+            return new MapValueImpl<>(new BMapType(definedJsonType));
+        }
+        return new ArrayValueImpl(new BArrayType(definedJsonType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addMember(Object structure, String fieldName, Object value) {
+        if (fieldName != null) {
+            ((MapValueImpl<Object, Object>) structure).put(StringUtils.fromString(fieldName), value);
+        } else {
+            ((ArrayValue) structure).append(value);
+        }
+    }
+
+    /**
+     * Consumes the character after a member and returns whether the structure has ended.
+     */
+    private boolean endMember(int ch, boolean isMap) throws ParserStoppedException {
+        if (ch == ',') {
+            index++;
+            return false;
+        } else if (ch == (isMap ? '}' : ']')) {
+            index++;
+            return true;
+        }
+        throw STOPPED;
+    }
+
+    /**
+     * Skips whitespace and returns the next byte without consuming it, or -1 at the end of the document.
+     */
+    private int peek() {
+        while (index < limit) {
+            byte ch = bytes[index];
+            if (ch < 0 || BYTE_CLASSES[ch] != WHITESPACE) {
+                return ch & 0xFF;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Scans the bytes of a non-string value and returns the byte which ended it without consuming it, or -1 at the
+     * end of the document.
+     */
+    private int scanToken() throws ParserStoppedException {
+        int start = index;
+        while (index < limit) {
+            byte ch = bytes[index];
+            if (ch >= 0 && BYTE_CLASSES[ch] == TOKEN) {
+                index++;
+                continue;
+            }
+            if (index == start || ch < 0 || (BYTE_CLASSES[ch] != WHITESPACE && ch != ',' && ch != '}' && ch != ']')) {
+                throw STOPPED;
+            }
+            return ch;
+        }
+        if (index == start) {
+            throw STOPPED;
+        }
+        return -1;
+    }
+
+    /**
+     * Converts a non-string value the same way the {@link JsonParser} does.
+     */
+    private Object processToken(int start, int end) throws ParserStoppedException {
+        if (mode == JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING) {
+            Object value = processInt(start, end);
+            if (value != null) {
+                return value;
+            }
+        }
+        String str = new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        try {
+            if (str.indexOf('.') >= 0) {
+                switch (mode) {
+                    case FROM_JSON_FLOAT_STRING:
+                        return Double.parseDouble(str);
+                    case FROM_JSON_DECIMAL_STRING:
+                        return new DecimalValue(str);
+                    default:
+                        return isNegativeZero(str) ? (Object) Double.parseDouble(str) : new DecimalValue(str);
+                }
+            }
+            switch (str) {
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case NULL:
+                    return null;
+                default:
+                    switch (mode) {
+                        case FROM_JSON_FLOAT_STRING:
+                            return Double.parseDouble(str);
+                        case FROM_JSON_DECIMAL_STRING:
+                            return new DecimalValue(str);
+                        default:
+                            return isNegativeZero(str) ? (Object) Double.parseDouble(str) : Long.parseLong(str);
+                    }
+            }
+        } catch (NumberFormatException e) {
+            throw STOPPED;
+        }
+    }
+
+    /**
+     * Parses an integer of at most 18 digits without creating a string for it, or returns null if the value is not
+     * one.
+     */
+    private Object processInt(int start, int end) {
+        boolean negative = bytes[start] == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end || end - i > MAX_FAST_INT_DIGITS) {
+            return null;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+        if (negative) {
+            return value == 0 ? (Object) (-0.0) : (Object) (-value);
+        }
+        return value;
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
+    /**
+     * Reads a string quoted by the current byte, decoding UTF-8 sequences and escapes.
+     */
+    private String readString() throws ParserStoppedException {
+        byte quote = bytes[index++];
+        int start = index;
+        while (index < limit) {
+            byte ch = bytes[index];
+            if (ch == quote) {
+                return new String(bytes, start, index++ - start, StandardCharsets.ISO_8859_1);
+            } else if (ch < 0 || ch == '\\') {
+                return readDecodedString(quote, start);
+            }
+            index++;
+        }
+        throw STOPPED;
+    }
+
+    private String readDecodedString(byte quote, int start) throws ParserStoppedException {
+        int length = index - start;
+        ensureCapacity(length + 16);
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) bytes[start + i];
+        }
+        while (index < limit) {
+            int ch = bytes[index++];
+            if (ch == quote) {
+                return new String(chars, 0, length);
+            }
+            if (length + 2 > chars.length) {
+                ensureCapacity(length + 2);
+            }
+            if (ch >= 0) {
+                if (ch == '\\') {
+                    chars[length++] = readEscapedChar();
+                } else {
+                    chars[length++] = (char) ch;
+                }
+            } else {
+                int codePoint = readMultiByteChar(ch & 0xFF);
+                if (codePoint > Character.MAX_VALUE) {
+                    chars[length++] = Character.highSurrogate(codePoint);
+                    chars[length++] = Character.lowSurrogate(codePoint);
+                } else {
+                    chars[length++] = (char) codePoint;
+                }
+            }
+        }
+        throw STOPPED;
+    }
+
+    private char readEscapedChar() throws ParserStoppedException {
+        if (index == limit) {
+            throw STOPPED;
+        }
+        byte ch = bytes[index++];
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) ch;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (index + 4 > limit) {
+                    throw STOPPED;
+                }
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(bytes[index++], 16);
+                    if (digit < 0) {
+                        throw STOPPED;
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw STOPPED;
+        }
+    }
+
+    /**
+     * Decodes a well-formed UTF-8 sequence of two to four bytes.
+     */
+    private int readMultiByteChar(int lead) throws ParserStoppedException {
+        int numberOfBytes;
+        int min;
+        int max;
+        int codePoint;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            numberOfBytes = 1;
+            codePoint = lead & 0x1F;
+            min = 0x80;
+            max = 0xBF;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            numberOfBytes = 2;
+            codePoint = lead & 0x0F;
+            min = lead == 0xE0 ? 0xA0 : 0x80;
+            max = lead == 0xED ? 0x9F : 0xBF;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            numberOfBytes = 3;
+            codePoint = lead & 0x07;
+            min = lead == 0xF0 ? 0x90 : 0x80;
+            max = lead == 0xF4 ? 0x8F : 0xBF;
+        } else {
+            throw STOPPED;
+        }
+        if (index + numberOfBytes > limit) {
+            throw STOPPED;
+        }
+        // Only the second byte has a narrower range, which excludes overlong forms, surrogates and code points
+        // beyond U+10FFFF
+        for (int i = 0; i < numberOfBytes; i++) {
+            int next = bytes[index++] & 0xFF;
+            if (next < min || next > max) {
+                throw STOPPED;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+            min = 0x80;
+            max = 0xBF;
+        }
+        return codePoint;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            char[] newChars = new char[Math.max(capacity, chars.length * 2)];
+            System.arraycopy(chars, 0, newChars, 0, chars.length);
+            chars = newChars;
+        }
+    }
+
+    /**
+     * Thrown without a stack trace when the parser stops at a byte it does not accept.
+     */
+    static class ParserStoppedException extends Exception {
+
+        ParserStoppedException() {
+            super(null, null, false, false);
+        }
+    }
+}
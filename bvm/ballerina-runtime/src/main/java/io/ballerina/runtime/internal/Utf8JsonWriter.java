@@ -0,0 +1,556 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.PredefinedTypes.TYPE_JSON;
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR;
+import static io.ballerina.runtime.internal.util.exceptions.RuntimeErrors.CYCLIC_VALUE_REFERENCE;
+import static io.ballerina.runtime.internal.util.exceptions.RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION;
+
+/**
+ * <p>
+ * Serializes {@code anydata} values to UTF-8 encoded JSON, walking the maps, records, arrays, tuples and tables
+ * directly instead of converting them to {@code json} values and strings first.
+ * </p>
+ * <p>
+ * The output is the same as {@code value:toJsonString()} produces for structured values, i.e. the
+ * {@link JsonGenerator} format of the {@code json} value the given value converts to. The bytes are written to an
+ * internal buffer which grows as required, or are staged in the buffer and written to the given {@link OutputStream}
+ * or {@link ByteBuffer} when it fills up and on {@link #flush()}. A writer can be reused after {@link #reset()}.
+ * </p>
+ * <p>
+ * Values which cannot be converted to {@code json} and cyclic values result in the same errors as
+ * {@code value:toJson()}. The output written until then is undefined.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class Utf8JsonWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_DEPTH = 16;
+
+    // The longest UTF-8 sequence written for a single char, i.e. for a surrogate pair.
+    private static final int MAX_CHAR_BYTES = 4;
+    private static final int MAX_LONG_CHARS = 20;
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The escape character of the ASCII chars which are escaped. As in the {@link JsonGenerator}, '/' and '\f' are
+     * escaped only if the string contains one of the other chars which are escaped.
+     */
+    private static final byte[] ESCAPES = new byte[128];
+
+    static {
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['/'] = '/';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\t'] = 't';
+    }
+
+    private static final ThreadLocal<Utf8JsonWriter> tlWriter = ThreadLocal.withInitial(Utf8JsonWriter::new);
+
+    private final OutputStream out;
+    private final ByteBuffer target;
+    private byte[] buffer;
+    private int count;
+
+    // The maps, arrays and tables being written, to detect cycles.
+    private Object[] ancestors = new Object[DEFAULT_DEPTH];
+    private int depth;
+
+    /**
+     * Creates a writer which writes to an internal buffer, which grows as required.
+     */
+    public Utf8JsonWriter() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a writer which writes to the given {@link OutputStream}.
+     *
+     * @param out the output stream
+     */
+    public Utf8JsonWriter(OutputStream out) {
+        this(out, null);
+    }
+
+    /**
+     * Creates a writer which writes to the given {@link ByteBuffer}, starting at its position. A
+     * {@link java.nio.BufferOverflowException} is thrown if the remaining space in the buffer is not sufficient.
+     *
+     * @param target the byte buffer
+     */
+    public Utf8JsonWriter(ByteBuffer target) {
+        this(null, target);
+    }
+
+    private Utf8JsonWriter(OutputStream out, ByteBuffer target) {
+        this.out = out;
+        this.target = target;
+        this.buffer = new byte[DEFAULT_BUFFER_SIZE];
+    }
+
+    /**
+     * Returns the JSON string of the given structured value, i.e. a map, record, array, tuple or table.
+     *
+     * @param value the value
+     * @return the JSON string
+     * @throws BError if the value cannot be converted to {@code json}
+     */
+    public static String toJsonString(Object value) {
+        Utf8JsonWriter writer = tlWriter.get();
+        if (writer.count != 0 || writer.depth != 0) {
+            // The writer of this thread is already serializing a value.
+            writer = new Utf8JsonWriter();
+            tlWriter.set(writer);
+        }
+        try {
+            writer.serialize(value);
+            return writer.toString();
+        } catch (IOException e) {
+            throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
+        } finally {
+            writer.reset();
+            if (writer.buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                writer.buffer = new byte[DEFAULT_BUFFER_SIZE];
+            }
+        }
+    }
+
+    /**
+     * Writes the JSON representation of the given value.
+     *
+     * @param value the value
+     * @throws IOException if writing to the output stream fails
+     * @throws BError      if the value cannot be converted to {@code json}
+     */
+    public void serialize(Object value) throws IOException {
+        writeValue(value);
+    }
+
+    /**
+     * Writes the buffered bytes to the output stream or byte buffer, and flushes the output stream.
+     *
+     * @throws IOException if writing to the output stream fails
+     */
+    public void flush() throws IOException {
+        if (out == null && target == null) {
+            return;
+        }
+        drain();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Discards the buffered bytes, so that the writer can be used to serialize another value.
+     */
+    public void reset() {
+        count = 0;
+        Arrays.fill(ancestors, 0, depth, null);
+        depth = 0;
+    }
+
+    /**
+     * Returns the number of bytes in the internal buffer.
+     *
+     * @return the number of bytes
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns a copy of the bytes in the internal buffer.
+     *
+     * @return the bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Returns the bytes in the internal buffer decoded as a string.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+        } else if (value instanceof BString) {
+            writeString(((BString) value).getValue());
+        } else if (value instanceof Long) {
+            writeLong((Long) value);
+        } else if (value instanceof Double) {
+            writeAscii(Double.toString((Double) value));
+        } else if (value instanceof Boolean) {
+            writeBytes((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            writeLong((Integer) value);
+        } else if (value instanceof DecimalValue) {
+            writeAscii(((DecimalValue) value).value().toString());
+        } else {
+            writeRefValue(value);
+        }
+    }
+
+    private void writeRefValue(Object value) throws IOException {
+        Type type = TypeChecker.getType(value);
+        switch (type.getTag()) {
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                writeString(StringUtils.getStringValue(value, null));
+                break;
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.ARRAY_TAG:
+                enter(value);
+                writeArray((BArray) value);
+                exit();
+                break;
+            case TypeTags.TABLE_TAG:
+                enter(value);
+                writeTable((BTable<?, ?>) value);
+                exit();
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+                enter(value);
+                writeMap((BMap<?, ?>) value);
+                exit();
+                break;
+            default:
+                throw createConversionError(value);
+        }
+    }
+
+    private void writeMap(BMap<?, ?> map) throws IOException {
+        writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (first) {
+                first = false;
+            } else {
+                writeSeparator();
+            }
+            writeString(entry.getKey().toString());
+            writeByte(':');
+            writeValue(entry.getValue());
+        }
+        writeByte('}');
+    }
+
+    private void writeArray(BArray array) throws IOException {
+        int size = array.size();
+        writeByte('[');
+        if (!(array instanceof ArrayValueImpl)) {
+            // Tuples
+            for (int i = 0; i < size; i++) {
+                writeSeparator(i);
+                writeValue(array.get(i));
+            }
+            writeByte(']');
+            return;
+        }
+
+        switch (array.getElementType().getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                for (int i = 0; i < size; i++) {
+                    writeSeparator(i);
+                    writeLong(array.getInt(i));
+                }
+                break;
+            case TypeTags.BYTE_TAG:
+                for (int i = 0; i < size; i++) {
+                    writeSeparator(i);
+                    writeLong(Byte.toUnsignedInt(array.getByte(i)));
+                }
+                break;
+            case TypeTags.FLOAT_TAG:
+                for (int i = 0; i < size; i++) {
+                    writeSeparator(i);
+                    writeAscii(Double.toString(array.getFloat(i)));
+                }
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                for (int i = 0; i < size; i++) {
+                    writeSeparator(i);
+                    writeBytes(array.getBoolean(i) ? TRUE : FALSE);
+                }
+                break;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                for (int i = 0; i < size; i++) {
+                    writeSeparator(i);
+                    writeString(array.getBString(i).getValue());
+                }
+                break;
+            default:
+                for (int i = 0; i < size; i++) {
+                    writeSeparator(i);
+                    writeValue(array.get(i));
+                }
+                break;
+        }
+        writeByte(']');
+    }
+
+    private void writeTable(BTable<?, ?> table) throws IOException {
+        Type constrainedType = ((TableType) table.getType()).getConstrainedType();
+        if (constrainedType.getTag() != TypeTags.MAP_TAG) {
+            Object json;
+            try {
+                json = JsonUtils.toJSON(table);
+            } catch (Exception e) {
+                throw createConversionError(table, e.getMessage());
+            }
+            writeValue(json);
+            return;
+        }
+
+        writeByte('[');
+        BIterator<?> itr = table.getIterator();
+        for (int i = 0; itr.hasNext(); i++) {
+            writeSeparator(i);
+            BArray tupleValue = (BArray) itr.next();
+            writeMap((BMap<?, ?>) tupleValue.get(0));
+        }
+        writeByte(']');
+    }
+
+    private void enter(Object value) {
+        for (int i = 0; i < depth; i++) {
+            if (ancestors[i] == value) {
+                throw ErrorCreator.createError(VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR,
+                        BLangExceptionHelper.getErrorMessage(CYCLIC_VALUE_REFERENCE, ((BRefValue) value).getType()));
+            }
+        }
+        if (depth == ancestors.length) {
+            ancestors = Arrays.copyOf(ancestors, depth * 2);
+        }
+        ancestors[depth++] = value;
+    }
+
+    private void exit() {
+        ancestors[--depth] = null;
+    }
+
+    private void writeString(String value) throws IOException {
+        int length = value.length();
+        boolean ascii = true;
+        boolean escaped = false;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch >= 128) {
+                ascii = false;
+            } else if (ESCAPES[ch] != 0 && ch != '/' && ch != '\f') {
+                escaped = true;
+                break;
+            }
+        }
+
+        if (ascii && !escaped && (length + 2 <= buffer.length - count || isGrowable())) {
+            ensureCapacity(length + 2);
+            byte[] buf = buffer;
+            int pos = count;
+            buf[pos++] = '"';
+            for (int i = 0; i < length; i++) {
+                buf[pos++] = (byte) value.charAt(i);
+            }
+            buf[pos++] = '"';
+            count = pos;
+            return;
+        }
+
+        writeByte('"');
+        for (int i = 0; i < length; i++) {
+            ensureCapacity(MAX_CHAR_BYTES);
+            char ch = value.charAt(i);
+            if (ch < 128) {
+                if (escaped && ESCAPES[ch] != 0) {
+                    buffer[count++] = '\\';
+                    buffer[count++] = ESCAPES[ch];
+                } else {
+                    buffer[count++] = (byte) ch;
+                }
+            } else if (ch < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (ch >> 6));
+                buffer[count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                buffer[count++] = (byte) (0xE0 | (ch >> 12));
+                buffer[count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(ch, value.charAt(++i));
+                buffer[count++] = (byte) (0xF0 | (cp >> 18));
+                buffer[count++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                // Unpaired surrogates are replaced as the UTF-8 charset encoder does.
+                buffer[count++] = '?';
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(LONG_MIN_VALUE);
+            return;
+        }
+        ensureCapacity(MAX_LONG_CHARS);
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int pos = count + digits;
+        count = pos;
+        do {
+            buffer[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeSeparator(int index) throws IOException {
+        if (index != 0) {
+            writeSeparator();
+        }
+    }
+
+    private void writeSeparator() throws IOException {
+        ensureCapacity(2);
+        buffer[count++] = ',';
+        buffer[count++] = ' ';
+    }
+
+    private void writeByte(char ch) throws IOException {
+        ensureCapacity(1);
+        buffer[count++] = (byte) ch;
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private boolean isGrowable() {
+        return out == null && target == null;
+    }
+
+    /**
+     * Makes room for the given number of bytes, which is at most the size of the buffer when writing to an output
+     * stream or a byte buffer.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.length - count >= length) {
+            return;
+        }
+        if (isGrowable()) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+        } else {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        if (out != null) {
+            out.write(buffer, 0, count);
+        } else {
+            target.put(buffer, 0, count);
+        }
+        count = 0;
+    }
+
+    private static BError createConversionError(Object value) {
+        return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR, BLangExceptionHelper.getErrorMessage(
+                INCOMPATIBLE_CONVERT_OPERATION, TypeChecker.getType(value), TYPE_JSON));
+    }
+
+    private static BError createConversionError(Object value, String detailMessage) {
+        return ErrorCreator.createError(VALUE_LANG_LIB_CONVERSION_ERROR, BLangExceptionHelper.getErrorMessage(
+                INCOMPATIBLE_CONVERT_OPERATION, TypeChecker.getType(value), TYPE_JSON)
+                .concat(StringUtils.fromString(": ".concat(detailMessage))));
+    }
+}
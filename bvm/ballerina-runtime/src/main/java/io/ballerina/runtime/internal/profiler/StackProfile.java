@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import io.ballerina.runtime.api.utils.IdentifierUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BLANG_SRC_FILE_SUFFIX;
+
+/**
+ * Aggregates a measurement (i.e CPU time, allocated bytes) per Ballerina call stack and writes it in the collapsed
+ * stack format, where each line holds the frames of a stack from the root, separated by ';', followed by the value.
+ *
+ * @since 2.0.0
+ */
+public class StackProfile {
+
+    private static final char FRAME_SEPARATOR = ';';
+    private static final String FRAME_CLASS_SUFFIX = "Frame";
+    private static final String JAVA_FRAME_PREFIX = "[java] ";
+
+    private final Map<String, LongAdder> values = new ConcurrentHashMap<>();
+
+    public void add(String stack, long value) {
+        if (value > 0) {
+            values.computeIfAbsent(stack, k -> new LongAdder()).add(value);
+        }
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Writes the profile in the collapsed stack format, ordered by the stacks.
+     *
+     * @param writer writer the profile is written to.
+     * @throws IOException if the profile could not be written.
+     */
+    public void write(Writer writer) throws IOException {
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(values).entrySet()) {
+            writer.write(entry.getKey());
+            writer.write(' ');
+            writer.write(Long.toString(entry.getValue().sum()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Collapses a Java stack trace into the Ballerina frames it contains. If the innermost frame is not a Ballerina
+     * frame (i.e the strand is in the runtime or a Java interop function), it is kept as the leaf of the stack.
+     *
+     * @param root       name of the root frame or null.
+     * @param stackTrace stack trace, innermost frame first.
+     * @return the collapsed stack.
+     */
+    public static String collapse(String root, StackTraceElement[] stackTrace) {
+        StringBuilder stack = new StringBuilder();
+        if (root != null) {
+            stack.append(root);
+        }
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+            StackTraceElement frame = stackTrace[i];
+            String fileName = frame.getFileName();
+            if (fileName == null || !fileName.endsWith(BLANG_SRC_FILE_SUFFIX) || frame.getLineNumber() < 0) {
+                continue;
+            }
+            appendSeparator(stack);
+            appendFunctionName(stack, frame.getClassName(), frame.getMethodName());
+            stack.append(" (").append(fileName).append(':').append(frame.getLineNumber()).append(')');
+        }
+        if (stackTrace.length > 0) {
+            StackTraceElement leaf = stackTrace[0];
+            if (leaf.getFileName() == null || !leaf.getFileName().endsWith(BLANG_SRC_FILE_SUFFIX)) {
+                appendSeparator(stack);
+                stack.append(JAVA_FRAME_PREFIX).append(leaf.getClassName()).append('.').append(leaf.getMethodName());
+            }
+        }
+        return stack.toString();
+    }
+
+    /**
+     * Collapses the frames a yielded strand has saved, into the Ballerina functions they belong to.
+     *
+     * @param root           name of the root frame or null.
+     * @param frames         saved frames, innermost frame first.
+     * @param numberOfFrames number of saved frames.
+     * @return the collapsed stack.
+     */
+    public static String collapse(String root, Object[] frames, int numberOfFrames) {
+        StringBuilder stack = new StringBuilder();
+        if (root != null) {
+            stack.append(root);
+        }
+        for (int i = numberOfFrames - 1; i >= 0; i--) {
+            Object frame = frames[i];
+            if (frame == null) {
+                continue;
+            }
+            String className = frame.getClass().getName();
+            int nameIndex = className.lastIndexOf('.');
+            String functionName = className.substring(nameIndex + 1);
+            if (functionName.endsWith(FRAME_CLASS_SUFFIX)) {
+                functionName = functionName.substring(0, functionName.length() - FRAME_CLASS_SUFFIX.length());
+            }
+            appendSeparator(stack);
+            appendFunctionName(stack, className, functionName);
+        }
+        return stack.toString();
+    }
+
+    private static void appendSeparator(StringBuilder stack) {
+        if (stack.length() > 0) {
+            stack.append(FRAME_SEPARATOR);
+        }
+    }
+
+    private static void appendFunctionName(StringBuilder stack, String className, String functionName) {
+        int moduleIndex = className.lastIndexOf('.');
+        if (moduleIndex > 0) {
+            stack.append(IdentifierUtils.decodeIdentifier(className.substring(0, moduleIndex))).append(':');
+        }
+        stack.append(IdentifierUtils.decodeIdentifier(functionName));
+    }
+}
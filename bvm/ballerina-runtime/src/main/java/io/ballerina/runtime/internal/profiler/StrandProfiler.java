@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_PROFILER_INTERVAL_ENV_VAR;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_PROFILER_OUTPUT_ENV_VAR;
+
+/**
+ * <p>
+ * Samples the strands which are running on the scheduler threads and attributes the CPU time and the bytes allocated
+ * by the threads, to the Ballerina functions and source lines of the sampled strands. The wall time strands spend
+ * blocked (i.e parked in BLOCK_AND_YIELD state) is attributed to the Ballerina functions the strand is blocked in.
+ * </p>
+ * <p>
+ * The profiler is enabled by setting the BALLERINA_PROFILER_OUTPUT system variable to the path prefix of the
+ * profiles, which are written in the collapsed stack format when the program exits, to
+ * &lt;prefix&gt;-cpu.folded (microseconds), &lt;prefix&gt;-alloc.folded (bytes) and &lt;prefix&gt;-blocked.folded
+ * (microseconds). The sampling interval in milliseconds could be changed by setting the BALLERINA_PROFILER_INTERVAL
+ * system variable.
+ * </p>
+ * <p>
+ * The JVM does not measure the CPU time or the allocations of virtual threads. The strands which run on virtual
+ * threads are sampled through the stack of the thread instead, and each sample which finds the thread runnable is
+ * attributed one sampling interval of CPU time. Their allocations are not profiled.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class StrandProfiler {
+
+    private static final long DEFAULT_INTERVAL_MILLIS = 10;
+    private static final String CPU_PROFILE_SUFFIX = "-cpu.folded";
+    private static final String ALLOCATION_PROFILE_SUFFIX = "-alloc.folded";
+    private static final String BLOCKED_PROFILE_SUFFIX = "-blocked.folded";
+    private static final String STRAND_FRAME_PREFIX = "strand ";
+    /**
+     * Maximum number of frames read from the stack of a sampled thread. Frames beyond it, which are the outermost
+     * frames of the stack, are not attributed.
+     */
+    static final int MAX_STACK_DEPTH = 128;
+
+    private static final PrintStream err = System.err;
+
+    private static final StrandProfiler INSTANCE = create();
+
+    private final Path outputPrefix;
+    private final long intervalMillis;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final com.sun.management.ThreadMXBean allocationMXBean;
+    private final Map<Long, Worker> workers = new ConcurrentHashMap<>();
+    private final Map<Strand, Long> parkedStrands = new ConcurrentHashMap<>();
+    private final StackProfile cpuProfile = new StackProfile();
+    private final StackProfile allocationProfile = new StackProfile();
+    private final StackProfile blockedProfile = new StackProfile();
+    private final AtomicLong numberOfSamples = new AtomicLong();
+
+    StrandProfiler(Path outputPrefix, long intervalMillis) {
+        this.outputPrefix = outputPrefix;
+        this.intervalMillis = intervalMillis;
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean &&
+                ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            this.allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            this.allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.allocationMXBean = null;
+        }
+        if (threadMXBean.isThreadCpuTimeSupported()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    /**
+     * Returns the profiler if profiling is enabled.
+     *
+     * @return the profiler or null if profiling is not enabled.
+     */
+    public static StrandProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    private static StrandProfiler create() {
+        String output = System.getenv(BALLERINA_PROFILER_OUTPUT_ENV_VAR);
+        if (output == null || output.isEmpty()) {
+            return null;
+        }
+        long intervalMillis = DEFAULT_INTERVAL_MILLIS;
+        String intervalConf = System.getenv(BALLERINA_PROFILER_INTERVAL_ENV_VAR);
+        try {
+            if (intervalConf != null) {
+                intervalMillis = Math.max(1, Long.parseLong(intervalConf));
+            }
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in profiler while reading system variable:" +
+                                BALLERINA_PROFILER_INTERVAL_ENV_VAR + ", " + e.getMessage());
+        }
+        StrandProfiler profiler = new StrandProfiler(Paths.get(output), intervalMillis);
+        Thread sampler = new Thread(profiler::sampleSafely, "jbal-strand-profiler");
+        sampler.setDaemon(true);
+        sampler.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(profiler::writeProfiles, "jbal-strand-profiler-writer"));
+        return profiler;
+    }
+
+    /**
+     * Registers a scheduler thread, the strands of which should be sampled. Only the CPU time and the bytes
+     * allocated by the thread after it is registered are attributed to its strands.
+     *
+     * @param thread        scheduler thread.
+     * @param currentStrand supplies the strand the thread is running, or null if the thread is idle.
+     * @param virtual       whether the thread is a virtual thread.
+     */
+    public void registerWorker(Thread thread, Supplier<Strand> currentStrand, boolean virtual) {
+        Worker worker = new Worker(thread, currentStrand, virtual);
+        if (!virtual) {
+            worker.cpuTime = getCpuTime(thread.getId());
+            worker.allocatedBytes = getAllocatedBytes(thread.getId());
+        }
+        workers.put(thread.getId(), worker);
+    }
+
+    /**
+     * Stops sampling a scheduler thread, which should be called before the thread exits.
+     *
+     * @param thread scheduler thread.
+     */
+    public void unregisterWorker(Thread thread) {
+        workers.remove(thread.getId());
+    }
+
+    public void strandParked(Strand strand) {
+        parkedStrands.put(strand, System.nanoTime());
+    }
+
+    public void strandUnparked(Strand strand) {
+        Long parkedTime = parkedStrands.remove(strand);
+        if (parkedTime == null || strand.frames == null) {
+            return;
+        }
+        long blockedMicros = (System.nanoTime() - parkedTime) / 1000;
+        blockedProfile.add(StackProfile.collapse(getRootFrame(strand), strand.frames, strand.resumeIndex),
+                           blockedMicros);
+    }
+
+    private void sampleSafely() {
+        try {
+            while (true) {
+                Thread.sleep(intervalMillis);
+                sample();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            err.println("ballerina: profiler stopped due to an error: " + t.getMessage());
+        }
+    }
+
+    /**
+     * Attributes the CPU time and the bytes allocated by each scheduler thread since the previous sample, to the stack
+     * of the strand the thread is running.
+     */
+    void sample() {
+        int numberOfWorkers = workers.size();
+        long[] threadIds = new long[numberOfWorkers];
+        Strand[] strands = new Strand[numberOfWorkers];
+        long[] cpuTimes = new long[numberOfWorkers];
+        long[] allocatedBytes = new long[numberOfWorkers];
+        int numberOfActiveWorkers = 0;
+        for (Worker worker : workers.values()) {
+            if (worker.virtual) {
+                sampleVirtualThread(worker);
+                continue;
+            }
+            Strand strand = worker.currentStrand.get();
+            long cpuTime = getCpuTime(worker.thread.getId());
+            long allocated = getAllocatedBytes(worker.thread.getId());
+            long cpuTimeDelta = cpuTime - worker.cpuTime;
+            long allocatedDelta = allocated - worker.allocatedBytes;
+            worker.cpuTime = cpuTime;
+            worker.allocatedBytes = allocated;
+            if (strand == null || numberOfActiveWorkers == numberOfWorkers) {
+                continue;
+            }
+            threadIds[numberOfActiveWorkers] = worker.thread.getId();
+            strands[numberOfActiveWorkers] = strand;
+            cpuTimes[numberOfActiveWorkers] = cpuTimeDelta;
+            allocatedBytes[numberOfActiveWorkers] = allocatedDelta;
+            numberOfActiveWorkers++;
+        }
+        numberOfSamples.incrementAndGet();
+        if (numberOfActiveWorkers == 0) {
+            return;
+        }
+        long[] activeThreadIds = new long[numberOfActiveWorkers];
+        System.arraycopy(threadIds, 0, activeThreadIds, 0, numberOfActiveWorkers);
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(activeThreadIds, MAX_STACK_DEPTH);
+        for (int i = 0; i < numberOfActiveWorkers; i++) {
+            if (threadInfos[i] == null) {
+                continue;
+            }
+            String stack = StackProfile.collapse(getRootFrame(strands[i]), threadInfos[i].getStackTrace());
+            cpuProfile.add(stack, cpuTimes[i] / 1000);
+            allocationProfile.add(stack, allocatedBytes[i]);
+        }
+    }
+
+    /**
+     * Attributes one sampling interval of CPU time to the stack of the strand a virtual thread is running, if the
+     * thread is runnable.
+     */
+    private void sampleVirtualThread(Worker worker) {
+        Strand strand = worker.currentStrand.get();
+        if (strand == null || worker.thread.getState() != Thread.State.RUNNABLE) {
+            return;
+        }
+        StackTraceElement[] stackTrace = worker.thread.getStackTrace();
+        if (stackTrace.length > MAX_STACK_DEPTH) {
+            stackTrace = Arrays.copyOf(stackTrace, MAX_STACK_DEPTH);
+        }
+        cpuProfile.add(StackProfile.collapse(getRootFrame(strand), stackTrace), intervalMillis * 1000);
+    }
+
+    private long getCpuTime(long threadId) {
+        return Math.max(0, threadMXBean.getThreadCpuTime(threadId));
+    }
+
+    private long getAllocatedBytes(long threadId) {
+        return allocationMXBean == null ? 0 : Math.max(0, allocationMXBean.getThreadAllocatedBytes(threadId));
+    }
+
+    long getNumberOfSamples() {
+        return numberOfSamples.get();
+    }
+
+    StackProfile getCpuProfile() {
+        return cpuProfile;
+    }
+
+    private static String getRootFrame(Strand strand) {
+        Optional<String> name = strand.getName();
+        if (name.isPresent()) {
+            return STRAND_FRAME_PREFIX + name.get();
+        }
+        StrandMetadata metadata = strand.getMetadata();
+        if (metadata == null || metadata.getParentFunctionName() == null) {
+            return null;
+        }
+        String typeName = metadata.getTypeName() == null ? "" : metadata.getTypeName() + ".";
+        return STRAND_FRAME_PREFIX + metadata.getModuleName() + ":" + typeName + metadata.getParentFunctionName();
+    }
+
+    private void writeProfiles() {
+        try {
+            writeProfile(cpuProfile, CPU_PROFILE_SUFFIX);
+            writeProfile(allocationProfile, ALLOCATION_PROFILE_SUFFIX);
+            writeProfile(blockedProfile, BLOCKED_PROFILE_SUFFIX);
+            err.println("ballerina: " + numberOfSamples.get() + " profiler samples written to " + outputPrefix + "-*");
+        } catch (IOException e) {
+            err.println("ballerina: error occurred while writing profiles to " + outputPrefix + ", " +
+                                e.getMessage());
+        }
+    }
+
+    private void writeProfile(StackProfile profile, String suffix) throws IOException {
+        Path path = Paths.get(outputPrefix.toString() + suffix);
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            profile.write(writer);
+        }
+    }
+
+    /**
+     * Scheduler thread registered with the profiler.
+     */
+    private static class Worker {
+
+        private final Thread thread;
+        private final Supplier<Strand> currentStrand;
+        private final boolean virtual;
+        private long cpuTime;
+        private long allocatedBytes;
+
+        private Worker(Thread thread, Supplier<Strand> currentStrand, boolean virtual) {
+            this.thread = thread;
+            this.currentStrand = currentStrand;
+            this.virtual = virtual;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the strand groups that are ready to be executed by the worker threads of a {@link Scheduler}.
+ *
+ * @since 2.0.0
+ */
+interface RunnableQueue {
+
+    /**
+     * Makes the given group available to a worker thread.
+     *
+     * @param group group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed by the calling worker thread, waiting if none is available.
+     *
+     * @return group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    boolean isEmpty();
+}
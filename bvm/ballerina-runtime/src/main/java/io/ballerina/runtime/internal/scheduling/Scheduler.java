@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.profiler.StrandProfiler;
 import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.values.ChannelDetails;
@@ -34,12 +35,10 @@ import java.io.PrintStream;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -52,7 +51,7 @@ import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
  */
 public class Scheduler {
 
-    private PrintStream err = System.err;
+    private static final PrintStream err = System.err;
     /**
      * Scheduler does not get killed if the immortal value is true. Specific to services.
      */
@@ -61,20 +60,29 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
+    /**
+     * Profiler of the strands, which is null unless the BALLERINA_PROFILER_OUTPUT system variable is set.
+     */
+    private static final StrandProfiler profiler = StrandProfiler.getInstance();
+
     private AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
      */
     private final int numThreads;
 
+    private final SchedulerMode mode;
+
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
     private Semaphore mainBlockSem;
@@ -92,15 +100,68 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.mode = resolveMode(getConfiguredMode());
+        this.runnableList = createRunnableQueue();
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, getConfiguredMode());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, SchedulerMode mode) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.mode = resolveMode(mode);
+        this.runnableList = createRunnableQueue();
         listenerRegistry = new ListenerRegistry();
     }
 
+    /**
+     * Reads the scheduler mode, which can be changed by setting the BALLERINA_SCHEDULER_MODE system variable.
+     * Default is {@link SchedulerMode#SHARED}.
+     */
+    private static SchedulerMode getConfiguredMode() {
+        try {
+            return SchedulerMode.fromValue(schedulerModeConf);
+        } catch (IllegalArgumentException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                                RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", " + e.getMessage());
+            return SchedulerMode.SHARED;
+        }
+    }
+
+    private SchedulerMode resolveMode(SchedulerMode mode) {
+        if (mode == SchedulerMode.VIRTUAL_THREAD && !VirtualThreads.isSupported()) {
+            // Log and continue with default
+            err.println("ballerina: scheduler mode '" + mode.getValue() + "' requires Java 21 or later, " +
+                                "falling back to '" + SchedulerMode.SHARED.getValue() + "'");
+            return SchedulerMode.SHARED;
+        }
+        return mode;
+    }
+
+    private RunnableQueue createRunnableQueue() {
+        switch (mode) {
+            case WORK_STEALING:
+                return new WorkStealingRunnableQueue(numThreads);
+            case VIRTUAL_THREAD:
+                return new VirtualThreadRunnableQueue(VirtualThreads.newThreadFactory("jbal-strand-vt-"),
+                                                      this::runGroupSafely);
+            default:
+                return new SharedRunnableQueue();
+        }
+    }
+
+    /**
+     * Number of threads taking groups from the runnable list. When strands run on virtual threads, only the thread
+     * that started the scheduler waits on it, for the poison pill.
+     */
+    private int getWorkerCount() {
+        return mode == SchedulerMode.VIRTUAL_THREAD ? 1 : numThreads;
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -249,8 +310,9 @@ public class Scheduler {
     }
 
     public void start() {
-        this.mainBlockSem = new Semaphore(-(numThreads - 1));
-        for (int i = 0; i < numThreads - 1; i++) {
+        int workerCount = getWorkerCount();
+        this.mainBlockSem = new Semaphore(-(workerCount - 1));
+        for (int i = 0; i < workerCount - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
         }
         this.runSafely();
@@ -276,49 +338,91 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
-        while (true) {
-            SchedulerItem item;
-            ItemGroup group;
-            try {
-                group = runnableList.take();
-            } catch (InterruptedException ignored) {
-                continue;
-            }
+        // when strands run on virtual threads, this thread only waits for the poison pill
+        boolean profiled = profiler != null && mode != SchedulerMode.VIRTUAL_THREAD;
+        if (profiled) {
+            StrandHolder holder = strandHolder.get();
+            profiler.registerWorker(Thread.currentThread(), () -> holder.strand, false);
+        }
+        try {
+            while (true) {
+                ItemGroup group;
+                try {
+                    group = runnableList.take();
+                } catch (InterruptedException ignored) {
+                    continue;
+                }
 
-            if (group == POISON_PILL) {
-                this.mainBlockSem.release();
-                break;
+                if (group == POISON_PILL) {
+                    this.mainBlockSem.release();
+                    break;
+                }
+
+                runGroup(group);
+            }
+        } finally {
+            if (profiled) {
+                profiler.unregisterWorker(Thread.currentThread());
             }
+        }
+    }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+    private void runGroupSafely(ItemGroup group) {
+        if (profiler != null) {
+            StrandHolder holder = strandHolder.get();
+            profiler.registerWorker(Thread.currentThread(), () -> holder.strand, true);
+        }
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            if (profiler != null) {
+                profiler.unregisterWorker(Thread.currentThread());
+            }
+        }
+    }
 
-                item = group.get();
+    /**
+     * Executes the items of a group until it runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        while (true) {
+            Object result = null;
+            Throwable panic = null;
+
+            item = group.get();
+            if (item == null) {
+                // Release the group. A producer that added an item after the above get() but before the flag
+                // was cleared would have failed to schedule the group, so check again and take the group back
+                // unless some other producer has already put it in the runnable list.
+                group.scheduled.set(false);
+                if (group.isEmpty() || !group.scheduled.compareAndSet(false, true)) {
+                    break;
+                }
+                continue;
+            }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
-
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
+            } finally {
+                strandHolder.get().strand = null;
             }
+            postProcess(item, result, panic);
         }
     }
 
@@ -336,6 +440,9 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                if (profiler != null) {
+                    profiler.strandParked(item.future.strand);
+                }
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
@@ -393,7 +500,7 @@ public class Scheduler {
                 int strandsLeft = totalStrands.decrementAndGet();
                 if (strandsLeft == 0) {
                     // (number of started stands - finished stands) = 0, all the work is done
-                    assert runnableList.size() == 0;
+                    assert runnableList.isEmpty();
 
                     if (!immortal) {
                         poison();
@@ -422,6 +529,9 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            if (profiler != null) {
+                profiler.strandUnparked(strand);
+            }
             reschedule(strand.schedulerItem);
         } else {
             // item not returned to scheduler, yet.
@@ -494,7 +604,7 @@ public class Scheduler {
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
+        for (int i = 0; i < getWorkerCount(); i++) {
             runnableList.add(POISON_PILL);
         }
     }
@@ -595,10 +705,11 @@ class SchedulerItem {
 class ItemGroup {
 
     /**
-     * Keep the list of items that should run on same thread.
-     * Using a stack to get advantage of the locality.
+     * Top of the lock-free stack of items that should run on same thread.
+     * Using a stack to get advantage of the locality. Items can be added from any thread, but are only taken by the
+     * thread that currently owns the group, i.e. the one that set {@link #scheduled}.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private final AtomicReference<ItemNode> top = new AtomicReference<>();
 
     /**
      * Indicates this item is already in runnable list/executing or not.
@@ -608,18 +719,49 @@ class ItemGroup {
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
     public ItemGroup(SchedulerItem item) {
-        items.push(item);
+        top.set(new ItemNode(item, null));
     }
 
     private ItemGroup() {
-        items = null;
     }
 
     public void add(SchedulerItem item) {
-        items.push(item);
+        ItemNode node = new ItemNode(item, top.get());
+        while (!top.compareAndSet(node.next, node)) {
+            node.next = top.get();
+        }
     }
 
+    /**
+     * Removes the most recently added item.
+     *
+     * @return the item, or null if the group is empty
+     */
     public SchedulerItem get() {
-        return items.pop();
+        ItemNode node;
+        do {
+            node = top.get();
+            if (node == null) {
+                return null;
+            }
+        } while (!top.compareAndSet(node, node.next));
+        return node.item;
+    }
+
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Node of the item stack.
+     */
+    private static class ItemNode {
+        final SchedulerItem item;
+        ItemNode next;
+
+        ItemNode(SchedulerItem item, ItemNode next) {
+            this.item = item;
+            this.next = next;
+        }
     }
 }
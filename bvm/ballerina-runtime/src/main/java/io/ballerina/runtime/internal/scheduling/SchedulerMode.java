@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Locale;
+
+/**
+ * Strategies the {@link Scheduler} can use to hand runnable strand groups to its worker threads.
+ *
+ * @since 2.0.0
+ */
+public enum SchedulerMode {
+
+    /**
+     * All workers take strand groups from a single shared blocking queue.
+     */
+    SHARED("shared"),
+
+    /**
+     * Each worker owns a deque. Groups scheduled from a worker are pushed to and popped from the head of its own
+     * deque, and idle workers steal from the tail of the other deques.
+     */
+    WORK_STEALING("work-stealing"),
+
+    /**
+     * Each strand group runs on its own virtual thread, so that strands blocking the Java thread, e.g. in blocking
+     * interop calls, do not occupy a worker. Requires Java 21 or later.
+     */
+    VIRTUAL_THREAD("virtual-thread");
+
+    private final String value;
+
+    SchedulerMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Resolves the scheduler mode for the given configuration value.
+     *
+     * @param value configured mode, may be null
+     * @return matching mode, or {@link #SHARED} if the value is null
+     * @throws IllegalArgumentException if the value does not match any mode
+     */
+    public static SchedulerMode fromValue(String value) {
+        if (value == null) {
+            return SHARED;
+        }
+        String mode = value.trim().toLowerCase(Locale.ENGLISH);
+        for (SchedulerMode schedulerMode : values()) {
+            if (schedulerMode.value.equals(mode)) {
+                return schedulerMode;
+            }
+        }
+        throw new IllegalArgumentException("unsupported scheduler mode '" + value + "'");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} that runs each strand group on a new virtual thread instead of handing it to a worker.
+ * <p>
+ * A strand that blocks the Java thread, e.g. in a blocking interop call, only blocks its own virtual thread and does
+ * not hold one of a fixed number of platform threads. Groups added before the scheduler starts are held back until
+ * the first {@link #take()}, which then waits for the poison pill.
+ *
+ * @since 2.0.0
+ */
+class VirtualThreadRunnableQueue implements RunnableQueue {
+
+    private final ThreadFactory threadFactory;
+    private final Consumer<ItemGroup> groupRunner;
+    private final Queue<ItemGroup> pending = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<ItemGroup> poisonPills = new LinkedBlockingQueue<>();
+    private volatile boolean started;
+
+    VirtualThreadRunnableQueue(ThreadFactory threadFactory, Consumer<ItemGroup> groupRunner) {
+        this.threadFactory = threadFactory;
+        this.groupRunner = groupRunner;
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        if (group == POISON_PILL) {
+            poisonPills.add(group);
+            return;
+        }
+        if (!started) {
+            pending.add(group);
+            // need to recheck since the scheduler may have started after the above check
+            if (started) {
+                runPending();
+            }
+            return;
+        }
+        run(group);
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        if (!started) {
+            started = true;
+            runPending();
+        }
+        return poisonPills.take();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    private void runPending() {
+        ItemGroup group;
+        while ((group = pending.poll()) != null) {
+            run(group);
+        }
+    }
+
+    private void run(ItemGroup group) {
+        threadFactory.newThread(() -> groupRunner.accept(group)).start();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads when the runtime is running on a JDK that supports them (JDK 21+).
+ * <p>
+ * The runtime is compiled against an older JDK, hence the virtual thread builder is looked up reflectively.
+ *
+ * @since 2.0.0
+ */
+final class VirtualThreads {
+
+    private static final boolean SUPPORTED = newThreadFactory("jbal-strand-vt-probe-") != null;
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Creates a factory for virtual threads named with the given prefix followed by a counter.
+     *
+     * @param namePrefix prefix of the thread names
+     * @return thread factory, or null if virtual threads are not supported by the current JDK
+     */
+    static ThreadFactory newThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
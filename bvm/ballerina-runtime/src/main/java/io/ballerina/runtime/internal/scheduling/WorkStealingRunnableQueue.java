@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunnableQueue} where each worker thread owns a deque.
+ * <p>
+ * Groups scheduled from a worker thread are pushed to the head of that worker's deque and are popped from the head
+ * by the same worker, so a newly spawned strand is likely to run on the thread and caches of its parent. A worker
+ * without local work first checks the shared queue, which receives groups scheduled from non-worker threads and
+ * the poison pills, and then steals from the tail of the other workers' deques. Idle workers park until a group is
+ * added.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private final Deque<ItemGroup>[] workerQueues;
+    private final Queue<ItemGroup> sharedQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<WorkerContext> workerContext = new ThreadLocal<>();
+    private final AtomicInteger nextWorkerIndex = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunnableQueue(int numWorkers) {
+        this.workerQueues = new Deque[Math.max(numWorkers, 1)];
+        for (int i = 0; i < workerQueues.length; i++) {
+            workerQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        WorkerContext context = workerContext.get();
+        if (context == null || group == POISON_PILL) {
+            sharedQueue.offer(group);
+        } else {
+            context.localQueue.offerFirst(group);
+        }
+        signalIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        WorkerContext context = getOrRegisterWorker();
+        Thread current = Thread.currentThread();
+        while (true) {
+            ItemGroup group = poll(context);
+            if (group != null) {
+                return group;
+            }
+
+            // Register as idle before re-checking, so that a group added after the re-check is guaranteed to unpark
+            // this thread.
+            idleWorkers.offer(current);
+            group = poll(context);
+            if (group != null) {
+                if (!idleWorkers.remove(current)) {
+                    // A producer already picked this thread to be woken up, pass the signal on to another worker.
+                    signalIdleWorker();
+                }
+                return group;
+            }
+
+            LockSupport.park(this);
+            idleWorkers.remove(current);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!sharedQueue.isEmpty()) {
+            return false;
+        }
+        for (Deque<ItemGroup> queue : workerQueues) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(WorkerContext context) {
+        ItemGroup group = context.localQueue.pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = sharedQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(context);
+    }
+
+    private ItemGroup steal(WorkerContext context) {
+        int numQueues = workerQueues.length;
+        for (int i = 1; i < numQueues; i++) {
+            ItemGroup group = workerQueues[(context.index + i) % numQueues].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdleWorker() {
+        Thread idleWorker = idleWorkers.poll();
+        if (idleWorker != null) {
+            LockSupport.unpark(idleWorker);
+        }
+    }
+
+    private WorkerContext getOrRegisterWorker() {
+        WorkerContext context = workerContext.get();
+        if (context == null) {
+            int index = nextWorkerIndex.getAndIncrement() % workerQueues.length;
+            context = new WorkerContext(index, workerQueues[index]);
+            workerContext.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * Deque owned by a worker thread along with its position among the workers.
+     */
+    private static class WorkerContext {
+        final int index;
+        final Deque<ItemGroup> localQueue;
+
+        WorkerContext(int index, Deque<ItemGroup> localQueue) {
+            this.index = index;
+            this.localQueue = localQueue;
+        }
+    }
+}
@@ -59,7 +59,7 @@ public abstract class AbstractObjectValue implements ObjectValue {
 
     private BObjectType type;
 
-    private final HashMap<String, Object> nativeData = new HashMap<>();
+    private HashMap<String, Object> nativeData;
 
     public AbstractObjectValue(BObjectType type) {
         this.type = type;
@@ -67,17 +67,20 @@ public abstract class AbstractObjectValue implements ObjectValue {
 
     @Override
     public void addNativeData(String key, Object data) {
-        this.nativeData.put(key, data);
+        getNativeData().put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
-        return this.nativeData.get(key);
+        return this.nativeData == null ? null : this.nativeData.get(key);
     }
 
     @Override
     public HashMap<String, Object> getNativeData() {
-        return nativeData;
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
+        return this.nativeData;
     }
 
     @Override
@@ -66,11 +66,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
     protected Type elementType;
 
     protected Object[] refValues;
-    private long[] intValues;
-    private boolean[] booleanValues;
-    private byte[] byteValues;
-    private double[] floatValues;
-    private BString[] bStringValues;
+    // Backing store of int, boolean, byte, float and string arrays. Holds exactly one of long[], boolean[], byte[],
+    // double[] or BString[], so an array value carries a single reference for its typed elements.
+    private Object typedValues;
     // ------------------------ Constructors -------------------------------------------------------------------
 
     public ArrayValueImpl(Object[] values, ArrayType type) {
@@ -83,40 +81,40 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     public ArrayValueImpl(long[] values, boolean readonly) {
-        this.intValues = values;
+        this.typedValues = values;
         this.size = values.length;
         setArrayType(PredefinedTypes.TYPE_INT, readonly);
     }
 
     public ArrayValueImpl(boolean[] values, boolean readonly) {
-        this.booleanValues = values;
+        this.typedValues = values;
         this.size = values.length;
         setArrayType(PredefinedTypes.TYPE_BOOLEAN, readonly);
     }
 
     public ArrayValueImpl(byte[] values, boolean readonly) {
-        this.byteValues = values;
+        this.typedValues = values;
         this.size = values.length;
         setArrayType(PredefinedTypes.TYPE_BYTE, readonly);
     }
 
     public ArrayValueImpl(double[] values, boolean readonly) {
-        this.floatValues = values;
+        this.typedValues = values;
         this.size = values.length;
         setArrayType(PredefinedTypes.TYPE_FLOAT, readonly);
     }
 
     public ArrayValueImpl(String[] values, boolean readonly) {
         this.size = values.length;
-        bStringValues = new BString[size];
+        typedValues = new BString[size];
         for (int i = 0; i < size; i++) {
-            bStringValues[i] = StringUtils.fromString(values[i]);
+            bStringValues()[i] = StringUtils.fromString(values[i]);
         }
         setArrayType(PredefinedTypes.TYPE_STRING, readonly);
     }
 
     public ArrayValueImpl(BString[] values, boolean readonly) {
-        this.bStringValues = values;
+        this.typedValues = values;
         this.size = values.length;
         setArrayType(PredefinedTypes.TYPE_STRING, readonly);
     }
@@ -140,20 +138,20 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                this.intValues = new long[initialArraySize];
+                this.typedValues = new long[initialArraySize];
                 break;
             case TypeTags.FLOAT_TAG:
-                this.floatValues = new double[initialArraySize];
+                this.typedValues = new double[initialArraySize];
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                this.bStringValues = new BString[initialArraySize];
+                this.typedValues = new BString[initialArraySize];
                 break;
             case TypeTags.BOOLEAN_TAG:
-                this.booleanValues = new boolean[initialArraySize];
+                this.typedValues = new boolean[initialArraySize];
                 break;
             case TypeTags.BYTE_TAG:
-                this.byteValues = new byte[initialArraySize];
+                this.typedValues = new byte[initialArraySize];
                 break;
             default:
                 this.refValues = new Object[initialArraySize];
@@ -175,40 +173,40 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = size - 1, j = 0; j < size / 2; i--, j++) {
-                    long temp = intValues[j];
-                    intValues[j] = intValues[i];
-                    intValues[i] = temp;
+                    long temp = intValues()[j];
+                    intValues()[j] = intValues()[i];
+                    intValues()[i] = temp;
                 }
-                return intValues;
+                return intValues();
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 for (int i = size - 1, j = 0; j < size / 2; i--, j++) {
-                    BString temp = bStringValues[j];
-                    bStringValues[j] = bStringValues[i];
-                    bStringValues[i] = temp;
+                    BString temp = bStringValues()[j];
+                    bStringValues()[j] = bStringValues()[i];
+                    bStringValues()[i] = temp;
                 }
-                return bStringValues;
+                return bStringValues();
             case TypeTags.FLOAT_TAG:
                 for (int i = size - 1, j = 0; j < size / 2; i--, j++) {
-                    double temp = floatValues[j];
-                    floatValues[j] = floatValues[i];
-                    floatValues[i] = temp;
+                    double temp = floatValues()[j];
+                    floatValues()[j] = floatValues()[i];
+                    floatValues()[i] = temp;
                 }
-                return floatValues;
+                return floatValues();
             case TypeTags.BOOLEAN_TAG:
                 for (int i = size - 1, j = 0; j < size / 2; i--, j++) {
-                    boolean temp = booleanValues[j];
-                    booleanValues[j] = booleanValues[i];
-                    booleanValues[i] = temp;
+                    boolean temp = booleanValues()[j];
+                    booleanValues()[j] = booleanValues()[i];
+                    booleanValues()[i] = temp;
                 }
-                return booleanValues;
+                return booleanValues();
             case TypeTags.BYTE_TAG:
                 for (int i = size - 1, j = 0; j < size / 2; i--, j++) {
-                    byte temp = byteValues[j];
-                    byteValues[j] = byteValues[i];
-                    byteValues[i] = temp;
+                    byte temp = byteValues()[j];
+                    byteValues()[j] = byteValues()[i];
+                    byteValues()[i] = temp;
                 }
-                return byteValues;
+                return byteValues();
             default:
                 for (int i = size - 1, j = 0; j < size / 2; i--, j++) {
                     Object temp = refValues[j];
@@ -260,16 +258,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues[(int) index];
+                return intValues()[(int) index];
             case TypeTags.BOOLEAN_TAG:
-                return booleanValues[(int) index];
+                return booleanValues()[(int) index];
             case TypeTags.BYTE_TAG:
-                return Byte.toUnsignedInt(byteValues[(int) index]);
+                return Byte.toUnsignedInt(byteValues()[(int) index]);
             case TypeTags.FLOAT_TAG:
-                return floatValues[(int) index];
+                return floatValues()[(int) index];
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                    return bStringValues[(int) index];
+                    return bStringValues()[(int) index];
             default:
                 return refValues[(int) index];
         }
@@ -312,12 +310,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public long getInt(long index) {
         rangeCheckForGet(index, size);
-        if (intValues != null) {
-            return intValues[(int) index];
+        if (typedValues instanceof long[]) {
+            return intValues()[(int) index];
         } else if (refValues != null) {
             return (Long) refValues[(int) index];
         }
-        return Byte.toUnsignedInt(byteValues[(int) index]);
+        return Byte.toUnsignedInt(byteValues()[(int) index]);
     }
 
     /**
@@ -329,8 +327,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public boolean getBoolean(long index) {
         rangeCheckForGet(index, size);
-        if (booleanValues != null) {
-            return booleanValues[(int) index];
+        if (typedValues instanceof boolean[]) {
+            return booleanValues()[(int) index];
         }
         return (Boolean) refValues[(int) index];
     }
@@ -344,8 +342,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public byte getByte(long index) {
         rangeCheckForGet(index, size);
-        if (byteValues != null) {
-            return byteValues[(int) index];
+        if (typedValues instanceof byte[]) {
+            return byteValues()[(int) index];
         }
         return ((Integer) refValues[(int) index]).byteValue();
     }
@@ -359,8 +357,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public double getFloat(long index) {
         rangeCheckForGet(index, size);
-        if (floatValues != null) {
-            return floatValues[(int) index];
+        if (typedValues instanceof double[]) {
+            return floatValues()[(int) index];
         }
         return (Double) refValues[(int) index];
     }
@@ -375,8 +373,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Deprecated
     public String getString(long index) {
         rangeCheckForGet(index, size);
-        if (bStringValues != null) {
-            return bStringValues[(int) index].getValue();
+        if (typedValues instanceof BString[]) {
+            return bStringValues()[(int) index].getValue();
         }
         return (String) refValues[(int) index];
     }
@@ -390,8 +388,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public BString getBString(long index) {
         rangeCheckForGet(index, size);
-        if (bStringValues != null) {
-            return bStringValues[(int) index];
+        if (typedValues instanceof BString[]) {
+            return bStringValues()[(int) index];
         }
         return (BString) refValues[(int) index];
     }
@@ -487,16 +485,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
         Type type = TypeChecker.getType(value);
         switch (this.elementType.getTag()) {
             case TypeTags.BOOLEAN_TAG:
-                prepareForAdd(index, value, type, booleanValues.length);
-                this.booleanValues[(int) index] = (Boolean) value;
+                prepareForAdd(index, value, type, booleanValues().length);
+                this.booleanValues()[(int) index] = (Boolean) value;
                 return;
             case TypeTags.FLOAT_TAG:
-                prepareForAdd(index, value, type, floatValues.length);
-                this.floatValues[(int) index] = (Double) value;
+                prepareForAdd(index, value, type, floatValues().length);
+                this.floatValues()[(int) index] = (Double) value;
                 return;
             case TypeTags.BYTE_TAG:
-                prepareForAdd(index, value, type, byteValues.length);
-                this.byteValues[(int) index] = ((Number) value).byteValue();
+                prepareForAdd(index, value, type, byteValues().length);
+                this.byteValues()[(int) index] = ((Number) value).byteValue();
                 return;
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -505,13 +503,13 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                prepareForAdd(index, value, type, intValues.length);
-                this.intValues[(int) index] = (Long) value;
+                prepareForAdd(index, value, type, intValues().length);
+                this.intValues()[(int) index] = (Long) value;
                 return;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                prepareForAdd(index, value, type, bStringValues.length);
-                this.bStringValues[(int) index] = (BString) value;
+                prepareForAdd(index, value, type, bStringValues().length);
+                this.bStringValues()[(int) index] = (BString) value;
                 return;
             default:
                 prepareForAdd(index, value, type, refValues.length);
@@ -520,29 +518,29 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     public void addInt(long index, long value) {
-        if (intValues != null) {
-            prepareForAdd(index, value, PredefinedTypes.TYPE_INT, intValues.length);
-            intValues[(int) index] = value;
+        if (typedValues instanceof long[]) {
+            prepareForAdd(index, value, PredefinedTypes.TYPE_INT, intValues().length);
+            intValues()[(int) index] = value;
             return;
         }
 
-        prepareForAdd(index, value, TypeChecker.getType(value), byteValues.length);
-        byteValues[(int) index] = (byte) ((Long) value).intValue();
+        prepareForAdd(index, value, TypeChecker.getType(value), byteValues().length);
+        byteValues()[(int) index] = (byte) ((Long) value).intValue();
     }
 
     private void addBoolean(long index, boolean value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_BOOLEAN, booleanValues.length);
-        booleanValues[(int) index] = value;
+        prepareForAdd(index, value, PredefinedTypes.TYPE_BOOLEAN, booleanValues().length);
+        booleanValues()[(int) index] = value;
     }
 
     private void addByte(long index, byte value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_BYTE, byteValues.length);
-        byteValues[(int) index] = value;
+        prepareForAdd(index, value, PredefinedTypes.TYPE_BYTE, byteValues().length);
+        byteValues()[(int) index] = value;
     }
 
     private void addFloat(long index, double value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_FLOAT, floatValues.length);
-        floatValues[(int) index] = value;
+        prepareForAdd(index, value, PredefinedTypes.TYPE_FLOAT, floatValues().length);
+        floatValues()[(int) index] = value;
     }
 
     @Deprecated
@@ -551,8 +549,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void addBString(long index, BString value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_STRING, bStringValues.length);
-        bStringValues[(int) index] = value;
+        prepareForAdd(index, value, PredefinedTypes.TYPE_STRING, bStringValues().length);
+        bStringValues()[(int) index] = value;
     }
 
     // -------------------------------------------------------------------------------------------------------------
@@ -602,28 +600,28 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(intValues[i]));
+                    sj.add(Long.toString(intValues()[i]));
                 }
                 break;
             case TypeTags.BOOLEAN_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Boolean.toString(booleanValues[i]));
+                    sj.add(Boolean.toString(booleanValues()[i]));
                 }
                 break;
             case TypeTags.BYTE_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[i])));
+                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues()[i])));
                 }
                 break;
             case TypeTags.FLOAT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Double.toString(floatValues[i]));
+                    sj.add(Double.toString(floatValues()[i]));
                 }
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(((BValue) (bStringValues[i])).informalStringValue(parent));
+                    sj.add(((BValue) (bStringValues()[i])).informalStringValue(parent));
                 }
                 break;
             default:
@@ -667,31 +665,31 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(StringUtils.getExpressionStringValue(intValues[i],
+                    sj.add(StringUtils.getExpressionStringValue(intValues()[i],
                                                                 new CycleUtils.Node(this, parent)));
                 }
                 break;
             case TypeTags.BOOLEAN_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(StringUtils.getExpressionStringValue(booleanValues[i],
+                    sj.add(StringUtils.getExpressionStringValue(booleanValues()[i],
                                                                 new CycleUtils.Node(this, parent)));
                 }
                 break;
             case TypeTags.BYTE_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues[i])));
+                    sj.add(Long.toString(Byte.toUnsignedLong(byteValues()[i])));
                 }
                 break;
             case TypeTags.FLOAT_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(StringUtils.getExpressionStringValue(floatValues[i],
+                    sj.add(StringUtils.getExpressionStringValue(floatValues()[i],
                                                                 new CycleUtils.Node(this, parent)));
                 }
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 for (int i = 0; i < size; i++) {
-                    sj.add(StringUtils.getExpressionStringValue(bStringValues[i],
+                    sj.add(StringUtils.getExpressionStringValue(bStringValues()[i],
                                                                 new CycleUtils.Node(this, parent)));
                 }
                 break;
@@ -739,20 +737,20 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues(), this.size), arrayType.isReadOnly());
                 break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues(), this.size), arrayType.isReadOnly());
                 break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues(), this.size), arrayType.isReadOnly());
                 break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues(), this.size), arrayType.isReadOnly());
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size), arrayType.isReadOnly());
+                valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues(), this.size), arrayType.isReadOnly());
                 break;
             default:
                 Object[] values = new Object[this.size];
@@ -800,24 +798,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
                 slicedArray = new ArrayValueImpl(new long[slicedSize], arrayType.isReadOnly());
-                System.arraycopy(intValues, (int) startIndex, slicedArray.intValues, 0, slicedSize);
+                System.arraycopy(intValues(), (int) startIndex, slicedArray.intValues(), 0, slicedSize);
                 break;
             case TypeTags.BOOLEAN_TAG:
                 slicedArray = new ArrayValueImpl(new boolean[slicedSize], arrayType.isReadOnly());
-                System.arraycopy(booleanValues, (int) startIndex, slicedArray.booleanValues, 0, slicedSize);
+                System.arraycopy(booleanValues(), (int) startIndex, slicedArray.booleanValues(), 0, slicedSize);
                 break;
             case TypeTags.BYTE_TAG:
                 slicedArray = new ArrayValueImpl(new byte[slicedSize], arrayType.isReadOnly());
-                System.arraycopy(byteValues, (int) startIndex, slicedArray.byteValues, 0, slicedSize);
+                System.arraycopy(byteValues(), (int) startIndex, slicedArray.byteValues(), 0, slicedSize);
                 break;
             case TypeTags.FLOAT_TAG:
                 slicedArray = new ArrayValueImpl(new double[slicedSize], arrayType.isReadOnly());
-                System.arraycopy(floatValues, (int) startIndex, slicedArray.floatValues, 0, slicedSize);
+                System.arraycopy(floatValues(), (int) startIndex, slicedArray.floatValues(), 0, slicedSize);
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
                 slicedArray = new ArrayValueImpl(new BString[slicedSize], arrayType.isReadOnly());
-                System.arraycopy(bStringValues, (int) startIndex, slicedArray.bStringValues, 0, slicedSize);
+                System.arraycopy(bStringValues(), (int) startIndex, slicedArray.bStringValues(), 0, slicedSize);
                 break;
             default:
                 slicedArray = new ArrayValueImpl(new Object[slicedSize], new BArrayType(this.elementType));
@@ -850,7 +848,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public byte[] getBytes() {
         byte[] bytes = new byte[this.size];
-        System.arraycopy(byteValues, 0, bytes, 0, this.size);
+        System.arraycopy(byteValues(), 0, bytes, 0, this.size);
         return bytes;
     }
 
@@ -863,7 +861,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public String[] getStringArray() {
         String[] arr = new String[size];
         for (int i = 0; i < size; i++) {
-            arr[i] = bStringValues[i].getValue();
+            arr[i] = bStringValues()[i].getValue();
         }
         return arr;
     }
@@ -875,22 +873,22 @@ public class ArrayValueImpl extends AbstractArrayValue {
      */
     @Override
     public long[] getIntArray() {
-        return Arrays.copyOf(intValues, size);
+        return Arrays.copyOf(intValues(), size);
     }
 
     @Override
     public boolean[] getBooleanArray() {
-        return Arrays.copyOf(booleanValues, size);
+        return Arrays.copyOf(booleanValues(), size);
     }
 
     @Override
     public byte[] getByteArray() {
-        return Arrays.copyOf(byteValues, size);
+        return Arrays.copyOf(byteValues(), size);
     }
 
     @Override
     public double[] getFloatArray() {
-        return Arrays.copyOf(floatValues, size);
+        return Arrays.copyOf(floatValues(), size);
     }
 
     @Override
@@ -898,7 +896,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
             try {
                 for (int i = 0; i < this.size; i++) {
-                    outputStream.write(this.byteValues[i]);
+                    outputStream.write(this.byteValues()[i]);
                 }
             } catch (IOException e) {
                 throw new BallerinaException("error occurred while writing the binary content to the output stream", e);
@@ -962,20 +960,20 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                intValues = Arrays.copyOf(intValues, newLength);
+                typedValues = Arrays.copyOf(intValues(), newLength);
                 break;
             case TypeTags.BOOLEAN_TAG:
-                booleanValues = Arrays.copyOf(booleanValues, newLength);
+                typedValues = Arrays.copyOf(booleanValues(), newLength);
                 break;
             case TypeTags.BYTE_TAG:
-                byteValues = Arrays.copyOf(byteValues, newLength);
+                typedValues = Arrays.copyOf(byteValues(), newLength);
                 break;
             case TypeTags.FLOAT_TAG:
-                floatValues = Arrays.copyOf(floatValues, newLength);
+                typedValues = Arrays.copyOf(floatValues(), newLength);
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                bStringValues = Arrays.copyOf(bStringValues, newLength);
+                typedValues = Arrays.copyOf(bStringValues(), newLength);
                 break;
             default:
                 refValues = Arrays.copyOf(refValues, newLength);
@@ -991,7 +989,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
         switch (this.elementType.getTag()) {
             case TypeTags.STRING_TAG:
-                Arrays.fill(bStringValues, size, index, RuntimeConstants.STRING_EMPTY_VALUE);
+                Arrays.fill(bStringValues(), size, index, RuntimeConstants.STRING_EMPTY_VALUE);
                 return;
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -1130,7 +1128,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.BOOLEAN_TAG:
                 break;
             case TypeTags.STRING_TAG:
-                Arrays.fill(bStringValues, size, intIndex, RuntimeConstants.STRING_EMPTY_VALUE);
+                Arrays.fill(bStringValues(), size, intIndex, RuntimeConstants.STRING_EMPTY_VALUE);
                 break;
             default:
                 for (int i = size; i <= index; i++) {
@@ -1184,16 +1182,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues;
+                return intValues();
             case TypeTags.BOOLEAN_TAG:
-                return booleanValues;
+                return booleanValues();
             case TypeTags.BYTE_TAG:
-                return byteValues;
+                return byteValues();
             case TypeTags.FLOAT_TAG:
-                return floatValues;
+                return floatValues();
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                return bStringValues;
+                return bStringValues();
             default:
                 return refValues;
         }
@@ -1208,21 +1206,41 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                return intValues.length;
+                return intValues().length;
             case TypeTags.BOOLEAN_TAG:
-                return booleanValues.length;
+                return booleanValues().length;
             case TypeTags.BYTE_TAG:
-                return byteValues.length;
+                return byteValues().length;
             case TypeTags.FLOAT_TAG:
-                return floatValues.length;
+                return floatValues().length;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                return bStringValues.length;
+                return bStringValues().length;
             default:
                 return refValues.length;
         }
     }
 
+    private long[] intValues() {
+        return (long[]) typedValues;
+    }
+
+    private boolean[] booleanValues() {
+        return (boolean[]) typedValues;
+    }
+
+    private byte[] byteValues() {
+        return (byte[]) typedValues;
+    }
+
+    private double[] floatValues() {
+        return (double[]) typedValues;
+    }
+
+    private BString[] bStringValues() {
+        return (BString[]) typedValues;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1237,22 +1255,14 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return arrayType.equals(that.arrayType) &&
                 elementType.equals(that.elementType) &&
                 Arrays.equals(refValues, that.refValues) &&
-                Arrays.equals(intValues, that.intValues) &&
-                Arrays.equals(booleanValues, that.booleanValues) &&
-                Arrays.equals(byteValues, that.byteValues) &&
-                Arrays.equals(floatValues, that.floatValues) &&
-                Arrays.equals(bStringValues, that.bStringValues);
+                Objects.deepEquals(typedValues, that.typedValues);
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(arrayType, elementType);
         result = 31 * result + Arrays.hashCode(refValues);
-        result = 31 * result + Arrays.hashCode(intValues);
-        result = 31 * result + Arrays.hashCode(booleanValues);
-        result = 31 * result + Arrays.hashCode(byteValues);
-        result = 31 * result + Arrays.hashCode(floatValues);
-        result = 31 * result + Arrays.hashCode(bStringValues);
+        result = 31 * result + Arrays.deepHashCode(new Object[]{typedValues});
         return result;
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represent ballerina strings built by concatenation, which are backed by a shared buffer.
+ * <p>
+ * A string owns a prefix of its buffer, which never changes once appended. Concatenating to the string which owns
+ * the whole buffer appends to the buffer in place, so building a string with repeated {@code s = s + part} copies
+ * each part once instead of copying the whole string on every step. Concatenating to any other string of the buffer
+ * copies its prefix to a new buffer. A full buffer is replaced rather than grown, hence every string is at least half
+ * as long as the capacity of the buffer it retains.
+ * <p>
+ * The string is flattened into a {@link BmpStringValue} or a {@link NonBmpStringValue} the first time its content
+ * is read, after which the buffer is released.
+ *
+ * @since 2.0.0
+ */
+public class BuilderStringValue implements StringValue {
+
+    /**
+     * Number of code points from which concatenation results are built on a shared buffer. Smaller strings are
+     * cheaper to copy than to share.
+     */
+    static final int THRESHOLD = 256;
+
+    private volatile StringBuilder buffer;
+    private volatile BString flattened;
+    private final int charLength;
+    private final int length;
+
+    BuilderStringValue(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        StringBuilder newBuffer = new StringBuilder((lhsValue.length() + rhsValue.length()) * 2);
+        newBuffer.append(lhsValue).append(rhsValue);
+        this.buffer = newBuffer;
+        this.charLength = newBuffer.length();
+        this.length = lhs.length() + rhs.length();
+    }
+
+    private BuilderStringValue(StringBuilder buffer, int length) {
+        this.buffer = buffer;
+        this.charLength = buffer.length();
+        this.length = length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringBuilder currentBuffer = buffer;
+        if (currentBuffer == null) {
+            return new BuilderStringValue(flattened, str);
+        }
+
+        String value = str.getValue();
+        synchronized (currentBuffer) {
+            if (currentBuffer.length() == charLength && charLength + value.length() <= currentBuffer.capacity()) {
+                currentBuffer.append(value);
+                return new BuilderStringValue(currentBuffer, length + str.length());
+            }
+
+            // A longer string has already been built on this buffer, or the buffer is full. A full buffer is not
+            // grown in place, so that the shorter strings sharing it do not retain a much larger buffer.
+            StringBuilder newBuffer = new StringBuilder((charLength + value.length()) * 2);
+            newBuffer.append(currentBuffer, 0, charLength).append(value);
+            return new BuilderStringValue(newBuffer, length + str.length());
+        }
+    }
+
+    private BString flatten() {
+        BString flat = flattened;
+        if (flat != null) {
+            return flat;
+        }
+
+        StringBuilder currentBuffer = buffer;
+        if (currentBuffer == null) {
+            // flattened concurrently
+            return flattened;
+        }
+
+        String value;
+        synchronized (currentBuffer) {
+            value = currentBuffer.substring(0, charLength);
+        }
+        flat = StringUtils.fromString(value);
+        flattened = flat;
+        buffer = null;
+        return flat;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return flatten().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+}
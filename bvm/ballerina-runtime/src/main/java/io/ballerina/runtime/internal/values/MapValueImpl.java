@@ -50,6 +50,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -90,7 +91,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private static final long serialVersionUID = 1L;
     private TypedescValue typedesc;
     private Type type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Created on the first addNativeData() call, since very few map values ever carry native data.
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -569,6 +571,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         nativeData.put(key, data);
     }
 
@@ -578,7 +583,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -592,7 +597,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
-        return this.nativeData;
+        return this.nativeData == null ? Collections.emptyMap() : this.nativeData;
     }
 
     private void initializeIteratorNextReturnType() {
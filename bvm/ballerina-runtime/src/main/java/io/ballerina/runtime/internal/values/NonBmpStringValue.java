@@ -70,16 +70,23 @@
 
     @Override
     public BString concat(BString str) {
+        if (length() + str.length() >= BuilderStringValue.THRESHOLD) {
+            return new BuilderStringValue(this, str);
+        }
         if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
+            // surrogate locations of the other string are shifted by the length of this string
+            int thisLength = length();
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
+            for (int i = 0; i < other.surrogates.length; i++) {
+                both[surrogates.length + i] = other.surrogates[i] + thisLength;
+            }
             return new NonBmpStringValue(this.value + other.value, both);
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
             return new NonBmpStringValue(this.value + other.getValue(), surrogates);
         } else {
-            throw new RuntimeException("not impl yet");
+            return StringUtils.fromString(this.value + str.getValue());
         }
     }
 
@@ -102,6 +109,15 @@
          return surrogates.clone();
      }
 
+     // Surrogate locations of this string when it is appended to a string of the given length
+     int[] getSurrogates(int offset) {
+         int[] shifted = new int[surrogates.length];
+         for (int i = 0; i < surrogates.length; i++) {
+             shifted[i] = surrogates[i] + offset;
+         }
+         return shifted;
+     }
+
      @Override
      public String toString() {
          return value;
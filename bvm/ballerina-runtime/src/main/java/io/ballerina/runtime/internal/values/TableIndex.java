@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index over a non-key field of the rows of a {@link TableValueImpl}.
+ * <p>
+ * A hash index groups the rows by the value of the field, using the same equality as the Ballerina `==` operator. A
+ * sorted index keeps the groups ordered with the ordering used by the `order by` clause, hence it can also answer
+ * range lookups. Each row is tagged with a sequence number which increases with the position of the row in the
+ * table, so that the rows returned by a lookup are in the iteration order of the table.
+ * <p>
+ * Each group keeps its rows in a map ordered by the sequence numbers, and the index keeps the sequence number of each
+ * row, so that adding, removing or replacing a row does not scan its group, however many rows share the field value.
+ * <p>
+ * Only immutable fields are indexed, hence the index never goes stale when a row is updated in place.
+ *
+ * @since 2.0.0
+ */
+final class TableIndex {
+
+    private static final String ASCENDING = "ascending";
+    private static final Comparator<Object> ORDER = (lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs,
+                                                                                                  ASCENDING);
+    private static final Comparator<Map.Entry<Long, Object>> SEQUENCE_ORDER = Map.Entry.comparingByKey();
+
+    private final BString fieldName;
+    private final boolean sorted;
+    private final Map<Object, Group> groups;
+    // row -> sequence number the row was added with
+    private final Map<Object, Long> sequences = new IdentityHashMap<>();
+
+    TableIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.sorted = sorted;
+        this.groups = sorted ? new TreeMap<>(ORDER) : new HashMap<>();
+    }
+
+    BString getFieldName() {
+        return fieldName;
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    void add(Object row, long sequence) {
+        groups.computeIfAbsent(groupKey(fieldValue(row)), key -> new Group()).add(sequence, row);
+        sequences.put(row, sequence);
+    }
+
+    /**
+     * Removes the row from the index.
+     *
+     * @param row row to remove
+     * @return sequence number the row was added with, or -1 if the row is not in the index
+     */
+    long remove(Object row) {
+        Long sequence = sequences.remove(row);
+        if (sequence == null) {
+            return -1;
+        }
+
+        Object groupKey = groupKey(fieldValue(row));
+        Group group = groups.get(groupKey);
+        group.rows.remove(sequence);
+        if (group.rows.isEmpty()) {
+            groups.remove(groupKey);
+        }
+        return sequence;
+    }
+
+    /**
+     * Replaces a row of the index with a row which takes its place in the table.
+     *
+     * @param oldRow row to replace
+     * @param newRow replacing row
+     */
+    void replace(Object oldRow, Object newRow) {
+        Long sequence = sequences.get(oldRow);
+        if (sequence == null) {
+            return;
+        }
+
+        Object oldGroupKey = groupKey(fieldValue(oldRow));
+        Object newGroupKey = groupKey(fieldValue(newRow));
+        if (!isSameGroup(oldGroupKey, newGroupKey)) {
+            add(newRow, remove(oldRow));
+            return;
+        }
+        // the sequence number is already in the group, hence the row keeps its position
+        groups.get(oldGroupKey).rows.put(sequence, newRow);
+        sequences.remove(oldRow);
+        sequences.put(newRow, sequence);
+    }
+
+    void clear() {
+        groups.clear();
+        sequences.clear();
+    }
+
+    /**
+     * Returns the rows whose field value is equal to the given value, in table order.
+     *
+     * @param value value to look up
+     * @return matching rows
+     */
+    List<Object> lookup(Object value) {
+        Group group = groups.get(groupKey(value));
+        return group == null ? Collections.emptyList() : new ArrayList<>(group.rows.values());
+    }
+
+    /**
+     * Returns the rows whose field value is within the given bounds, in table order. Only supported by sorted
+     * indexes. A null bound leaves that end of the range open.
+     *
+     * @param lower          lower bound, or null
+     * @param lowerInclusive whether the lower bound is included in the range
+     * @param upper          upper bound, or null
+     * @param upperInclusive whether the upper bound is included in the range
+     * @return matching rows
+     */
+    List<Object> range(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+        NavigableMap<Object, Group> range = (NavigableMap<Object, Group>) groups;
+        if (lower != null) {
+            range = range.tailMap(lower, lowerInclusive);
+        }
+        if (upper != null) {
+            range = range.headMap(upper, upperInclusive);
+        }
+
+        Collection<Group> matches = range.values();
+        if (matches.size() == 1) {
+            return new ArrayList<>(matches.iterator().next().rows.values());
+        }
+
+        List<Map.Entry<Long, Object>> merged = new ArrayList<>();
+        for (Group group : matches) {
+            merged.addAll(group.rows.entrySet());
+        }
+        merged.sort(SEQUENCE_ORDER);
+        List<Object> rows = new ArrayList<>(merged.size());
+        for (Map.Entry<Long, Object> entry : merged) {
+            rows.add(entry.getValue());
+        }
+        return rows;
+    }
+
+    private Object fieldValue(Object row) {
+        return ((MapValue<?, ?>) row).get(fieldName);
+    }
+
+    private Object groupKey(Object value) {
+        return sorted ? value : new HashKey(value);
+    }
+
+    private boolean isSameGroup(Object groupKey, Object otherGroupKey) {
+        return sorted ? ORDER.compare(groupKey, otherGroupKey) == 0 : groupKey.equals(otherGroupKey);
+    }
+
+    /**
+     * Rows which have the same field value, ordered by their sequence numbers.
+     */
+    private static class Group {
+
+        private Map<Long, Object> rows = new LinkedHashMap<>();
+        private long lastSequence = -1;
+
+        void add(long sequence, Object row) {
+            if (sequence > lastSequence) {
+                rows.put(sequence, row);
+                lastSequence = sequence;
+                return;
+            }
+
+            // a row which moved from another group keeps its position in the table
+            Map<Long, Object> orderedRows = new LinkedHashMap<>();
+            boolean added = false;
+            for (Map.Entry<Long, Object> entry : rows.entrySet()) {
+                if (!added && entry.getKey() > sequence) {
+                    orderedRows.put(sequence, row);
+                    added = true;
+                }
+                orderedRows.put(entry.getKey(), entry.getValue());
+            }
+            if (!added) {
+                orderedRows.put(sequence, row);
+            }
+            rows = orderedRows;
+        }
+    }
+
+    /**
+     * Field value of a hash index, which is hashed and compared by its shape.
+     */
+    private static class HashKey {
+
+        private final Object value;
+        private final int hash;
+
+        HashKey(Object value) {
+            this.value = value;
+            this.hash = hash(value);
+        }
+
+        private static int hash(Object value) {
+            if (value instanceof BDecimal) {
+                // Decimals with the same value but different scales are equal.
+                return ((BDecimal) value).decimalValue().stripTrailingZeros().hashCode();
+            }
+            if (value instanceof Double && (Double) value == 0) {
+                // -0.0 == 0.0
+                return 0;
+            }
+            return TableStore.hash(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof HashKey)) {
+                return false;
+            }
+            HashKey other = (HashKey) obj;
+            return this.hash == other.hash && TypeChecker.isEqual(this.value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
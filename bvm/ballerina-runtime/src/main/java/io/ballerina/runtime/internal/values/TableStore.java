@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+/**
+ * Insertion ordered row storage of a {@link TableValueImpl}.
+ * <p>
+ * Rows are kept in parallel dense arrays in insertion order, together with the hash of each row key. Keyed rows are
+ * additionally indexed by an open addressing (linear probing) table which maps a key hash to the position of the row
+ * in the dense arrays. Keys are compared with {@link TypeChecker#isEqual(Object, Object)}, hence distinct keys with
+ * the same hash never replace each other.
+ * <p>
+ * A removed row leaves a hole in the dense arrays so that the position of the remaining rows is not disturbed. Index
+ * slots are freed with backward shift deletion, so removals do not leave tombstones in the index. Holes are reclaimed
+ * the next time the dense arrays run out of space, which moves the remaining rows. Each row is therefore also given
+ * an insertion sequence number, which never changes, so that an ongoing iteration could find its position again
+ * after the rows were moved (see {@link #getCompactionCount()} and {@link #positionAfter(long)}).
+ *
+ * @param <K> the type of the row keys
+ * @param <V> the type of the rows
+ *
+ * @since 2.0.0
+ */
+final class TableStore<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final Object[] EMPTY_ROWS = {};
+    private static final int[] EMPTY_HASHES = {};
+    private static final long[] EMPTY_SEQUENCES = {};
+
+    private Object[] keys = EMPTY_ROWS;
+    private Object[] values = EMPTY_ROWS;
+    private int[] hashes = EMPTY_HASHES;
+    // position -> insertion sequence number of the row, ascending, kept for holes as well
+    private long[] sequences = EMPTY_SEQUENCES;
+    // index slot -> position of the row in the dense arrays + 1, where 0 marks an empty slot
+    private int[] index = EMPTY_HASHES;
+    // number of used positions in the dense arrays, including holes left by removed rows
+    private int limit;
+    private int size;
+    private long nextSequence;
+    // incremented each time the rows are moved to new positions
+    private int compactionCount;
+
+    static int hash(Object key) {
+        long hash = TableUtils.hash(key, null);
+        int h = (int) (hash ^ (hash >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the row with the given key, or -1 if there is no such row.
+     *
+     * @param key  row key
+     * @param hash hash of the key, as computed by {@link #hash(Object)}
+     * @return position of the row
+     */
+    int indexOf(Object key, int hash) {
+        if (index.length == 0) {
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            if (position < 0) {
+                return -1;
+            }
+
+            if (hashes[position] == hash && isKeyEqual(keys[position], key)) {
+                return position;
+            }
+        }
+    }
+
+    V get(Object key, int hash) {
+        int position = indexOf(key, hash);
+        return position < 0 ? null : valueAt(position);
+    }
+
+    /**
+     * Associates the row with the given key. The row replaces any existing row with the same key, keeping its
+     * position in the iteration order.
+     *
+     * @param key   row key
+     * @param hash  hash of the key, as computed by {@link #hash(Object)}
+     * @param value row
+     * @return the replaced row, or null if there was no row for the key
+     */
+    V put(K key, int hash, V value) {
+        int position = indexOf(key, hash);
+        if (position >= 0) {
+            V oldValue = valueAt(position);
+            keys[position] = key;
+            values[position] = value;
+            return oldValue;
+        }
+
+        position = append(key, hash, value);
+        insertIntoIndex(hash, position);
+        return null;
+    }
+
+    /**
+     * Appends a row of a key-less table. Such rows are not indexed.
+     *
+     * @param value row
+     */
+    void add(V value) {
+        append(null, 0, value);
+    }
+
+    V remove(Object key, int hash) {
+        int position = indexOf(key, hash);
+        if (position < 0) {
+            return null;
+        }
+
+        V value = valueAt(position);
+        removeFromIndex(hash, position);
+        keys[position] = null;
+        values[position] = null;
+        size--;
+        return value;
+    }
+
+    void clear() {
+        keys = EMPTY_ROWS;
+        values = EMPTY_ROWS;
+        hashes = EMPTY_HASHES;
+        index = EMPTY_HASHES;
+        sequences = EMPTY_SEQUENCES;
+        limit = 0;
+        size = 0;
+        compactionCount++;
+    }
+
+    /**
+     * Returns the number of times the rows were moved to new positions. Positions obtained before the count changed
+     * are no longer valid and should be found again with {@link #positionAfter(long)}.
+     *
+     * @return compaction count
+     */
+    int getCompactionCount() {
+        return compactionCount;
+    }
+
+    /**
+     * Returns the insertion sequence number of the row at the given position.
+     *
+     * @param position position of the row
+     * @return insertion sequence number
+     */
+    long sequenceAt(int position) {
+        return sequences[position];
+    }
+
+    /**
+     * Returns the first position holding a row, or a hole, inserted after the row with the given sequence number.
+     *
+     * @param sequence insertion sequence number, or -1 for the first position
+     * @return position to continue iterating from
+     */
+    int positionAfter(long sequence) {
+        int low = 0;
+        int high = limit;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sequences[mid] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first row at or after the given position, or -1 if there are no more rows.
+     *
+     * @param from position to start looking from
+     * @return position of the next row
+     */
+    int nextPosition(int from) {
+        for (int position = from; position < limit; position++) {
+            if (values[position] != null) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int position) {
+        return (K) keys[position];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int position) {
+        return (V) values[position];
+    }
+
+    private int append(K key, int hash, V value) {
+        if (limit == values.length) {
+            ensureCapacity();
+        }
+
+        int position = limit++;
+        keys[position] = key;
+        values[position] = value;
+        hashes[position] = hash;
+        sequences[position] = nextSequence++;
+        size++;
+        return position;
+    }
+
+    private void ensureCapacity() {
+        int capacity = values.length;
+        if (size < capacity - (capacity >> 2)) {
+            // at least a quarter of the rows are holes, reclaim them instead of growing
+            compact(capacity);
+            return;
+        }
+
+        compact(Math.max(INITIAL_CAPACITY, capacity << 1));
+    }
+
+    private void compact(int capacity) {
+        Object[] newKeys = new Object[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        long[] newSequences = new long[capacity];
+        int newLimit = 0;
+        for (int position = 0; position < limit; position++) {
+            if (values[position] == null) {
+                continue;
+            }
+            newKeys[newLimit] = keys[position];
+            newValues[newLimit] = values[position];
+            newHashes[newLimit] = hashes[position];
+            newSequences[newLimit] = sequences[position];
+            newLimit++;
+        }
+
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        sequences = newSequences;
+        limit = newLimit;
+        compactionCount++;
+        // rows of key-less tables are never indexed
+        if (index.length != 0) {
+            rebuildIndex(capacity << 1);
+        }
+    }
+
+    private void rebuildIndex(int indexCapacity) {
+        index = new int[indexCapacity];
+        int mask = indexCapacity - 1;
+        for (int position = 0; position < limit; position++) {
+            int slot = hashes[position] & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = position + 1;
+        }
+    }
+
+    private void insertIntoIndex(int hash, int position) {
+        if (index.length < values.length << 1) {
+            rebuildIndex(values.length << 1);
+            return;
+        }
+
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private void removeFromIndex(int hash, int position) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] != position + 1) {
+            slot = (slot + 1) & mask;
+        }
+
+        // Shift back the following entries of the probe sequence which would become unreachable through the freed
+        // slot, instead of leaving a tombstone behind.
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (index[next] == 0) {
+                break;
+            }
+            int home = hashes[index[next] - 1] & mask;
+            boolean reachable = slot <= next ? slot < home && home <= next : slot < home || home <= next;
+            if (!reachable) {
+                index[slot] = index[next];
+                slot = next;
+            }
+        }
+        index[slot] = 0;
+    }
+
+    private static boolean isKeyEqual(Object storedKey, Object key) {
+        // Java strings have the same hash as the equivalent BString, and are accepted as keys for lookups by Java code
+        if (key instanceof String && storedKey instanceof BString) {
+            return key.equals(((BString) storedKey).getValue());
+        }
+        return TypeChecker.isEqual(storedKey, key);
+    }
+}
@@ -18,6 +18,7 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 
 /**
@@ -43,4 +44,14 @@ public interface TableValue<K, V> extends RefValue, CollectionValue, BTable<K, V
     long getNextKey();
 
     Type getKeyType();
+
+    /**
+     * Adds a secondary index on a readonly field of the members of this table. A hash index supports lookups by
+     * equality, while a sorted index also supports range lookups. The index is maintained as members are added,
+     * replaced and removed, and is not copied along with the table.
+     *
+     * @param fieldName name of the field to index
+     * @param sorted    whether the index should be a sorted index
+     */
+    void addIndex(BString fieldName, boolean sorted);
 }
@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -32,12 +33,12 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.IteratorUtils;
-import io.ballerina.runtime.internal.TableUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
+import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
 import java.util.AbstractMap;
@@ -46,14 +47,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -74,30 +73,25 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableStore<K, V> store;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private static final TableIndex[] NO_INDEXES = {};
+    // secondary indexes are replaced as a whole, so that a readonly table can be indexed while it is being read.
+    // Adding an index is synchronized with the mutators, which keep the indexes up to date.
+    private volatile TableIndex[] indexes = NO_INDEXES;
+    private long nextRowSequence;
+
+    private Map<String, Object> nativeData;
 
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
+        this.store = new TableStore<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
             this.valueHolder = new KeyHashValueHolder();
@@ -182,25 +176,25 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     //Generates the key from the given data
-    public V put(V value) {
+    public synchronized V put(V value) {
         handleFrozenTableValue();
         return valueHolder.putData(value);
     }
 
     @Override
-    public V put(K key, V value) {
+    public synchronized V put(K key, V value) {
         handleFrozenTableValue();
         return valueHolder.putData(key, value);
     }
 
     @Override
-    public void add(V data) {
+    public synchronized void add(V data) {
         handleFrozenTableValue();
         valueHolder.addData(data);
     }
 
     @Override
-    public V remove(Object key) {
+    public synchronized V remove(Object key) {
         handleFrozenTableValue();
         return valueHolder.remove((K) key);
     }
@@ -212,23 +206,29 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        for (int i = store.nextPosition(0); i >= 0; i = store.nextPosition(i + 1)) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(getKeyAt(i), store.valueAt(i)));
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        List<V> values = new ArrayList<>(store.size());
+        for (int i = store.nextPosition(0); i >= 0; i = store.nextPosition(i + 1)) {
+            values.add(store.valueAt(i));
+        }
+        return values;
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        store.clear();
+        for (TableIndex index : indexes) {
+            index.clear();
+        }
     }
 
     @Override
@@ -257,7 +257,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return store.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,27 +285,44 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (!(valueHolder instanceof KeyHashValueHolder)) {
+            return (K[]) new Object[]{};
+        }
+
+        Object[] keys = new Object[store.size()];
+        int keyIndex = 0;
+        for (int i = store.nextPosition(0); i >= 0; i = store.nextPosition(i + 1)) {
+            keys[keyIndex++] = store.keyAt(i);
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return store.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return store.size() == 0;
+    }
+
+    // Rows of key-less tables are their own keys
+    private K getKeyAt(int position) {
+        return valueHolder instanceof KeyHashValueHolder ? store.keyAt(position) : (K) store.valueAt(position);
     }
 
     @Override
     public void addNativeData(String key, Object data) {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         nativeData.put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -320,8 +337,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values().iterator(), parent);
     }
 
     @Override
@@ -331,21 +347,19 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values().iterator(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
-                                              new CycleUtils.Node(this, parent)));
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -355,9 +369,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
-                                                        new CycleUtils.Node(this, parent)));
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
     }
@@ -372,6 +385,190 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return null;
     }
 
+    @Override
+    public synchronized void addIndex(BString fieldName, boolean sorted) {
+        TableIndex existingIndex = getIndex(fieldName);
+        if (existingIndex != null && (existingIndex.isSorted() || !sorted)) {
+            return;
+        }
+        checkIndexableField(fieldName.getValue(), sorted);
+
+        // rebuild all the indexes so that the rows are numbered the same way in each of them
+        List<TableIndex> newIndexes = new ArrayList<>();
+        for (TableIndex index : indexes) {
+            if (index != existingIndex) {
+                newIndexes.add(new TableIndex(index.getFieldName(), index.isSorted()));
+            }
+        }
+        newIndexes.add(new TableIndex(fieldName, sorted));
+
+        long sequence = 0;
+        for (int i = store.nextPosition(0); i >= 0; i = store.nextPosition(i + 1)) {
+            V row = store.valueAt(i);
+            for (TableIndex index : newIndexes) {
+                index.add(row, sequence);
+            }
+            sequence++;
+        }
+        nextRowSequence = sequence;
+        indexes = newIndexes.toArray(NO_INDEXES);
+    }
+
+    /**
+     * Returns the rows whose value for the given field is equal to the given value, using a secondary index on the
+     * field.
+     *
+     * @param fieldName indexed field
+     * @param value     field value to look up
+     * @return the matching rows in table order, or null if the field is not indexed
+     */
+    public List<V> lookupIndex(BString fieldName, Object value) {
+        TableIndex index = getIndex(fieldName);
+        return index == null ? null : (List<V>) index.lookup(value);
+    }
+
+    /**
+     * Returns the rows whose value for the given field is within the given bounds, using a sorted secondary index
+     * on the field. A null bound leaves that end of the range open.
+     *
+     * @param fieldName      indexed field
+     * @param lower          lower bound, or null
+     * @param lowerInclusive whether the lower bound is included in the range
+     * @param upper          upper bound, or null
+     * @param upperInclusive whether the upper bound is included in the range
+     * @return the matching rows in table order, or null if there is no sorted index on the field
+     */
+    public List<V> rangeIndex(BString fieldName, Object lower, boolean lowerInclusive, Object upper,
+                              boolean upperInclusive) {
+        TableIndex index = getIndex(fieldName);
+        if (index == null || !index.isSorted()) {
+            return null;
+        }
+        return (List<V>) index.range(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    /**
+     * Creates a table of the same type holding the given rows of this table.
+     *
+     * @param rows rows of this table
+     * @return new table
+     */
+    public TableValueImpl<K, V> subTable(List<V> rows) {
+        TableValueImpl<K, V> table = new TableValueImpl<>(type);
+        table.fieldNames = fieldNames;
+        for (V row : rows) {
+            table.valueHolder.addRow(row);
+        }
+        return table;
+    }
+
+    private TableIndex getIndex(BString fieldName) {
+        for (TableIndex index : indexes) {
+            if (index.getFieldName().getValue().equals(fieldName.getValue())) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private void indexRow(V row) {
+        TableIndex[] tableIndexes = indexes;
+        if (tableIndexes.length == 0) {
+            return;
+        }
+
+        long sequence = nextRowSequence++;
+        for (TableIndex index : tableIndexes) {
+            index.add(row, sequence);
+        }
+    }
+
+    private void reindexRow(V oldRow, V newRow) {
+        if (oldRow == null) {
+            indexRow(newRow);
+            return;
+        }
+
+        for (TableIndex index : indexes) {
+            // the new row takes the place of the row it replaces
+            index.replace(oldRow, newRow);
+        }
+    }
+
+    // Only immutable fields can be indexed, as rows are not re-indexed when a field is updated in place
+    private void checkIndexableField(String fieldName, boolean sorted) {
+        Type constraintType = type.getConstrainedType();
+        Type fieldType;
+        // key fields are always readonly
+        boolean readonly = type.isReadOnly() || constraintType.isReadOnly() ||
+                (type.getFieldNames() != null && Arrays.asList(type.getFieldNames()).contains(fieldName));
+        if (constraintType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+            if (field == null) {
+                throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                        "cannot index field '" + fieldName + "': field not found in '" + constraintType + "'"));
+            }
+            fieldType = field.getFieldType();
+            readonly = readonly || SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+        } else if (constraintType.getTag() == TypeTags.MAP_TAG) {
+            fieldType = ((BMapType) constraintType).getConstrainedType();
+        } else {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot index field '" + fieldName + "' of a table of '" + constraintType + "'"));
+        }
+
+        if (!readonly) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot index field '" + fieldName + "': field is not readonly"));
+        }
+
+        if (sorted && !isOrderedType(fieldType)) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot create a sorted index on field '" + fieldName + "' of type '" + fieldType + "'"));
+        }
+    }
+
+    // Checks whether the values of the type are all of the same ordered basic type, with an optional nil
+    private static boolean isOrderedType(Type type) {
+        if (type.getTag() != TypeTags.UNION_TAG) {
+            return getOrderedTypeTag(type) != TypeTags.NULL_TAG;
+        }
+
+        int orderedTypeTag = TypeTags.NULL_TAG;
+        for (Type memberType : ((BUnionType) type).getMemberTypes()) {
+            if (memberType.getTag() == TypeTags.NULL_TAG) {
+                continue;
+            }
+
+            int memberTypeTag = getOrderedTypeTag(memberType);
+            if (memberTypeTag == TypeTags.NULL_TAG ||
+                    (orderedTypeTag != TypeTags.NULL_TAG && orderedTypeTag != memberTypeTag)) {
+                return false;
+            }
+            orderedTypeTag = memberTypeTag;
+        }
+        return orderedTypeTag != TypeTags.NULL_TAG;
+    }
+
+    private static int getOrderedTypeTag(Type type) {
+        int tag = type.getTag();
+        if (TypeTags.isIntegerTypeTag(tag)) {
+            return TypeTags.INT_TAG;
+        }
+        if (TypeTags.isStringTypeTag(tag)) {
+            return TypeTags.STRING_TAG;
+        }
+        switch (tag) {
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return tag;
+            default:
+                return TypeTags.NULL_TAG;
+        }
+    }
+
     @Override
     public Type getType() {
         return this.type;
@@ -386,39 +583,50 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        // insertion sequence number of the last returned row, which locates the cursor again after a compaction
+        private long lastSequence = -1;
+        private int compactionCount;
 
         TableIterator() {
             this.cursor = 0;
+            this.compactionCount = store.getCompactionCount();
+        }
+
+        private int nextPosition() {
+            if (compactionCount != store.getCompactionCount()) {
+                cursor = store.positionAfter(lastSequence);
+                compactionCount = store.getCompactionCount();
+            }
+            return store.nextPosition(cursor);
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            int position = nextPosition();
+            if (position < 0) {
+                throw new NoSuchElementException();
             }
+
+            V value = (V) store.valueAt(position);
+            K key = (K) getKeyAt(position);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor = position + 1;
+            lastSequence = store.sequenceAt(position);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+           return nextPosition() >= 0;
         }
     }
 
@@ -440,11 +648,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            addRow(data);
+            indexRow(data);
+            return null;
+        }
+
+        public void addRow(V data) {
+            store.add(data);
         }
 
         public V remove(K key) {
@@ -479,69 +689,67 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            int hash = TableStore.hash(key);
 
-            if (containsKey((K) key)) {
+            if (store.indexOf(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            putRow(key, hash, data);
+            indexRow(data);
+        }
+
+        public void addRow(V data) {
+            K key = this.keyWrapper.wrapKey((MapValue) data);
+            putRow(key, TableStore.hash(key), data);
+        }
+
+        private void putRow(K key, int hash, V data) {
+            if (nextKeySupported && (store.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            store.put(key, hash, data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            return store.get(key, TableStore.hash(key));
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
-        }
-
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            V oldData = store.put(key, TableStore.hash(key), data);
+            reindexRow(oldData, data);
+            return oldData;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            V oldData = store.put(key, TableStore.hash(key), data);
+            reindexRow(oldData, data);
+            return oldData;
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
+            V data = store.remove(key, TableStore.hash(key));
+            if (data != null) {
+                for (TableIndex index : indexes) {
+                    index.remove(data);
+                }
             }
-            return values.remove(hash);
+            return data;
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return store.indexOf(key, TableStore.hash(key)) >= 0;
         }
 
         public Type getKeyType() {
@@ -592,15 +800,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -79,7 +79,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
         attributes = new AttributeMapValueImpl(false);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
+        probableParents = Collections.emptyList();
         this.type = PredefinedTypes.TYPE_ELEMENT;
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
     }
@@ -107,7 +107,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
         attributes = new AttributeMapValueImpl(readonly);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
+        probableParents = Collections.emptyList();
 
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
     }
@@ -349,7 +349,12 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     // xml literal syntax, or after ensuring the new xml tree is not cyclic.
     private void addParent(BXml child, XmlItem thisElem) {
         if (child.getNodeType() == ELEMENT) {
-            ((XmlItem) child).probableParents.add(new WeakReference<>(thisElem));
+            XmlItem childElem = (XmlItem) child;
+            // Most elements have at most one parent, hence the list is only allocated on the first parent.
+            if (childElem.probableParents.isEmpty()) {
+                childElem.probableParents = new ArrayList<>(1);
+            }
+            childElem.probableParents.add(new WeakReference<>(thisElem));
         }
     }
 
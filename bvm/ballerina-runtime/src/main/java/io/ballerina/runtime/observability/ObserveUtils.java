@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.configurable.ConfigMap;
 import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.metrics.MetricCallSite;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import io.opentelemetry.api.common.Attributes;
 
@@ -62,6 +63,7 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_TRUE
  * @since 0.985.0
  */
 public class ObserveUtils {
+    private static final long NO_CALL_SITE_ID = -1;
     private static final List<BallerinaObserver> observers = new CopyOnWriteArrayList<>();
     private static final boolean enabled;
     private static final boolean metricsEnabled;
@@ -149,6 +151,27 @@ public class ObserveUtils {
     public static void startResourceObservation(Environment env, BString module, BString position,
                                                 BString serviceName, BString resourcePathOrFunction,
                                                 BString resourceAccessor, boolean isResource, boolean isRemote) {
+        startResourceObservation(env, module, position, serviceName, resourcePathOrFunction, resourceAccessor,
+                isResource, isRemote, NO_CALL_SITE_ID);
+    }
+
+    /**
+     * Start observation of a resource invocation made from an instrumented call site.
+     *
+     * @param env                    Ballerina environment
+     * @param module                 The module the resource belongs to
+     * @param position               The source code position the resource in defined in
+     * @param serviceName            Name of the service to which the observer context belongs
+     * @param resourcePathOrFunction Full path of the resource
+     * @param resourceAccessor       Accessor of the resource
+     * @param isResource             True if this was a resource function invocation
+     * @param isRemote               True if this was a remote function invocation
+     * @param callSiteId             The id of the call site within the module, used for caching metrics
+     */
+    public static void startResourceObservation(Environment env, BString module, BString position,
+                                                BString serviceName, BString resourcePathOrFunction,
+                                                BString resourceAccessor, boolean isResource, boolean isRemote,
+                                                long callSiteId) {
         if (!enabled) {
             return;
         }
@@ -217,6 +240,7 @@ public class ObserveUtils {
                     observerContext.getEntrypointResourceAccessor());
         }
 
+        setMetricCallSite(observerContext, module, callSiteId);
         observerContext.setServer();
         observerContext.setStarted();
         for (BallerinaObserver observer : observers) {
@@ -309,6 +333,26 @@ public class ObserveUtils {
     public static void startCallableObservation(Environment env, BString module, BString position,
                                                 BObject typeDef, BString functionName, boolean isMainEntryPoint,
                                                 boolean isRemote, boolean isWorker) {
+        startCallableObservation(env, module, position, typeDef, functionName, isMainEntryPoint, isRemote, isWorker,
+                NO_CALL_SITE_ID);
+    }
+
+    /**
+     * Start observability for the synchronous function/action invocations made from an instrumented call site.
+     *
+     * @param env              Ballerina environment
+     * @param module           The module the resource belongs to
+     * @param position         The source code position the resource in defined in
+     * @param typeDef          The type definition the function was attached to
+     * @param functionName     name of the function being invoked
+     * @param isMainEntryPoint True if this was a main entry point invocation
+     * @param isRemote         True if this was a remote function invocation
+     * @param isWorker         True if this was a worker start
+     * @param callSiteId       The id of the call site within the module, used for caching metrics
+     */
+    public static void startCallableObservation(Environment env, BString module, BString position,
+                                                BObject typeDef, BString functionName, boolean isMainEntryPoint,
+                                                boolean isRemote, boolean isWorker, long callSiteId) {
         if (!enabled) {
             return;
         }
@@ -366,12 +410,19 @@ public class ObserveUtils {
             newObContext.addTag(TAG_KEY_ENTRYPOINT_RESOURCE_ACCESSOR, newObContext.getEntrypointResourceAccessor());
         }
 
+        setMetricCallSite(newObContext, module, callSiteId);
         newObContext.setStarted();
         for (BallerinaObserver observer : observers) {
             observer.startClientObservation(newObContext);
         }
     }
 
+    private static void setMetricCallSite(ObserverContext observerContext, BString module, long callSiteId) {
+        if (metricsEnabled && callSiteId >= 0) {
+            observerContext.setMetricCallSite(MetricCallSite.get(module.getValue(), (int) callSiteId));
+        }
+    }
+
     /**
      * Get context properties of the observer context.
      *
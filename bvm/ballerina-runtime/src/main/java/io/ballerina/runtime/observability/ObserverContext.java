@@ -17,9 +17,12 @@
  */
 package io.ballerina.runtime.observability;
 
+import io.ballerina.runtime.observability.metrics.MetricCallSite;
 import io.ballerina.runtime.observability.metrics.Tag;
 import io.ballerina.runtime.observability.tracer.BSpan;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -43,6 +46,8 @@ public class ObserverContext {
      */
     private final Map<String, Tag> tags;
 
+    private final Collection<Tag> tagValues;
+
     /**
      * {@link Map} of custom Tags, which are relevant to metrics  .
      */
@@ -72,9 +77,12 @@ public class ObserverContext {
 
     private boolean isSystemSpan;
 
+    private MetricCallSite metricCallSite;
+
     public ObserverContext() {
         this.properties = new HashMap<>();
         this.tags = new HashMap<>();
+        this.tagValues = Collections.unmodifiableCollection(tags.values());
     }
 
     public void addProperty(String key, Object value) {
@@ -99,6 +107,23 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Get a read-only view of the tags of this context, without copying them.
+     *
+     * @return The tags of this context
+     */
+    public Collection<Tag> getTagValues() {
+        return tagValues;
+    }
+
+    public MetricCallSite getMetricCallSite() {
+        return metricCallSite;
+    }
+
+    public void setMetricCallSite(MetricCallSite metricCallSite) {
+        this.metricCallSite = metricCallSite;
+    }
+
     public BSpan getSpan() {
         return span;
     }
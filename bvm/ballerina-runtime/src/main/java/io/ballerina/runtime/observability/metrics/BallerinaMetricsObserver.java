@@ -22,6 +22,7 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +43,14 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
 
+    private static final Tag[] STATUS_CODE_GROUP_TAGS = new Tag[10];
+
+    static {
+        for (int i = 0; i < STATUS_CODE_GROUP_TAGS.length; i++) {
+            STATUS_CODE_GROUP_TAGS[i] = Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, i + STATUS_CODE_GROUP_SUFFIX);
+        }
+    }
+
     private static final StatisticConfig[] responseTimeStatisticConfigs = new StatisticConfig[]{
             StatisticConfig.builder()
                     .expiry(Duration.ofMinutes(1))
@@ -87,10 +96,24 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private void startObservation(ObserverContext observerContext) {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        MetricCallSite callSite = observerContext.getMetricCallSite();
+        Set<Tag> tags = null;
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = null;
+            if (callSite != null) {
+                MetricCallSite.Entry entry = findInProgressGauge(callSite, observerContext);
+                if (entry != null) {
+                    inProgressGauge = (Gauge) entry.metrics[0];
+                }
+            }
+            if (inProgressGauge == null) {
+                tags = TagSet.of(observerContext.getTagValues());
+                inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                        tags));
+                if (callSite != null) {
+                    callSite.inProgressGauges.add((TagSet) tags, new Metric[]{inProgressGauge});
+                }
+            }
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -99,37 +122,161 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
              */
             observerContext.addProperty(PROPERTY_IN_PROGRESS_COUNTER, inProgressGauge);
         } catch (RuntimeException e) {
-            handleError("inprogress_requests", tags, e);
+            handleError("inprogress_requests", tags != null ? tags : observerContext.getAllTags(), e);
         }
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
         Map<String, Tag> customTags = observerContext.customMetricTags;
-        if (customTags != null) {
-            tags.addAll(customTags.values());
-        }
-        tags.addAll(observerContext.getAllTags());
-
         // Add status_code_group tag
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
+        Tag statusCodeGroupTag = null;
         if (statusCode != null && statusCode > 0) {
-            tags.add(Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, (statusCode / 100) + STATUS_CODE_GROUP_SUFFIX));
+            statusCodeGroupTag = getStatusCodeGroupTag(statusCode);
         }
 
+        MetricCallSite callSite = observerContext.getMetricCallSite();
+        Set<Tag> tags = null;
         try {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+
+            Metric[] metrics = null;
+            if (callSite != null) {
+                MetricCallSite.Entry entry = findResponseMetrics(callSite, observerContext, customTags,
+                        statusCodeGroupTag);
+                if (entry != null) {
+                    metrics = entry.metrics;
+                }
+            }
+            if (metrics == null) {
+                tags = getResponseTags(observerContext, customTags, statusCodeGroupTag);
+                metrics = new Metric[]{
+                        metricRegistry.gauge(new MetricId("response_time_seconds",
+                                "Response time", tags), responseTimeStatisticConfigs),
+                        metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                                "Total response response time for all requests", tags)),
+                        metricRegistry.counter(new MetricId("requests_total",
+                                "Total number of requests", tags))
+                };
+                if (callSite != null) {
+                    callSite.responseMetrics.add((TagSet) tags, metrics);
+                }
+            }
+            ((Gauge) metrics[0]).setValue(duration / 1E9);
+            ((Counter) metrics[1]).increment(duration);
+            ((Counter) metrics[2]).increment();
         } catch (RuntimeException e) {
-            handleError("multiple metrics", tags, e);
+            handleError("multiple metrics", tags != null ? tags :
+                    getResponseTags(observerContext, customTags, statusCodeGroupTag), e);
+        }
+    }
+
+    private static TagSet getResponseTags(ObserverContext observerContext, Map<String, Tag> customTags,
+                                          Tag statusCodeGroupTag) {
+        Set<Tag> tags = new HashSet<>();
+        if (customTags != null) {
+            tags.addAll(customTags.values());
+        }
+        tags.addAll(observerContext.getTagValues());
+        if (statusCodeGroupTag != null) {
+            tags.add(statusCodeGroupTag);
+        }
+        return TagSet.of(tags);
+    }
+
+    private static Tag getStatusCodeGroupTag(int statusCode) {
+        int statusCodeGroup = statusCode / 100;
+        if (statusCodeGroup < STATUS_CODE_GROUP_TAGS.length) {
+            return STATUS_CODE_GROUP_TAGS[statusCodeGroup];
+        }
+        return Tag.of(TAG_KEY_HTTP_STATUS_CODE_GROUP, statusCodeGroup + STATUS_CODE_GROUP_SUFFIX);
+    }
+
+    /**
+     * Find the cached in-progress gauge created with exactly the tags of the observer context.
+     */
+    private static MetricCallSite.Entry findInProgressGauge(MetricCallSite callSite,
+                                                            ObserverContext observerContext) {
+        MetricCallSite.Entry[] entries = callSite.inProgressGauges.entries();
+        if (entries.length == 0) {
+            return null;
+        }
+        Collection<Tag> contextTags = observerContext.getTagValues();
+        // Context tags are keyed by the tag key, hence they are always distinct
+        int hash = 0;
+        for (Tag tag : contextTags) {
+            hash += tag.hashCode();
+        }
+        int size = contextTags.size();
+        for (MetricCallSite.Entry entry : entries) {
+            TagSet entryTags = entry.tags;
+            if (entryTags.hashCode() == hash && entryTags.size() == size && containsAll(entryTags, contextTags)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the cached response metrics created with exactly the union of the custom tags, the tags of the observer
+     * context and the status code group tag, without building that union.
+     */
+    private static MetricCallSite.Entry findResponseMetrics(MetricCallSite callSite, ObserverContext observerContext,
+                                                            Map<String, Tag> customTags, Tag statusCodeGroupTag) {
+        MetricCallSite.Entry[] entries = callSite.responseMetrics.entries();
+        if (entries.length == 0) {
+            return null;
+        }
+        Collection<Tag> contextTags = observerContext.getTagValues();
+        int hash = 0;
+        int size = 0;
+        if (customTags != null) {
+            for (Tag tag : customTags.values()) {
+                hash += tag.hashCode();
+                size++;
+            }
+        }
+        for (Tag tag : contextTags) {
+            // A context tag equal to a custom tag is only counted once in the union
+            if (!isCustomTag(customTags, tag)) {
+                hash += tag.hashCode();
+                size++;
+            }
+        }
+        boolean hasStatusCodeGroupTag = statusCodeGroupTag != null
+                && !isCustomTag(customTags, statusCodeGroupTag)
+                && !statusCodeGroupTag.equals(observerContext.getTag(statusCodeGroupTag.getKey()));
+        if (hasStatusCodeGroupTag) {
+            hash += statusCodeGroupTag.hashCode();
+            size++;
+        }
+        for (MetricCallSite.Entry entry : entries) {
+            TagSet entryTags = entry.tags;
+            if (entryTags.hashCode() != hash || entryTags.size() != size) {
+                continue;
+            }
+            if ((customTags == null || containsAll(entryTags, customTags.values()))
+                    && containsAll(entryTags, contextTags)
+                    && (!hasStatusCodeGroupTag || entryTags.contains(statusCodeGroupTag))) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCustomTag(Map<String, Tag> customTags, Tag tag) {
+        return customTags != null && tag.equals(customTags.get(tag.getKey()));
+    }
+
+    private static boolean containsAll(TagSet tagSet, Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            if (!tagSet.contains(tag)) {
+                return false;
+            }
         }
+        return true;
     }
 
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Metric handles resolved for the observations started at a single instrumented call site.
+ * <p>
+ * Observations started at the same call site usually report the same tags, hence the {@link Metric Metrics}
+ * resolved from the {@link MetricRegistry} are cached against the {@link TagSet} they were created with. Call
+ * sites are identified by the module they belong to and an id assigned to them by the code generator.
+ *
+ * @since 2.0.0
+ */
+public final class MetricCallSite {
+
+    private static final ConcurrentMap<String, MetricCallSite[]> CALL_SITES = new ConcurrentHashMap<>();
+
+    final Handles inProgressGauges = new Handles();
+    final Handles responseMetrics = new Handles();
+
+    private MetricCallSite() {
+    }
+
+    /**
+     * Get the call site with the given id of a module.
+     *
+     * @param module     The module the call site belongs to
+     * @param callSiteId The id of the call site within the module
+     * @return The {@link MetricCallSite} for the call site
+     */
+    public static MetricCallSite get(String module, int callSiteId) {
+        MetricCallSite[] callSites = CALL_SITES.get(module);
+        if (callSites != null && callSiteId < callSites.length) {
+            MetricCallSite callSite = callSites[callSiteId];
+            if (callSite != null) {
+                return callSite;
+            }
+        }
+        return create(module, callSiteId);
+    }
+
+    private static synchronized MetricCallSite create(String module, int callSiteId) {
+        MetricCallSite[] callSites = CALL_SITES.get(module);
+        if (callSites != null && callSiteId < callSites.length && callSites[callSiteId] != null) {
+            return callSites[callSiteId];
+        }
+        // Copy on write, so that readers always see fully populated arrays
+        MetricCallSite[] newCallSites = callSites == null ? new MetricCallSite[callSiteId + 1] :
+                Arrays.copyOf(callSites, Math.max(callSites.length, callSiteId + 1));
+        MetricCallSite callSite = new MetricCallSite();
+        newCallSites[callSiteId] = callSite;
+        CALL_SITES.put(module, newCallSites);
+        return callSite;
+    }
+
+    /**
+     * Cached metric handles of a call site, by the tags they were created with.
+     */
+    static final class Handles {
+
+        private static final int MAX_ENTRIES = 32;
+        private static final Entry[] EMPTY = new Entry[0];
+
+        private volatile Entry[] entries = EMPTY;
+
+        Entry[] entries() {
+            return entries;
+        }
+
+        synchronized void add(TagSet tags, Metric[] metrics) {
+            Entry[] current = entries;
+            if (current.length >= MAX_ENTRIES) {
+                // Tags vary too much at this call site, leave the rest to the registry
+                return;
+            }
+            for (Entry entry : current) {
+                if (entry.tags.equals(tags)) {
+                    return;
+                }
+            }
+            Entry[] newEntries = Arrays.copyOf(current, current.length + 1);
+            newEntries[current.length] = new Entry(tags, metrics);
+            entries = newEntries;
+        }
+    }
+
+    /**
+     * Metric handles created with a particular set of tags.
+     */
+    static final class Entry {
+
+        final TagSet tags;
+        final Metric[] metrics;
+
+        Entry(TagSet tags, Metric[] metrics) {
+            this.tags = tags;
+            this.metrics = metrics;
+        }
+    }
+}
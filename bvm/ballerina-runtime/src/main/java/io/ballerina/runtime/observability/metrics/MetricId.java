@@ -42,7 +42,10 @@ public class MetricId {
             throw new IllegalArgumentException("Name is required.");
         }
         this.name = name;
-        if (tags != null) {
+        if (tags instanceof TagSet) {
+            // Already immutable, and its hash code is cached
+            this.tags = tags;
+        } else if (tags != null) {
             this.tags = Collections.unmodifiableSet(tags);
         } else {
             this.tags = Collections.emptySet();
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.metrics;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable set of {@link Tag Tags} with a cached hash code.
+ * <p>
+ * Tag sets created through {@link #of(Collection)} are interned, so that the metric ids built for the same tags
+ * share a single instance and can be compared by identity.
+ *
+ * @since 2.0.0
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final int MAX_INTERNED_TAG_SETS = 10000;
+    private static final ConcurrentMap<TagSet, TagSet> INTERNED = new ConcurrentHashMap<>();
+
+    private final Set<Tag> tags;
+    private final int hashCode;
+
+    private TagSet(Set<Tag> tags) {
+        this.tags = tags;
+        // Same as AbstractSet#hashCode, computed once as the set is immutable
+        int hash = 0;
+        for (Tag tag : tags) {
+            hash += tag.hashCode();
+        }
+        this.hashCode = hash;
+    }
+
+    /**
+     * Get the interned tag set containing the given tags.
+     *
+     * @param tags The tags to be contained in the set
+     * @return The interned {@link TagSet}
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        TagSet tagSet = new TagSet(new HashSet<>(tags));
+        TagSet interned = INTERNED.get(tagSet);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNED.size() >= MAX_INTERNED_TAG_SETS) {
+            // Avoid holding on to high cardinality tag sets forever
+            return tagSet;
+        }
+        interned = INTERNED.putIfAbsent(tagSet, tagSet);
+        return interned != null ? interned : tagSet;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return tags.contains(o);
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        Iterator<Tag> iterator = tags.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Tag next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof TagSet && hashCode != o.hashCode()) {
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link StrandProfiler}.
+ */
+public class StrandProfilerTests {
+
+    private static final long INTERVAL_MILLIS = 10;
+
+    @Test
+    public void testCpuTimeBeforeRegistrationIsNotAttributed() throws Exception {
+        StrandProfiler profiler = createProfiler();
+        Strand strand = new Strand("idle", null, null, null, null);
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch sampled = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            spin(TimeUnit.MILLISECONDS.toNanos(300));
+            profiler.registerWorker(Thread.currentThread(), () -> strand, false);
+            registered.countDown();
+            awaitQuietly(sampled);
+        });
+        thread.start();
+        try {
+            registered.await();
+            profiler.sample();
+        } finally {
+            sampled.countDown();
+            thread.join();
+        }
+        Assert.assertTrue(getTotal(profiler.getCpuProfile()) < TimeUnit.MILLISECONDS.toMicros(100),
+                          "CPU time spent before the worker was registered was attributed");
+        Assert.assertEquals(profiler.getNumberOfSamples(), 1);
+    }
+
+    @Test
+    public void testSampleRunningWorker() throws Exception {
+        if (!ManagementFactory.getThreadMXBean().isThreadCpuTimeSupported()) {
+            return;
+        }
+        StrandProfiler profiler = createProfiler();
+        Strand strand = new Strand("busy", null, null, null, null);
+        CountDownLatch registered = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            profiler.registerWorker(Thread.currentThread(), () -> strand, false);
+            registered.countDown();
+            spin(TimeUnit.MILLISECONDS.toNanos(200));
+        });
+        thread.start();
+        registered.await();
+        Thread.sleep(100);
+        profiler.sample();
+        thread.join();
+        String profile = write(profiler.getCpuProfile());
+        Assert.assertTrue(profile.startsWith("strand busy;"), profile);
+    }
+
+    @Test
+    public void testUnregisteredWorkerIsNotSampled() throws Exception {
+        StrandProfiler profiler = createProfiler();
+        Strand strand = new Strand("unregistered", null, null, null, null);
+        CountDownLatch unregistered = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            profiler.registerWorker(Thread.currentThread(), () -> strand, false);
+            profiler.unregisterWorker(Thread.currentThread());
+            unregistered.countDown();
+            spin(TimeUnit.MILLISECONDS.toNanos(200));
+        });
+        thread.start();
+        unregistered.await();
+        Thread.sleep(100);
+        profiler.sample();
+        thread.join();
+        Assert.assertTrue(profiler.getCpuProfile().isEmpty());
+    }
+
+    @Test
+    public void testSampleVirtualWorker() throws Exception {
+        StrandProfiler profiler = createProfiler();
+        Strand strand = new Strand("virtual", null, null, null, null);
+        CountDownLatch registered = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            profiler.registerWorker(Thread.currentThread(), () -> strand, true);
+            registered.countDown();
+            spin(TimeUnit.MILLISECONDS.toNanos(200));
+        });
+        thread.start();
+        registered.await();
+        Thread.sleep(50);
+        profiler.sample();
+        thread.join();
+        // the JVM does not measure CPU time of virtual threads, each runnable sample counts as an interval
+        Assert.assertEquals(getTotal(profiler.getCpuProfile()), TimeUnit.MILLISECONDS.toMicros(INTERVAL_MILLIS));
+        Assert.assertTrue(write(profiler.getCpuProfile()).startsWith("strand virtual;"));
+    }
+
+    private static StrandProfiler createProfiler() {
+        return new StrandProfiler(Paths.get("profile"), INTERVAL_MILLIS);
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        long counter = 0;
+        while (System.nanoTime() < end) {
+            counter++;
+        }
+        if (counter < 0) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long getTotal(StackProfile profile) throws IOException {
+        long total = 0;
+        for (String line : write(profile).split("\n")) {
+            if (!line.isEmpty()) {
+                total += Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+            }
+        }
+        return total;
+    }
+
+    private static String write(StackProfile profile) throws IOException {
+        StringWriter writer = new StringWriter();
+        profile.write(writer);
+        return writer.toString();
+    }
+}
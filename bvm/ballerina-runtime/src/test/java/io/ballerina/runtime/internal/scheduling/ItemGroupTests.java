@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the lock-free item stack of {@link ItemGroup}.
+ */
+public class ItemGroupTests {
+
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int ITEMS_PER_PRODUCER = 50_000;
+
+    @Test
+    public void testLifoOrder() {
+        SchedulerItem first = newItem();
+        SchedulerItem second = newItem();
+        ItemGroup group = new ItemGroup(first);
+        group.add(second);
+
+        Assert.assertSame(group.get(), second);
+        Assert.assertSame(group.get(), first);
+        Assert.assertNull(group.get());
+        Assert.assertTrue(group.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentAddAndGet() throws InterruptedException {
+        SchedulerItem initial = newItem();
+        ItemGroup group = new ItemGroup(initial);
+        List<SchedulerItem> added = new ArrayList<>();
+        added.add(initial);
+        List<List<SchedulerItem>> producerItems = new ArrayList<>();
+        for (int i = 0; i < PRODUCERS; i++) {
+            List<SchedulerItem> items = new ArrayList<>(ITEMS_PER_PRODUCER);
+            for (int j = 0; j < ITEMS_PER_PRODUCER; j++) {
+                items.add(newItem());
+            }
+            producerItems.add(items);
+            added.addAll(items);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger runningProducers = new AtomicInteger(PRODUCERS);
+        ConcurrentLinkedQueue<SchedulerItem> taken = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (List<SchedulerItem> items : producerItems) {
+            threads.add(new Thread(() -> {
+                await(start);
+                for (SchedulerItem item : items) {
+                    group.add(item);
+                }
+                runningProducers.decrementAndGet();
+            }));
+        }
+        for (int i = 0; i < CONSUMERS; i++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                while (runningProducers.get() > 0 || !group.isEmpty()) {
+                    SchedulerItem item = group.get();
+                    if (item != null) {
+                        taken.add(item);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertTrue(group.isEmpty());
+        Assert.assertEquals(taken.size(), added.size());
+        Map<SchedulerItem, Boolean> seen = new IdentityHashMap<>();
+        for (SchedulerItem item : taken) {
+            Assert.assertNull(seen.put(item, Boolean.TRUE), "item taken more than once");
+        }
+        for (SchedulerItem item : added) {
+            Assert.assertTrue(seen.containsKey(item), "item lost");
+        }
+    }
+
+    private static SchedulerItem newItem() {
+        return new SchedulerItem(params -> null, new Object[0], null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for the exclusive and shared modes of {@link BLock}.
+ */
+public class BLockTests {
+
+    private final Scheduler scheduler = new Scheduler(1, false);
+
+    @Test
+    public void testSharedHoldersDoNotExcludeEachOther() {
+        BLock lock = new BLock();
+        Strand reader1 = newStrand();
+        Strand reader2 = newStrand();
+        Strand writer = newStrand();
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertTrue(isBlocked(writer));
+
+        lock.unlockShared();
+        Assert.assertTrue(isBlocked(writer));
+        lock.unlockShared();
+        Assert.assertFalse(isBlocked(writer));
+
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lockedBySameContext(writer));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testWaitingWriterBlocksNewReaders() {
+        BLock lock = new BLock();
+        Strand reader1 = newStrand();
+        Strand reader2 = newStrand();
+        Strand reader3 = newStrand();
+        Strand writer = newStrand();
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertFalse(lock.lockShared(reader2));
+        Assert.assertFalse(lock.lockShared(reader3));
+
+        // The writer is handed the lock ahead of the readers which arrived after it.
+        lock.unlockShared();
+        Assert.assertFalse(isBlocked(writer));
+        Assert.assertTrue(isBlocked(reader2));
+        Assert.assertTrue(lock.lock(writer));
+
+        // Both waiting readers are handed the lock together.
+        lock.unlock();
+        Assert.assertFalse(isBlocked(reader2));
+        Assert.assertFalse(isBlocked(reader3));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertTrue(lock.lockShared(reader3));
+        lock.unlockShared();
+        Assert.assertFalse(lock.isLockFree());
+        lock.unlockShared();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testReleaseUnblocksOneWriter() {
+        BLock lock = new BLock();
+        Strand owner = newStrand();
+        Strand writer1 = newStrand();
+        Strand writer2 = newStrand();
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(writer1));
+        Assert.assertFalse(lock.lock(writer2));
+
+        lock.unlock();
+        Assert.assertTrue(isBlocked(writer1));
+        lock.unlock();
+        Assert.assertFalse(isBlocked(writer1));
+        Assert.assertTrue(isBlocked(writer2));
+
+        Assert.assertTrue(lock.lock(writer1));
+        lock.unlock();
+        Assert.assertFalse(isBlocked(writer2));
+        Assert.assertTrue(lock.lock(writer2));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testConcurrentReadersAndWriters() throws InterruptedException {
+        BLock lock = new BLock();
+        AtomicInteger readers = new AtomicInteger();
+        AtomicInteger writers = new AtomicInteger();
+        AtomicBoolean violated = new AtomicBoolean();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            boolean shared = i % 4 != 0;
+            Strand strand = newStrand();
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 20_000; j++) {
+                    if (shared) {
+                        while (!lock.lockShared(strand)) {
+                            awaitUnblocked(strand);
+                        }
+                        readers.incrementAndGet();
+                        if (writers.get() != 0) {
+                            violated.set(true);
+                        }
+                        readers.decrementAndGet();
+                        lock.unlockShared();
+                    } else {
+                        while (!lock.lock(strand)) {
+                            awaitUnblocked(strand);
+                        }
+                        if (writers.incrementAndGet() != 1 || readers.get() != 0) {
+                            violated.set(true);
+                        }
+                        writers.decrementAndGet();
+                        lock.unlock();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertFalse(violated.get());
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    private Strand newStrand() {
+        Function<Object[], Object> function = params -> null;
+        return scheduler.schedule(new Object[1], function, null, null, "lock-test", null).strand;
+    }
+
+    private static boolean isBlocked(Strand strand) {
+        strand.lock();
+        try {
+            return strand.getState() == State.BLOCK_AND_YIELD;
+        } finally {
+            strand.unlock();
+        }
+    }
+
+    private static void awaitUnblocked(Strand strand) {
+        while (isBlocked(strand)) {
+            Thread.yield();
+        }
+        strand.setState(State.RUNNABLE);
+    }
+}
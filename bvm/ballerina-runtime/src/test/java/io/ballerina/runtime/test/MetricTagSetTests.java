@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.observability.metrics.MetricCallSite;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.TagSet;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test cases for {@link TagSet} and {@link MetricCallSite}.
+ */
+public class MetricTagSetTests {
+
+    @Test
+    public void testTagSetEquality() {
+        List<Tag> tags = Arrays.asList(Tag.of("src.module", "foo/bar:1.0.0"), Tag.of("src.position", "main.bal:3:5"),
+                Tag.of("http.status_code_group", "2xx"));
+        Set<Tag> hashSet = new HashSet<>(tags);
+        TagSet tagSet = TagSet.of(tags);
+
+        Assert.assertEquals(tagSet, hashSet);
+        Assert.assertEquals(hashSet, tagSet);
+        Assert.assertEquals(tagSet.hashCode(), hashSet.hashCode());
+        Assert.assertSame(TagSet.of(hashSet), tagSet);
+        Assert.assertNotEquals(TagSet.of(tags.subList(0, 2)), tagSet);
+
+        MetricId id = new MetricId("requests_total", "Total number of requests", tagSet);
+        MetricId otherId = new MetricId("requests_total", "Total number of requests", hashSet);
+        Assert.assertEquals(id, otherId);
+        Assert.assertEquals(id.hashCode(), otherId.hashCode());
+        Assert.assertSame(id.getTags(), tagSet);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testTagSetIsImmutable() {
+        TagSet.of(Arrays.asList(Tag.of("key", "value"))).add(Tag.of("other", "value"));
+    }
+
+    @Test
+    public void testCallSiteLookup() {
+        MetricCallSite callSite = MetricCallSite.get("foo/bar:1.0.0", 3);
+        Assert.assertSame(MetricCallSite.get("foo/bar:1.0.0", 3), callSite);
+        Assert.assertSame(MetricCallSite.get("foo/bar:1.0.0", 7), MetricCallSite.get("foo/bar:1.0.0", 7));
+        Assert.assertSame(MetricCallSite.get("foo/bar:1.0.0", 3), callSite);
+        Assert.assertNotSame(MetricCallSite.get("foo/baz:1.0.0", 3), callSite);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.profiler.StackProfile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Test cases for {@link StackProfile}.
+ */
+public class StackProfileTests {
+
+    @Test
+    public void testCollapseStackTrace() {
+        StackTraceElement[] stackTrace = new StackTraceElement[]{
+                new StackTraceElement("java.util.HashMap", "put", "HashMap.java", 10),
+                new StackTraceElement("foo.bar.0_1_0.main", "process", "main.bal", 12),
+                new StackTraceElement("io.ballerina.runtime.internal.scheduling.Scheduler", "run", "Scheduler.java", 3),
+                new StackTraceElement("foo.bar.0_1_0.main", "main", "main.bal", 5)
+        };
+        Assert.assertEquals(StackProfile.collapse("strand worker", stackTrace),
+                            "strand worker;foo.bar.0_1_0:main (main.bal:5);" +
+                                    "foo.bar.0_1_0:process (main.bal:12);[java] java.util.HashMap.put");
+        Assert.assertEquals(StackProfile.collapse(null, new StackTraceElement[]{stackTrace[1], stackTrace[3]}),
+                            "foo.bar.0_1_0:main (main.bal:5);foo.bar.0_1_0:process (main.bal:12)");
+    }
+
+    @Test
+    public void testWriteProfile() throws IOException {
+        StackProfile profile = new StackProfile();
+        Assert.assertTrue(profile.isEmpty());
+        profile.add("main;process", 10);
+        profile.add("main", 5);
+        profile.add("main;process", 2);
+        profile.add("main;idle", 0);
+        StringWriter writer = new StringWriter();
+        profile.write(writer);
+        Assert.assertEquals(writer.toString(), "main 5\nmain;process 12\n");
+    }
+}
@@ -1,5 +1,8 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BuilderStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +43,84 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatNonBmpSurrogateLocations() {
+        BString str = StringUtils.fromString("a").concat(SUBJECT).concat(SUBJECT);
+        Assert.assertEquals(str.length(), 33);
+        Assert.assertEquals(str.getCodePoint(2), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(32), 'r');
+        Assert.assertEquals(str.getCodePoint(31), 0x1F47D);
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            BString part = i % 100 == 0 ? SUBJECT : StringUtils.fromString(Integer.toString(i));
+            str = str.concat(part);
+            expected.append(part.getValue());
+        }
+
+        Assert.assertTrue(str instanceof BuilderStringValue);
+        BString expectedStr = StringUtils.fromString(expected.toString());
+        Assert.assertEquals(str.length(), expectedStr.length());
+        Assert.assertEquals(str.getValue(), expectedStr.getValue());
+        Assert.assertEquals(str.hashCode(), expectedStr.hashCode());
+        Assert.assertEquals(str, expectedStr);
+        Assert.assertEquals(str.getCodePoint(expectedStr.length() - 1),
+                            expectedStr.getCodePoint(expectedStr.length() - 1));
+        Assert.assertEquals(str.concat(SUBJECT).getValue(), expected + UNICODE_STR);
+    }
+
+    @Test
+    void testConcatToEarlierString() {
+        BString base = StringUtils.fromString(new String(new char[300]).replace('\0', 'x'));
+        BString first = base.concat(StringUtils.fromString("first"));
+        BString longer = first.concat(StringUtils.fromString("-longer"));
+        BString second = first.concat(StringUtils.fromString("-second"));
+
+        Assert.assertEquals(first.getValue(), base.getValue() + "first");
+        Assert.assertEquals(longer.getValue(), base.getValue() + "first-longer");
+        Assert.assertEquals(second.getValue(), base.getValue() + "first-second");
+        Assert.assertEquals(first.concat(StringUtils.fromString("!")).getValue(), base.getValue() + "first!");
+    }
+
+    @Test
+    void testConcatThresholdInCodePoints() {
+        // 200 code points, 400 chars
+        BString nonBmp = StringUtils.fromString(new String(new char[200]).replace("\0", "\uD83D\uDC7D"));
+        BString belowThreshold = nonBmp.concat(StringUtils.fromString("a"));
+        Assert.assertTrue(belowThreshold instanceof NonBmpStringValue);
+        Assert.assertEquals(belowThreshold.length(), 201);
+
+        BString padding = StringUtils.fromString(new String(new char[55]).replace('\0', 'x'));
+        BString atThreshold = belowThreshold.concat(padding);
+        Assert.assertTrue(atThreshold instanceof BuilderStringValue);
+        Assert.assertEquals(atThreshold.length(), 256);
+        Assert.assertEquals(atThreshold.getCodePoint(200), 'a');
+    }
+
+    @Test
+    void testPrefixesAcrossFullBuffers() {
+        BString str = StringUtils.fromString(new String(new char[300]).replace('\0', 'x'));
+        StringBuilder expected = new StringBuilder(str.getValue());
+        BString[] prefixes = new BString[2000];
+        String[] expectedPrefixes = new String[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            // parts of growing size fill the buffer regularly
+            BString part = StringUtils.fromString(new String(new char[i % 50]).replace('\0', (char) ('a' + i % 26)));
+            str = str.concat(part);
+            expected.append(part.getValue());
+            prefixes[i] = str;
+            expectedPrefixes[i] = expected.toString();
+        }
+
+        for (int i = prefixes.length - 1; i >= 0; i -= 7) {
+            Assert.assertEquals(prefixes[i].length(), expectedPrefixes[i].length());
+            Assert.assertEquals(prefixes[i].getValue(), expectedPrefixes[i]);
+            Assert.assertEquals(prefixes[i].concat(StringUtils.fromString("!")).getValue(), expectedPrefixes[i] + "!");
+        }
+    }
+
 }
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for the row storage and the secondary indexes of {@link TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final Module MODULE = new Module("testOrg", "tableTest", "1.0.0");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString TENANT = StringUtils.fromString("tenant");
+
+    @Test
+    public void testKeysWithSameHash() {
+        // "Aa" and "BB" have the same hash code
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(NAME);
+        table.add(createRow(1, "Aa"));
+        table.add(createRow(2, "BB"));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.get(StringUtils.fromString("Aa")).get(ID), 1L);
+        Assert.assertEquals(table.get(StringUtils.fromString("BB")).get(ID), 2L);
+
+        table.remove(StringUtils.fromString("Aa"));
+        Assert.assertFalse(table.containsKey(StringUtils.fromString("Aa")));
+        Assert.assertEquals(table.get(StringUtils.fromString("BB")).get(ID), 2L);
+    }
+
+    @Test
+    public void testInsertionOrderWithReplaceAndRemove() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(ID);
+        for (int i = 0; i < 5; i++) {
+            table.add(createRow(i, "row" + i));
+        }
+
+        table.put(createRow(2, "updated"));
+        table.remove(0L);
+        table.remove(3L);
+        table.add(createRow(0, "readded"));
+
+        Assert.assertEquals(table.getKeys(), new Object[]{1L, 2L, 4L, 0L});
+        Assert.assertEquals(table.get(2L).get(NAME).toString(), "updated");
+        Assert.assertEquals(table.getNextKey(), 5L);
+    }
+
+    @Test
+    public void testMatchesInsertionOrderedMap() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(ID);
+        Map<Long, String> expected = new LinkedHashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                table.remove(id);
+                expected.remove(id);
+            } else {
+                String name = "row" + i;
+                table.put(createRow(id, name));
+                expected.put(id, name);
+            }
+        }
+
+        Assert.assertEquals(table.size(), expected.size());
+        Assert.assertEquals(table.getKeys(), expected.keySet().toArray());
+        List<String> names = new ArrayList<>();
+        for (MapValueImpl<BString, Object> row : table.values()) {
+            names.add(row.get(NAME).toString());
+        }
+        Assert.assertEquals(names, new ArrayList<>(expected.values()));
+    }
+
+    @Test
+    public void testRemoveAndAddDuringIteration() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(ID);
+        for (int i = 0; i < 8; i++) {
+            table.add(createRow(i, "row" + i));
+        }
+
+        IteratorValue iterator = table.getIterator();
+        List<Object> visited = new ArrayList<>();
+        visited.add(nextKey(iterator));
+        visited.add(nextKey(iterator));
+        // remove returned and pending rows, then fill the table up so that the holes are reclaimed
+        for (long id = 0; id < 4; id++) {
+            table.remove(id);
+        }
+        for (int i = 8; i < 12; i++) {
+            table.add(createRow(i, "row" + i));
+        }
+        while (iterator.hasNext()) {
+            visited.add(nextKey(iterator));
+        }
+
+        Assert.assertEquals(visited, Arrays.asList(0L, 1L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L));
+    }
+
+    @Test
+    public void testIterationMatchesInsertionOrderWhileModified() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(ID);
+        // the rows in insertion order, as (sequence, id) pairs, and the sequence of each present row
+        List<long[]> insertions = new ArrayList<>();
+        Map<Long, Long> sequences = new LinkedHashMap<>();
+        Random random = new Random(13);
+        long sequence = 0;
+        for (int i = 0; i < 50; i++) {
+            long id = random.nextInt(100);
+            if (!sequences.containsKey(id)) {
+                table.add(createRow(id, "row" + i));
+                sequences.put(id, sequence);
+                insertions.add(new long[]{sequence++, id});
+            }
+        }
+
+        IteratorValue iterator = table.getIterator();
+        long lastSequence = -1;
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            long id = random.nextInt(100);
+            if (operation == 0) {
+                table.remove(id);
+                sequences.remove(id);
+            } else if (operation == 1 && !sequences.containsKey(id)) {
+                table.add(createRow(id, "row" + i));
+                sequences.put(id, sequence);
+                insertions.add(new long[]{sequence++, id});
+            } else {
+                Long expected = null;
+                for (long[] insertion : insertions) {
+                    if (insertion[0] > lastSequence && sequences.get(insertion[1]) != null &&
+                            sequences.get(insertion[1]) == insertion[0]) {
+                        expected = insertion[1];
+                        lastSequence = insertion[0];
+                        break;
+                    }
+                }
+                Assert.assertEquals(iterator.hasNext(), expected != null);
+                if (expected != null) {
+                    Assert.assertEquals(nextKey(iterator), expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testKeylessTable() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table =
+                new TableValueImpl<>(TypeCreator.createTableType(createRowType(), false));
+        table.add(createRow(1, "a"));
+        table.add(createRow(1, "a"));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.getKeys().length, 0);
+        Assert.assertEquals(table.values().size(), 2);
+        table.clear();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertFalse(table.getIterator().hasNext());
+    }
+
+    @Test
+    public void testIndexLookupsMatchScans() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(ID);
+        table.add(createRow(100, "before index"));
+        table.addIndex(TENANT, false);
+        table.addIndex(ID, true);
+        Random random = new Random(11);
+        for (int i = 0; i < 5000; i++) {
+            long id = random.nextInt(200);
+            int operation = random.nextInt(10);
+            if (operation == 0) {
+                table.remove(id);
+            } else if (operation == 1 && table.containsKey(id)) {
+                table.put(id, createRow(id, "replaced" + i));
+            } else {
+                table.put(createRow(id, "row" + i));
+            }
+        }
+
+        for (int tenant = 0; tenant < 3; tenant++) {
+            BString tenantValue = StringUtils.fromString("t" + tenant);
+            Assert.assertEquals(table.lookupIndex(TENANT, tenantValue),
+                                scan(table, TENANT, value -> value.toString().equals(tenantValue.getValue())));
+        }
+        Assert.assertEquals(table.lookupIndex(ID, 100L), scan(table, ID, value -> (long) value == 100L));
+        Assert.assertEquals(table.rangeIndex(ID, 50L, true, 150L, false),
+                            scan(table, ID, value -> (long) value >= 50L && (long) value < 150L));
+        Assert.assertEquals(table.rangeIndex(ID, null, false, 20L, true),
+                            scan(table, ID, value -> (long) value <= 20L));
+        Assert.assertNull(table.rangeIndex(TENANT, null, false, StringUtils.fromString("t1"), false));
+
+        table.clear();
+        Assert.assertTrue(table.lookupIndex(TENANT, StringUtils.fromString("t0")).isEmpty());
+    }
+
+    @Test
+    public void testIndexOnKeylessTable() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table =
+                new TableValueImpl<>(TypeCreator.createTableType(createRowType(), false));
+        table.addIndex(TENANT, true);
+        for (int i = 0; i < 10; i++) {
+            table.add(createRow(i, "row" + i));
+        }
+
+        List<MapValueImpl<BString, Object>> rows = table.rangeIndex(TENANT, StringUtils.fromString("t1"), true,
+                                                                    null, false);
+        Assert.assertEquals(rows.stream().map(row -> row.get(ID)).collect(Collectors.toList()),
+                            Arrays.asList(1L, 2L, 4L, 5L, 7L, 8L));
+        Assert.assertEquals(table.subTable(rows).size(), 6);
+    }
+
+    @Test
+    public void testIndexOnMutableField() {
+        try {
+            createTable(ID).addIndex(NAME, false);
+            Assert.fail("expected the index to be rejected");
+        } catch (BError e) {
+            Assert.assertEquals(e.getDetails().toString(), "{\"message\":\"cannot index field 'name': field is " +
+                    "not readonly\"}");
+        }
+    }
+
+    @Test
+    public void testReplaceAcrossIndexGroups() {
+        // keyed by name, so that replacing a row could move it to another tenant
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(NAME);
+        table.addIndex(TENANT, false);
+        table.addIndex(ID, true);
+        for (int i = 0; i < 9; i++) {
+            table.add(createRow(i, "row" + i));
+        }
+
+        table.put(createRow(4, "row7"));
+        table.put(createRow(8, "row0"));
+        table.put(createRow(5, "row3"));
+        table.remove(StringUtils.fromString("row5"));
+        table.add(createRow(10, "row9"));
+
+        for (int tenant = 0; tenant < 3; tenant++) {
+            BString tenantValue = StringUtils.fromString("t" + tenant);
+            Assert.assertEquals(table.lookupIndex(TENANT, tenantValue),
+                                scan(table, TENANT, value -> value.toString().equals(tenantValue.getValue())));
+        }
+        Assert.assertEquals(table.lookupIndex(ID, 4L), scan(table, ID, value -> (long) value == 4L));
+        Assert.assertTrue(table.lookupIndex(ID, 7L).isEmpty());
+        Assert.assertEquals(table.rangeIndex(ID, 3L, true, 10L, true),
+                            scan(table, ID, value -> (long) value >= 3L));
+    }
+
+    @Test
+    public void testRemoveFromLowCardinalityIndex() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(ID);
+        table.addIndex(TENANT, false);
+        int rowCount = 60000;
+        for (int i = 0; i < rowCount; i++) {
+            table.add(createRow(i, "row" + i));
+        }
+
+        // each removal used to scan the whole group of the row
+        for (long id = 0; id < rowCount; id += 2) {
+            table.remove(id);
+        }
+        List<MapValueImpl<BString, Object>> tenantRows = table.lookupIndex(TENANT, StringUtils.fromString("t1"));
+        Assert.assertEquals(tenantRows, scan(table, TENANT, value -> value.toString().equals("t1")));
+        for (long id = 1; id < rowCount; id += 2) {
+            table.remove(id);
+        }
+        Assert.assertTrue(table.lookupIndex(TENANT, StringUtils.fromString("t1")).isEmpty());
+    }
+
+    @Test
+    public void testAddIndexWhileAdding() throws InterruptedException {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = createTable(ID);
+        int rowCount = 20000;
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < rowCount; i++) {
+                table.add(createRow(i, "row" + i));
+            }
+        });
+        writer.start();
+        table.addIndex(TENANT, false);
+        table.addIndex(ID, true);
+        writer.join();
+
+        // every row is indexed exactly once, whether it was added before or after the indexes
+        Assert.assertEquals(table.size(), rowCount);
+        for (int tenant = 0; tenant < 3; tenant++) {
+            BString tenantValue = StringUtils.fromString("t" + tenant);
+            Assert.assertEquals(table.lookupIndex(TENANT, tenantValue),
+                                scan(table, TENANT, value -> value.toString().equals(tenantValue.getValue())));
+        }
+        Assert.assertEquals(table.rangeIndex(ID, null, false, null, false), new ArrayList<>(table.values()));
+    }
+
+    private static Object nextKey(IteratorValue iterator) {
+        return ((BArray) iterator.next()).get(0);
+    }
+
+    // Rows whose field value matches the predicate, in table order
+    private static List<MapValueImpl<BString, Object>> scan(TableValueImpl<Object, MapValueImpl<BString, Object>> table,
+                                                            BString field, Predicate<Object> predicate) {
+        return table.values().stream().filter(row -> predicate.test(row.get(field))).collect(Collectors.toList());
+    }
+
+    private static TableValueImpl<Object, MapValueImpl<BString, Object>> createTable(BString keyField) {
+        TableType tableType = TypeCreator.createTableType(createRowType(), new String[]{keyField.getValue()}, false);
+        return new TableValueImpl<>(tableType);
+    }
+
+    private static RecordType createRowType() {
+        Field id = TypeCreator.createField(PredefinedTypes.TYPE_INT, ID.getValue(),
+                                           SymbolFlags.REQUIRED | SymbolFlags.READONLY);
+        Field name = TypeCreator.createField(PredefinedTypes.TYPE_STRING, NAME.getValue(), SymbolFlags.REQUIRED);
+        Field tenant = TypeCreator.createField(PredefinedTypes.TYPE_STRING, TENANT.getValue(),
+                                               SymbolFlags.REQUIRED | SymbolFlags.READONLY);
+        Map<String, Field> fields = new LinkedHashMap<>();
+        Arrays.asList(id, name, tenant).forEach(field -> fields.put(field.getFieldName(), field));
+        return TypeCreator.createRecordType("Row", MODULE, 0, fields, null, true, 0);
+    }
+
+    private static MapValueImpl<BString, Object> createRow(long id, String name) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>(createRowType());
+        row.put(ID, id);
+        row.put(NAME, StringUtils.fromString(name));
+        row.put(TENANT, StringUtils.fromString("t" + id % 3));
+        return row;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    public void testCachedUnionTypeCheck() {
+        Type sourceType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        Type targetType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BOOLEAN);
+        TypeCheckCache cache = TypeChecker.getTypeCheckCache();
+
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, PredefinedTypes.TYPE_ANYDATA));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(cache.get(sourceType, PredefinedTypes.TYPE_ANYDATA), Boolean.TRUE);
+        Assert.assertEquals(cache.get(sourceType, targetType), Boolean.FALSE);
+
+        long hitCount = cache.getHitCount();
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertTrue(cache.getHitCount() > hitCount);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        TypeCheckCache cache = new TypeCheckCache(2);
+        Type intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        cache.put(intArrayType, PredefinedTypes.TYPE_ANYDATA, true);
+        cache.put(intArrayType, PredefinedTypes.TYPE_JSON, true);
+        cache.put(intArrayType, PredefinedTypes.TYPE_STRING, false);
+        Assert.assertTrue(cache.size() <= 2);
+        Assert.assertEquals(cache.get(intArrayType, PredefinedTypes.TYPE_STRING), Boolean.FALSE);
+        Assert.assertNull(cache.get(PredefinedTypes.TYPE_STRING, intArrayType));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypedJsonDecoder;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link TypedJsonDecoder}.
+ */
+public class TypedJsonDecoderTests {
+
+    @Test
+    public void testDecodeSimpleValues() {
+        Assert.assertEquals(decode("42", PredefinedTypes.TYPE_INT), 42L);
+        Assert.assertEquals(decode("42", PredefinedTypes.TYPE_FLOAT), 42.0);
+        Assert.assertEquals(decode("1.25", PredefinedTypes.TYPE_DECIMAL), new DecimalValue("1.25"));
+        Assert.assertEquals(decode("\"a\\tb\\u0041\"", PredefinedTypes.TYPE_STRING), StringUtils.fromString("a\tbA"));
+        Assert.assertEquals(decode(" true ", PredefinedTypes.TYPE_BOOLEAN), Boolean.TRUE);
+        Assert.assertNull(decode("null", TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                                                                      PredefinedTypes.TYPE_NULL)));
+    }
+
+    @Test
+    public void testDecodeStructuredValues() {
+        Type intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type mapType = TypeCreator.createMapType(intArrayType);
+        BMap<?, ?> map = (BMap<?, ?>) decode("{\"a\": [1, 2], \"b\": []}", mapType);
+        Assert.assertSame(TypeChecker.getType(map), mapType);
+        BArray array = (BArray) map.get(StringUtils.fromString("a"));
+        Assert.assertSame(array.getType(), intArrayType);
+        Assert.assertEquals(array.getInt(1), 2L);
+
+        Object json = decode("{\"a\": [1, 2.5, \"s\", null]}", PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(json.toString(), "{\"a\":[1,2.5,\"s\",null]}");
+    }
+
+    @Test
+    public void testIncompatibleValues() {
+        Type intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        assertConversionError(decode("[1, \"a\"]", intArrayType), "'json[]' value cannot be converted to 'int[]'");
+        assertConversionError(decode("[[1, 2], {\"a\": [\"b\"]}, 3]", intArrayType),
+                              "'json[]' value cannot be converted to 'int[]'");
+        Type mapType = TypeCreator.createMapType(intArrayType);
+        assertConversionError(decode("{\"a\": [1, {\"b\": null}], \"c\": []}", mapType),
+                              "'map<json>' value cannot be converted to 'map<int[]>'");
+        assertConversionError(decode("\"a\"", PredefinedTypes.TYPE_INT),
+                              "'string' value cannot be converted to 'int'");
+        assertConversionError(decode(" null", PredefinedTypes.TYPE_STRING), "cannot convert '()' to type 'string'");
+    }
+
+    @Test
+    public void testValuesNotDecoded() {
+        Type intArrayType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Assert.assertSame(decode("[1, 2", intArrayType), TypedJsonDecoder.NOT_DECODED);
+        Assert.assertSame(decode("[1, 2] 3", intArrayType), TypedJsonDecoder.NOT_DECODED);
+        Assert.assertSame(decode("[1e5]", intArrayType), TypedJsonDecoder.NOT_DECODED);
+        // syntax errors after an incompatible value are reported by the parser
+        Assert.assertSame(decode("[\"a\", [1, 2,]]", intArrayType), TypedJsonDecoder.NOT_DECODED);
+        Assert.assertSame(decode("{\"a\": \"b\"", PredefinedTypes.TYPE_INT), TypedJsonDecoder.NOT_DECODED);
+        Assert.assertSame(decode("\"<a/>\"", PredefinedTypes.TYPE_XML), TypedJsonDecoder.NOT_DECODED);
+    }
+
+    private static void assertConversionError(Object value, String message) {
+        Assert.assertTrue(value instanceof BError, String.valueOf(value));
+        BMap<?, ?> details = (BMap<?, ?>) ((BError) value).getDetails();
+        Assert.assertEquals(details.get(StringUtils.fromString("message")).toString(), message);
+    }
+
+    private static Object decode(String jsonStr, Type type) {
+        BTypedesc typedesc = ValueCreator.createTypedescValue(type);
+        return TypedJsonDecoder.decode(jsonStr, typedesc);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing UTF-8 encoded JSON with the {@link JsonParser}.
+ */
+public class Utf8JsonParserTests {
+
+    @Test
+    public void testParseBytes() {
+        String doc = "{\"name\": \"caf\u00e9 \\u0041\\n\", 'tags': [\"\uD83D\uDE00\", true, null], " +
+                "\"n\": [1, -0, 2.50]}";
+        BMap<?, ?> fromBytes = (BMap<?, ?>) JsonParser.parse(ByteBuffer.wrap(doc.getBytes(StandardCharsets.UTF_8)),
+                                                             JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        BMap<?, ?> fromString = (BMap<?, ?>) JsonParser.parse(doc);
+        Assert.assertEquals(fromBytes.get(StringUtils.fromString("name")), StringUtils.fromString("caf\u00e9 A\n"));
+        BArray tags = (BArray) fromBytes.get(StringUtils.fromString("tags"));
+        Assert.assertEquals(tags.get(0), StringUtils.fromString("\uD83D\uDE00"));
+        Assert.assertEquals(tags.get(1), Boolean.TRUE);
+        Assert.assertNull(tags.get(2));
+        BArray numbers = (BArray) fromBytes.get(StringUtils.fromString("n"));
+        Assert.assertEquals(numbers.get(0), 1L);
+        Assert.assertEquals(numbers.get(1), -0.0);
+        Assert.assertEquals(numbers.get(2), new DecimalValue("2.50"));
+        Assert.assertEquals(fromBytes.toString(), fromString.toString());
+    }
+
+    @Test
+    public void testParseErrorsMatchStringParser() {
+        String[] docs = {"{\"a\": 1", "[1, 2]]", "{\"a\" 1}", "[\"\\x\"]", ""};
+        for (String doc : docs) {
+            BError expected = null;
+            try {
+                JsonParser.parse(doc);
+            } catch (BError e) {
+                expected = e;
+            }
+            try {
+                JsonParser.parse(ByteBuffer.wrap(doc.getBytes(StandardCharsets.UTF_8)),
+                                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+                Assert.fail("expected a parsing error for: " + doc);
+            } catch (BError e) {
+                Assert.assertNotNull(expected);
+                Assert.assertEquals(e.getMessage(), expected.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonGenerator;
+import io.ballerina.runtime.internal.Utf8JsonWriter;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for serializing values with the {@link Utf8JsonWriter}.
+ */
+public class Utf8JsonWriterTests {
+
+    @Test
+    public void testSerializeMatchesJsonGenerator() throws IOException {
+        BMap<BString, Object> value = createMap();
+        value.put(StringUtils.fromString("name"), StringUtils.fromString("café 😀 a/b"));
+        value.put(StringUtils.fromString("quoted"), StringUtils.fromString("\"a/b\"\f"));
+        value.put(StringUtils.fromString("n"), null);
+        value.put(StringUtils.fromString("i"), Long.MIN_VALUE);
+        value.put(StringUtils.fromString("f"), 2.5);
+        value.put(StringUtils.fromString("d"), new DecimalValue("12.50"));
+        value.put(StringUtils.fromString("b"), true);
+        BArray values = ValueCreator.createArrayValue(PredefinedTypes.TYPE_JSON_ARRAY);
+        values.append(ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_JSON)));
+        values.append(ValueCreator.createArrayValue(PredefinedTypes.TYPE_JSON_ARRAY));
+        values.append(-42L);
+        value.put(StringUtils.fromString("values"), values);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        JsonGenerator gen = new JsonGenerator(expected, StandardCharsets.UTF_8);
+        gen.serialize(value);
+        gen.flush();
+        Assert.assertEquals(Utf8JsonWriter.toJsonString(value), expected.toString(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8JsonWriter writer = new Utf8JsonWriter(out);
+        writer.serialize(value);
+        writer.flush();
+        Assert.assertEquals(out.toByteArray(), expected.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.size());
+        writer = new Utf8JsonWriter(buffer);
+        writer.serialize(value);
+        writer.flush();
+        Assert.assertEquals(buffer.array(), expected.toByteArray());
+    }
+
+    @Test
+    public void testSerializePrimitiveArrays() throws IOException {
+        Utf8JsonWriter writer = new Utf8JsonWriter();
+        writer.serialize(ValueCreator.createArrayValue(new long[]{1, -20, 300}));
+        Assert.assertEquals(writer.toString(), "[1, -20, 300]");
+        writer.reset();
+        writer.serialize(ValueCreator.createArrayValue(new byte[]{1, (byte) 255}));
+        Assert.assertEquals(writer.toString(), "[1, 255]");
+        writer.reset();
+        writer.serialize(ValueCreator.createArrayValue(new double[]{0.5, -1.0}));
+        Assert.assertEquals(writer.toString(), "[0.5, -1.0]");
+        writer.reset();
+        writer.serialize(ValueCreator.createArrayValue(new boolean[]{true, false}));
+        Assert.assertEquals(writer.toString(), "[true, false]");
+        writer.reset();
+        writer.serialize(ValueCreator.createArrayValue(new BString[]{StringUtils.fromString("a\tb")}));
+        Assert.assertEquals(writer.toString(), "[\"a\\tb\"]");
+    }
+
+    @Test
+    public void testSerializeCyclicValue() {
+        BMap<BString, Object> value = createMap();
+        BArray members = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        value.put(StringUtils.fromString("shared"), ValueCreator.createArrayValue(new long[]{1}));
+        value.put(StringUtils.fromString("alsoShared"), value.get(StringUtils.fromString("shared")));
+        Assert.assertEquals(Utf8JsonWriter.toJsonString(value), "{\"shared\":[1], \"alsoShared\":[1]}");
+
+        value.put(StringUtils.fromString("members"), members);
+        members.append(value);
+        try {
+            Utf8JsonWriter.toJsonString(value);
+            Assert.fail("expected a cyclic value reference error");
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), "{ballerina/lang.value}CyclicValueReferenceError");
+        }
+    }
+
+    private static BMap<BString, Object> createMap() {
+        return ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA));
+    }
+}
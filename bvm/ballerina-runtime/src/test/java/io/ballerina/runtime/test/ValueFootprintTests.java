@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.BmpStringValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.internal.values.FPValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlSequence;
+import io.ballerina.runtime.internal.values.XmlText;
+import org.openjdk.jol.info.ClassLayout;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Pins the shallow size of runtime value classes so that per-instance footprint does not silently regress.
+ * Sizes are in bytes for a 64-bit VM with compressed oops and compressed class pointers.
+ */
+public class ValueFootprintTests {
+
+    @BeforeClass
+    public void checkDataModel() {
+        // A single reference field fits in the 12-byte header gap only with compressed oops and class pointers.
+        if (ClassLayout.parseClass(ReferenceHolder.class).instanceSize() != 16) {
+            throw new SkipException("value footprints are pinned for compressed oops and class pointers only");
+        }
+    }
+
+    @DataProvider(name = "valueFootprints")
+    public Object[][] valueFootprints() {
+        return new Object[][]{
+                {MapValueImpl.class, 72},
+                {TableValueImpl.class, 72},
+                {ArrayValueImpl.class, 40},
+                {TupleValueImpl.class, 40},
+                {ErrorValue.class, 56},
+                {FPValue.class, 32},
+                {XmlItem.class, 32},
+                {XmlSequence.class, 24},
+                {XmlText.class, 24},
+                {DecimalValue.class, 24},
+                {BmpStringValue.class, 16}
+        };
+    }
+
+    @Test(dataProvider = "valueFootprints")
+    public void testShallowSize(Class<?> valueClass, long maxInstanceSize) {
+        long instanceSize = ClassLayout.parseClass(valueClass).instanceSize();
+        Assert.assertTrue(instanceSize <= maxInstanceSize, valueClass.getSimpleName() + " grew to " + instanceSize +
+                " bytes, expected at most " + maxInstanceSize + " bytes:\n" + ClassLayout.parseClass(valueClass)
+                .toPrintable());
+    }
+
+    @Test
+    public void testNativeDataIsCreatedOnDemand() {
+        MapValueImpl<?, ?> map = new MapValueImpl<>();
+        Assert.assertNull(map.getNativeData("key"));
+        Assert.assertTrue(map.getNativeDataMap().isEmpty());
+        map.addNativeData("key", "value");
+        Assert.assertEquals(map.getNativeData("key"), "value");
+    }
+
+    @Test
+    public void testSingleBackingStore() {
+        ArrayValueImpl intArray = new ArrayValueImpl(new long[]{1, 2}, false);
+        intArray.add(2, 3L);
+        Assert.assertEquals(intArray.getInt(2), 3L);
+        Assert.assertEquals(intArray, new ArrayValueImpl(new long[]{1, 2, 3}, false));
+        Assert.assertNotEquals(intArray, new ArrayValueImpl(new double[]{1, 2, 3}, false));
+        Assert.assertEquals(intArray.hashCode(), new ArrayValueImpl(new long[]{1, 2, 3}, false).hashCode());
+    }
+
+    @Test
+    public void testXmlParentTracking() {
+        XmlItem parent = new XmlItem(new QName("parent"));
+        XmlItem child = new XmlItem(new QName("child"));
+        parent.setChildren(child);
+        Assert.assertEquals(parent.children().size(), 1);
+        try {
+            child.setChildren(parent);
+            Assert.fail("expected an xml cycle error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getDetail(), "Cycle detected");
+        }
+    }
+
+    private static class ReferenceHolder {
+        Object reference;
+    }
+}
@@ -168,6 +168,10 @@ public class BuildCommand implements BLauncherCmd {
             description = "list conflicted classes when generating executable")
     private Boolean listConflictedClasses;
 
+    @CommandLine.Option(names = "--incremental",
+            description = "reuse the modules that are not affected by source changes since the previous build")
+    private Boolean incrementalBuild;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -288,6 +292,7 @@ public class BuildCommand implements BLauncherCmd {
                 .dumpBir(dumpBIR)
                 .dumpBirFile(dumpBIRFile)
                 .listConflictedClasses(listConflictedClasses)
+                .incrementalBuild(incrementalBuild)
                 .build();
     }
 
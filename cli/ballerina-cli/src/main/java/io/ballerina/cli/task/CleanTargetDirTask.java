@@ -38,7 +38,7 @@ public class CleanTargetDirTask implements Task {
         try {
             ProjectUtils.checkWritePermission(project.sourceRoot());
             Target target = new Target(project.sourceRoot());
-            target.clean();
+            target.clean(project.buildOptions().incrementalBuild());
         } catch (IOException | ProjectException e) {
             throw createLauncherException("unable to clean the target directory: " + e.getMessage());
         }
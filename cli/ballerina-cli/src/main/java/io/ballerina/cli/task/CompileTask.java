@@ -67,6 +67,11 @@ public class CompileTask implements Task {
         try {
             PackageCompilation packageCompilation = project.currentPackage().getCompilation();
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_11);
+            if (project.buildOptions().incrementalBuild()) {
+                int moduleCount = packageCompilation.cachedModuleCount() + packageCompilation.compiledModuleCount();
+                this.out.println("\tReused " + packageCompilation.cachedModuleCount() + " of " + moduleCount +
+                        " modules from the build cache");
+            }
             DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
             diagnosticResult.diagnostics().forEach(d -> err.println(convertDiagnosticToString(d)));
             if (diagnosticResult.hasErrors()) {
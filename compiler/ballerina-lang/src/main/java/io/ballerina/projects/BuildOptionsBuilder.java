@@ -48,6 +48,16 @@ public class BuildOptionsBuilder {
         return this;
     }
 
+    public BuildOptionsBuilder parallelParsing(Boolean value) {
+        compilationOptionsBuilder.parallelParsing(value);
+        return this;
+    }
+
+    public BuildOptionsBuilder incrementalBuild(Boolean value) {
+        compilationOptionsBuilder.incrementalBuild(value);
+        return this;
+    }
+
     public BuildOptionsBuilder skipTests(Boolean value) {
         compilationOptionsBuilder.skipTests(value);
         return this;
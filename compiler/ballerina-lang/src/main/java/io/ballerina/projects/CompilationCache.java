@@ -42,4 +42,24 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the cached BIR of the given module, if it was compiled from sources with the given compilation hash.
+     *
+     * @param moduleName      name of the module
+     * @param compilationHash hash of the module sources, compiler options and dependency interfaces
+     * @return the cached BIR content or an empty {@code Optional} if there is no matching entry
+     */
+    public Optional<byte[]> getBir(ModuleName moduleName, String compilationHash) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the compilation hash of the BIR and the platform-specific libraries cached for the given module.
+     *
+     * @param moduleName      name of the module
+     * @param compilationHash hash of the module sources, compiler options and dependency interfaces
+     */
+    public void cacheCompilationHash(ModuleName moduleName, String compilationHash) {
+    }
 }
@@ -34,6 +34,8 @@ class CompilationOptionsBuilder {
     private String cloud;
     private Boolean taintCheck;
     private Boolean listConflictedClasses;
+    private Boolean parallelParsing;
+    private Boolean incrementalBuild;
 
     public CompilationOptionsBuilder() {
     }
@@ -83,8 +85,19 @@ class CompilationOptionsBuilder {
         return this;
     }
 
+    public CompilationOptionsBuilder parallelParsing(Boolean value) {
+        parallelParsing = value;
+        return this;
+    }
+
+    public CompilationOptionsBuilder incrementalBuild(Boolean value) {
+        incrementalBuild = value;
+        return this;
+    }
+
     public CompilationOptions build() {
         return new CompilationOptions(skipTests, buildOffline, experimental, observabilityIncluded, dumpBir,
-                dumpBirFile, cloud, taintCheck, listConflictedClasses);
+                dumpBirFile, cloud, taintCheck, listConflictedClasses, parallelParsing,
+                incrementalBuild);
     }
 }
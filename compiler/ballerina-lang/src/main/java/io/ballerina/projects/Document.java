@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -75,12 +76,16 @@ public class Document {
         private String name;
         private DocumentId documentId;
         private Module oldModule;
+        private DocumentContext oldDocumentContext;
+        private DocumentContext documentContext;
 
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
             this.content = oldDocument.textDocument().toString();
             this.oldModule = oldDocument.module();
+            this.oldDocumentContext = oldDocument.documentContext;
+            this.documentContext = oldDocument.documentContext;
         }
 
         /**
@@ -91,6 +96,27 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.documentContext = null;
+            return this;
+        }
+
+        /**
+         * Applies the given text change to the content.
+         * <p>
+         * The text edits of the change should be in the order of their positions in the content, and should not
+         * overlap. If the syntax tree of the document being modified has been parsed, the new syntax tree is parsed
+         * incrementally, reusing the module level declarations which are not affected by the change.
+         *
+         * @param textDocumentChange text change to apply
+         * @return Document.Modifier that holds the content to be changed
+         */
+        public Modifier withChange(TextDocumentChange textDocumentChange) {
+            if (this.documentContext == null) {
+                this.documentContext = DocumentContext.from(DocumentConfig.from(this.documentId, this.content,
+                        this.name));
+            }
+            this.documentContext = this.documentContext.modify(textDocumentChange);
+            this.content = this.documentContext.textDocument().toString();
             return this;
         }
 
@@ -100,9 +126,12 @@ public class Document {
          * @return document with updated content
          */
         public Document apply() {
-            DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
-                    this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig);
+            DocumentContext documentContext = this.documentContext;
+            if (documentContext == null || documentContext == this.oldDocumentContext) {
+                DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
+                        this.name);
+                documentContext = DocumentContext.from(documentConfig);
+            }
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
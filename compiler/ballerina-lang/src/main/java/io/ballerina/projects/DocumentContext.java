@@ -23,9 +23,11 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.internal.SyntaxTreeReparser;
 import io.ballerina.projects.internal.TransactionImportValidator;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.SourceKind;
@@ -72,6 +74,28 @@ class DocumentContext {
         return new DocumentContext(documentConfig.documentId(), documentConfig.name(), documentConfig.content());
     }
 
+    /**
+     * Returns the context of the document with the given text change applied.
+     * <p>
+     * If the syntax tree of this document has been parsed, the syntax tree of the new document is parsed
+     * incrementally, reusing the module level declarations which are not affected by the change.
+     *
+     * @param textDocumentChange text change to apply
+     * @return the context of the modified document
+     */
+    DocumentContext modify(TextDocumentChange textDocumentChange) {
+        TextDocument newTextDocument = this.textDocument().apply(textDocumentChange);
+        SyntaxTree newSyntaxTree = null;
+        if (this.syntaxTree != null) {
+            newSyntaxTree = SyntaxTreeReparser.reparse(this.syntaxTree, textDocumentChange, newTextDocument);
+        }
+
+        DocumentContext documentContext = new DocumentContext(this.documentId, this.name, newTextDocument.toString());
+        documentContext.textDocument = newTextDocument;
+        documentContext.syntaxTree = newSyntaxTree;
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
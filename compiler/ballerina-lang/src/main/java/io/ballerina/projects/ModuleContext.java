@@ -39,6 +39,7 @@ import org.wso2.ballerinalang.programfile.PackageFileWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -77,6 +78,7 @@ class ModuleContext {
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
+    private String compilationHash;
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests;
@@ -251,6 +253,31 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    /**
+     * Loads this module from the compilation cache instead of compiling its sources, if the cache contains the
+     * result of compiling the module with the given compilation hash.
+     *
+     * @param compilationHash hash of the module sources, compiler options and dependency interfaces
+     * @return true if the module will be loaded from the cache, false if it will be compiled from sources
+     */
+    boolean loadFromCompilationCache(String compilationHash) {
+        this.compilationHash = compilationHash;
+        ModuleCompilationState compilationState = currentCompilationState();
+        if (compilationState != ModuleCompilationState.LOADED_FROM_SOURCES &&
+                compilationState != ModuleCompilationState.PARSED &&
+                compilationState != ModuleCompilationState.DEPENDENCIES_RESOLVED_FROM_SOURCES) {
+            return false;
+        }
+
+        Optional<byte[]> cachedBir = compilationCache.getBir(moduleName(), compilationHash);
+        if (cachedBir.isEmpty()) {
+            return false;
+        }
+        this.birBytes = cachedBir.get();
+        setCompilationState(ModuleCompilationState.BIR_LOADED);
+        return true;
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
@@ -339,6 +366,24 @@ class ModuleContext {
         }
     }
 
+    /**
+     * Parses the source and test documents of the given modules in parallel.
+     * <p>
+     * Syntax trees do not depend on the compiler context or on other modules, hence the documents can be parsed
+     * regardless of the module dependency order. The later compiler phases share the singletons of the
+     * compiler context and therefore still run one module at a time.
+     *
+     * @param moduleContexts modules to parse
+     */
+    static void parseInParallel(Collection<ModuleContext> moduleContexts) {
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            documentContexts.addAll(moduleContext.srcDocContextMap.values());
+            documentContexts.addAll(moduleContext.testDocContextMap.values());
+        }
+        documentContexts.parallelStream().forEach(DocumentContext::parse);
+    }
+
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
@@ -405,6 +450,12 @@ class ModuleContext {
             return;
         }
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+        // Diagnostics are not cached with the BIR. Hence, modules with warnings are compiled again in the next build
+        // so that the warnings are reported again.
+        if (moduleContext.compilationHash != null && moduleContext.diagnostics().isEmpty()) {
+            moduleContext.compilationCache.cacheCompilationHash(moduleContext.moduleName(),
+                                                                moduleContext.compilationHash);
+        }
     }
 
     private static void cacheBIR(ModuleContext moduleContext) {
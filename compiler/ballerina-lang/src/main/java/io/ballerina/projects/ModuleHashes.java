@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes the hashes used to decide whether a module can be loaded from the compilation cache of a previous build.
+ * <p>
+ * The compilation hash of a module covers its sources, the compiler options and the interface hashes of its
+ * dependencies. The interface hash covers what dependent modules are compiled against, i.e. the module level
+ * declarations excluding function bodies, so that a change within a function body does not cause the dependents to
+ * be compiled again.
+ *
+ * @since 2.0.0
+ */
+final class ModuleHashes {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final char SEPARATOR = '\0';
+    // Constructs that define anonymous types, which are numbered across the whole module
+    private static final Set<SyntaxKind> ANONYMOUS_TYPE_KINDS = EnumSet.of(SyntaxKind.RECORD_TYPE_DESC,
+            SyntaxKind.OBJECT_TYPE_DESC, SyntaxKind.OBJECT_CONSTRUCTOR);
+
+    private ModuleHashes() {
+    }
+
+    static String compilationHash(ModuleContext moduleContext,
+                                  CompilationOptions compilationOptions,
+                                  List<String> dependencyInterfaceHashes) {
+        MessageDigest digest = newDigest();
+        update(digest, RepoUtils.getBallerinaVersion());
+        update(digest, descriptorString(moduleContext.descriptor()));
+        update(digest, Boolean.toString(compilationOptions.skipTests()));
+        update(digest, Boolean.toString(compilationOptions.experimental()));
+        update(digest, Boolean.toString(compilationOptions.observabilityIncluded()));
+        update(digest, Boolean.toString(compilationOptions.getTaintCheck()));
+        update(digest, String.valueOf(compilationOptions.getCloud()));
+        for (DocumentContext documentContext : sortedDocuments(moduleContext)) {
+            update(digest, documentContext.name());
+            update(digest, documentContext.syntaxTree().toSourceCode());
+        }
+        updateAll(digest, dependencyInterfaceHashes);
+        return toHexString(digest.digest());
+    }
+
+    static String interfaceHash(ModuleContext moduleContext,
+                                String compilationHash,
+                                List<String> dependencyInterfaceHashes) {
+        List<DocumentContext> documentContexts = sortedDocuments(moduleContext);
+        int documentsWithAnonTypes = 0;
+        for (DocumentContext documentContext : documentContexts) {
+            if (containsAnonymousTypes(documentContext.syntaxTree().rootNode())) {
+                documentsWithAnonTypes++;
+            }
+        }
+        // Anonymous type names depend on the order in which the documents are compiled, which is not stable
+        if (documentsWithAnonTypes > 1) {
+            return compilationHash;
+        }
+
+        MessageDigest digest = newDigest();
+        update(digest, descriptorString(moduleContext.descriptor()));
+        for (DocumentContext documentContext : documentContexts) {
+            // Functions are generated into a class per document
+            update(digest, documentContext.name());
+            ModulePartNode modulePartNode = documentContext.syntaxTree().rootNode();
+            for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                update(digest, interfaceSourceCode(member));
+            }
+        }
+        updateAll(digest, dependencyInterfaceHashes);
+        return toHexString(digest.digest());
+    }
+
+    static String descriptorString(ModuleDescriptor descriptor) {
+        return descriptor.org() + "/" + descriptor.name() + ":" + descriptor.version();
+    }
+
+    private static String interfaceSourceCode(ModuleMemberDeclarationNode member) {
+        if (member.kind() != SyntaxKind.FUNCTION_DEFINITION) {
+            return member.toSourceCode();
+        }
+
+        FunctionDefinitionNode function = (FunctionDefinitionNode) member;
+        Node functionBody = function.functionBody();
+        if (functionBody.kind() == SyntaxKind.EXTERNAL_FUNCTION_BODY || containsAnonymousTypes(functionBody)) {
+            return member.toSourceCode();
+        }
+
+        // The function body is the last child of the function definition
+        String sourceCode = member.toSourceCode();
+        return sourceCode.substring(0, sourceCode.length() - functionBody.toSourceCode().length());
+    }
+
+    private static boolean containsAnonymousTypes(Node node) {
+        if (ANONYMOUS_TYPE_KINDS.contains(node.kind())) {
+            return true;
+        }
+        if (!(node instanceof NonTerminalNode)) {
+            return false;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            if (containsAnonymousTypes(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<DocumentContext> sortedDocuments(ModuleContext moduleContext) {
+        Collection<DocumentId> documentIds = moduleContext.srcDocumentIds();
+        List<DocumentContext> documentContexts = new ArrayList<>(documentIds.size());
+        for (DocumentId documentId : documentIds) {
+            documentContexts.add(moduleContext.documentContext(documentId));
+        }
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        return documentContexts;
+    }
+
+    private static void updateAll(MessageDigest digest, List<String> values) {
+        List<String> sortedValues = new ArrayList<>(values);
+        sortedValues.sort(Comparator.naturalOrder());
+        for (String value : sortedValues) {
+            update(digest, value);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) SEPARATOR);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -62,6 +62,8 @@ public class PackageCompilation {
     private DiagnosticResult diagnosticResult;
     private volatile boolean compiled;
     private CompilerPluginManager compilerPluginManager;
+    private int cachedModuleCount;
+    private int compiledModuleCount;
 
     private PackageCompilation(PackageContext rootPackageContext) {
         this.rootPackageContext = rootPackageContext;
@@ -172,7 +174,12 @@ public class PackageCompilation {
 
     private void compileModulesInternal() {
         List<Diagnostic> diagnostics = new ArrayList<>();
+        boolean incrementalBuild = isIncrementalBuild();
+        Map<ModuleId, String> interfaceHashes = new HashMap<>();
         for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+            if (incrementalBuild) {
+                loadFromCompilationCacheIfUpToDate(moduleContext, interfaceHashes);
+            }
             moduleContext.compile(compilerContext);
             moduleContext.diagnostics().forEach(diagnostic ->
                     diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.moduleName())));
@@ -182,6 +189,59 @@ public class PackageCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    private boolean isIncrementalBuild() {
+        return rootPackageContext.compilationOptions().incrementalBuild() &&
+                rootPackageContext.project().kind() == ProjectKind.BUILD_PROJECT;
+    }
+
+    private void loadFromCompilationCacheIfUpToDate(ModuleContext moduleContext,
+                                                    Map<ModuleId, String> interfaceHashes) {
+        ModuleId moduleId = moduleContext.moduleId();
+        if (!moduleId.packageId().equals(rootPackageContext.packageId())) {
+            // Modules of dependency packages are identified by their versions
+            interfaceHashes.put(moduleId, ModuleHashes.descriptorString(moduleContext.descriptor()));
+            return;
+        }
+
+        List<String> dependencyInterfaceHashes = new ArrayList<>();
+        for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+            dependencyInterfaceHashes.add(interfaceHashes.getOrDefault(moduleDependency.moduleId(), ""));
+        }
+        CompilationOptions compilationOptions = rootPackageContext.compilationOptions();
+        String compilationHash = ModuleHashes.compilationHash(moduleContext, compilationOptions,
+                                                              dependencyInterfaceHashes);
+        interfaceHashes.put(moduleId, ModuleHashes.interfaceHash(moduleContext, compilationHash,
+                                                                 dependencyInterfaceHashes));
+
+        // Test sources are compiled into the module, hence such modules are not loaded from the cache
+        boolean hasTestsToCompile = !compilationOptions.skipTests() && !moduleContext.testSrcDocumentIds().isEmpty();
+        if (!hasTestsToCompile && moduleContext.loadFromCompilationCache(compilationHash)) {
+            cachedModuleCount++;
+        } else {
+            compiledModuleCount++;
+        }
+    }
+
+    /**
+     * Returns the number of modules of this package that were loaded from the compilation cache of a previous
+     * build, when the incremental build option is enabled.
+     *
+     * @return number of modules loaded from the compilation cache
+     */
+    public int cachedModuleCount() {
+        return cachedModuleCount;
+    }
+
+    /**
+     * Returns the number of modules of this package that were compiled from sources, when the incremental build
+     * option is enabled.
+     *
+     * @return number of modules compiled from sources
+     */
+    public int compiledModuleCount() {
+        return compiledModuleCount;
+    }
+
     private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
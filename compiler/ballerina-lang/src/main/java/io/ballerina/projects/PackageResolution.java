@@ -68,6 +68,9 @@ public class PackageResolution {
 
         this.depGraphBuilder = new PackageDependencyGraphBuilder(rootPackageContext.descriptor());
         this.moduleResolver = new ModuleResolver(packageResolver, rootPackageContext, depGraphBuilder);
+        if (compilationOptions.parallelParsing()) {
+            parseModulesInParallel();
+        }
         dependencyGraph = buildDependencyGraph();
         DependencyResolution dependencyResolution = new DependencyResolution(
                 projectEnvContext.getService(PackageCache.class), moduleResolver, dependencyGraph);
@@ -154,6 +157,14 @@ public class PackageResolution {
                 packageCache, rootPackageContext.project());
     }
 
+    private void parseModulesInParallel() {
+        List<ModuleContext> moduleContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            moduleContexts.add(rootPackageContext.moduleContext(moduleId));
+        }
+        ModuleContext.parseInParallel(moduleContexts);
+    }
+
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new LinkedHashSet<>();
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
@@ -404,6 +404,10 @@ public class ManifestBuilder {
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.TAINT_CHECK.toString());
         boolean listConflictedClasses =
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.LIST_CONFLICTED_CLASSES.toString());
+        boolean parallelParsing =
+                getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.PARALLEL_PARSING.toString());
+        boolean incrementalBuild =
+                getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.INCREMENTAL_BUILD.toString());
 
         return buildOptionsBuilder
                 .skipTests(skipTests)
@@ -414,6 +418,8 @@ public class ManifestBuilder {
                 .cloud(cloud)
                 .taintCheck(taintCheck)
                 .listConflictedClasses(listConflictedClasses)
+                .parallelParsing(parallelParsing)
+                .incrementalBuild(incrementalBuild)
                 .build();
     }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.internal;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reparses a modified Ballerina source file, reusing the module level declarations of the old syntax tree which are
+ * not affected by the text edits.
+ * <p>
+ * Only the declarations which overlap or touch the edits, and the declarations next to them, are parsed again. The
+ * old declarations are reused only if the new tree is the same as the tree a full parse produces, i.e. the edits are
+ * in the module members, the declaration before the reparsed text has no syntax errors and the last reparsed
+ * declaration is complete. The whole file is parsed otherwise.
+ *
+ * @since 2.0.0
+ */
+public class SyntaxTreeReparser {
+
+    private SyntaxTreeReparser() {
+    }
+
+    /**
+     * Returns the syntax tree of the new text document.
+     *
+     * @param oldTree            syntax tree of the old text document
+     * @param textDocumentChange text edits applied to the old text document
+     * @param newTextDocument    the new text document
+     * @return syntax tree of the new text document
+     */
+    public static SyntaxTree reparse(SyntaxTree oldTree, TextDocumentChange textDocumentChange,
+                                     TextDocument newTextDocument) {
+        if (oldTree.containsModulePart() && textDocumentChange.getTextEditCount() > 0) {
+            SyntaxTree newTree = reparseMembers(oldTree, textDocumentChange, newTextDocument);
+            if (newTree != null) {
+                return newTree;
+            }
+        }
+        return SyntaxTree.from(newTextDocument, oldTree.filePath());
+    }
+
+    private static SyntaxTree reparseMembers(SyntaxTree oldTree, TextDocumentChange textDocumentChange,
+                                             TextDocument newTextDocument) {
+        ModulePartNode oldModulePart = oldTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = oldModulePart.members();
+        int memberCount = members.size();
+        int membersStartOffset = oldModulePart.imports().isEmpty() ? 0 :
+                oldModulePart.imports().get(oldModulePart.imports().size() - 1).textRangeWithMinutiae().endOffset();
+        int eofStartOffset = oldModulePart.eofToken().textRangeWithMinutiae().startOffset();
+
+        // Index of the first and the last affected member. The index of the EOF token is memberCount.
+        int first = memberCount;
+        int last = 0;
+        int lengthDelta = 0;
+        for (int i = 0; i < textDocumentChange.getTextEditCount(); i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange range = textEdit.range();
+            if (range.startOffset() < membersStartOffset ||
+                    (range.startOffset() == membersStartOffset && membersStartOffset != 0)) {
+                // The edit may change the imports
+                return null;
+            }
+            first = Math.min(first, firstAffectedMember(members, range.startOffset()));
+            last = Math.max(last, range.endOffset() >= eofStartOffset ? memberCount :
+                    lastAffectedMember(members, range.endOffset()));
+            lengthDelta += textEdit.text().length() - range.length();
+        }
+
+        // Reparse the members next to the edits as well, and the members before them until a member without syntax
+        // errors, so that the parsing of the reparsed members does not depend on the text before them.
+        first = Math.max(0, first - 1);
+        while (first > 0 && members.get(first - 1).hasDiagnostics()) {
+            first--;
+        }
+        if (last < memberCount) {
+            last++;
+        }
+
+        int oldStartOffset = first < memberCount ? members.get(first).textRangeWithMinutiae().startOffset() :
+                eofStartOffset;
+        int oldEndOffset = last < memberCount ? members.get(last).textRangeWithMinutiae().endOffset() :
+                oldModulePart.textRangeWithMinutiae().endOffset();
+        String newText = newTextDocument.toString();
+        int newEndOffset = oldEndOffset + lengthDelta;
+        if (newEndOffset > newText.length() || newEndOffset < oldStartOffset) {
+            return null;
+        }
+        ModulePartNode reparsedModulePart = SyntaxTree.from(
+                TextDocuments.from(newText.substring(oldStartOffset, newEndOffset))).rootNode();
+        if (!reparsedModulePart.imports().isEmpty()) {
+            return null;
+        }
+
+        NodeList<ModuleMemberDeclarationNode> reparsedMembers = reparsedModulePart.members();
+        if (last < memberCount) {
+            // The text after the reparsed members should be parsed as before, i.e. the last reparsed member should
+            // be complete, and there should be no text left for the EOF token.
+            if (reparsedModulePart.eofToken().textRangeWithMinutiae().length() != 0) {
+                return null;
+            }
+            if (!reparsedMembers.isEmpty() && reparsedMembers.get(reparsedMembers.size() - 1).hasDiagnostics()) {
+                return null;
+            }
+        }
+
+        List<ModuleMemberDeclarationNode> newMembers = new ArrayList<>(memberCount + reparsedMembers.size());
+        for (int i = 0; i < first; i++) {
+            newMembers.add(members.get(i));
+        }
+        for (ModuleMemberDeclarationNode member : reparsedMembers) {
+            newMembers.add(member);
+        }
+        for (int i = last + 1; i < memberCount; i++) {
+            newMembers.add(members.get(i));
+        }
+        ModulePartNode newModulePart = oldModulePart.modify()
+                .withMembers(NodeFactory.createNodeList(newMembers))
+                .withEofToken(last < memberCount ? oldModulePart.eofToken() : reparsedModulePart.eofToken())
+                .apply();
+        return oldTree.modifyWith(newModulePart);
+    }
+
+    private static int firstAffectedMember(NodeList<ModuleMemberDeclarationNode> members, int offset) {
+        int index = 0;
+        while (index < members.size() && members.get(index).textRangeWithMinutiae().endOffset() < offset) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int lastAffectedMember(NodeList<ModuleMemberDeclarationNode> members, int offset) {
+        int index = members.size() - 1;
+        while (index > 0 && members.get(index).textRangeWithMinutiae().startOffset() > offset) {
+            index--;
+        }
+        return index;
+    }
+}
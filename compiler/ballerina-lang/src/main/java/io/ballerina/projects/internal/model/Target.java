@@ -176,8 +176,21 @@ public class Target {
      *
      */
     public void clean() throws IOException {
+        clean(false);
+    }
+
+    /**
+     * Clean any files that created from the build.
+     *
+     * @param keepCompilationCache whether to keep the cached BIR and jars of the modules for incremental builds
+     */
+    public void clean(boolean keepCompilationCache) throws IOException {
         // Remove from cache
-        ProjectUtils.deleteDirectory(this.cache);
+        if (keepCompilationCache) {
+            ProjectUtils.deleteDirectory(this.testsCachePath);
+        } else {
+            ProjectUtils.deleteDirectory(this.cache);
+        }
         // Remove any generated bala
         ProjectUtils.deleteDirectory(this.balaCachePath);
         ProjectUtils.deleteDirectory(this.binPath);
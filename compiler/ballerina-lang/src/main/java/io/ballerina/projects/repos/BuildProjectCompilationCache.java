@@ -43,8 +43,14 @@ public class BuildProjectCompilationCache extends FileSystemCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        // Do not return the cached BIR in the target directory
-        // We can improve this implementation to cache the BIR later to enable incremental compilation.
+        // Do not return the cached BIR in the target directory. The incremental build verifies that the cached BIR
+        // is up to date before loading it via getBir(ModuleName, String).
         return EMPTY_BYTE_ARRAY;
     }
+
+    @Override
+    protected boolean overwriteCachedBir() {
+        // Modules of the build project are compiled again whenever their sources change
+        return true;
+    }
 }
@@ -24,11 +24,13 @@ import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -44,12 +46,14 @@ import java.util.Optional;
  * - bir
  * - mod1.bir
  * - mod2.bir
+ * - mod2.hash
  * - jar
  * - org-package-name-version.jar
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String COMPILATION_HASH_EXT = ".hash";
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -61,10 +65,17 @@ public class FileSystemCache extends CompilationCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
+        return readBir(moduleName);
+    }
+
+    private byte[] readBir(ModuleName moduleName) {
         Path birFilePath = getBirPath().resolve(moduleName.toString()
                 + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
         if (Files.exists(birFilePath)) {
             try {
+                if (isLangLibFromBala()) {
+                    return LangLibBirSnapshot.getBir(birFilePath);
+                }
                 return FileUtils.readFileToByteArray(birFilePath.toFile());
             } catch (IOException e) {
                 // TODO proper error handling
@@ -74,11 +85,18 @@ public class FileSystemCache extends CompilationCache {
         return new byte[0];
     }
 
+    private boolean isLangLibFromBala() {
+        // Lang libs of the distribution are read-only, unlike when they are being built
+        return project.kind() == ProjectKind.BALA_PROJECT && project.currentPackage().descriptor().isLangLibPackage();
+    }
+
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
-        if (!Files.exists(birFilePath)) {
+        if (!Files.exists(birFilePath) || overwriteCachedBir()) {
             try {
+                // The recorded compilation hash no longer matches the BIR being written
+                Files.deleteIfExists(getBirPath().resolve(moduleName.toString() + COMPILATION_HASH_EXT));
                 // TODO Can we improve this logic
                 FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
             } catch (IOException e) {
@@ -88,6 +106,37 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public Optional<byte[]> getBir(ModuleName moduleName, String compilationHash) {
+        Path hashFilePath = getBirPath().resolve(moduleName.toString() + COMPILATION_HASH_EXT);
+        if (!Files.exists(hashFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!compilationHash.equals(Files.readString(hashFilePath))) {
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            // Treat an unreadable hash as a cache miss
+            return Optional.empty();
+        }
+
+        byte[] birContent = readBir(moduleName);
+        return birContent.length == 0 ? Optional.empty() : Optional.of(birContent);
+    }
+
+    @Override
+    public void cacheCompilationHash(ModuleName moduleName, String compilationHash) {
+        Path hashFilePath = getBirPath().resolve(moduleName.toString() + COMPILATION_HASH_EXT);
+        try {
+            FileUtils.writeStringToFile(hashFilePath.toFile(), compilationHash, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // The module is compiled again in the next build. Remove a partially written hash, if any.
+            FileUtils.deleteQuietly(hashFilePath.toFile());
+        }
+    }
+
     @Override
     public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
         String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
@@ -115,6 +164,15 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    /**
+     * Returns whether a cached BIR should be replaced when the module is compiled again.
+     *
+     * @return true if the cached BIR should be replaced, false if the first cached BIR should be kept
+     */
+    protected boolean overwriteCachedBir() {
+        return false;
+    }
+
     private Path getTargetPlatformCacheDirPath(CompilerBackend compilerBackend) {
         String targetPlatformCode = compilerBackend.targetPlatform().code();
         return packageCacheDirPath().resolve(targetPlatformCode);
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.repos;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A JVM wide, read-only snapshot of the lang lib BIRs read from the distribution.
+ * <p>
+ * Every {@code CompilerContext} defines the lang lib symbols on its own, since the symbols are bound to the builtin
+ * types of its {@code SymbolTable}. The BIR they are defined from is the same for all of them, hence it is read once
+ * and shared. The symbol enter only refers to the shared bytes, and defines module level functions from them when
+ * they are first looked up.
+ *
+ * @since 2.0.0
+ */
+final class LangLibBirSnapshot {
+
+    private static final Map<Path, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private LangLibBirSnapshot() {
+    }
+
+    /**
+     * Returns the bytes of the given BIR file, reading it only if it is not in the snapshot or if the file has
+     * changed since it was read.
+     *
+     * @param birFilePath path of the BIR file
+     * @return the BIR bytes, which must not be modified
+     * @throws IOException if the file cannot be read
+     */
+    static byte[] getBir(Path birFilePath) throws IOException {
+        Path key = birFilePath.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Entry entry = ENTRIES.get(key);
+        if (entry != null && entry.size == attributes.size() && entry.lastModified == lastModified) {
+            return entry.bir;
+        }
+
+        byte[] bir = Files.readAllBytes(key);
+        ENTRIES.put(key, new Entry(bir, attributes.size(), lastModified));
+        return bir;
+    }
+
+    private static class Entry {
+        private final byte[] bir;
+        private final long size;
+        private final long lastModified;
+
+        private Entry(byte[] bir, long size, long lastModified) {
+            this.bir = bir;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
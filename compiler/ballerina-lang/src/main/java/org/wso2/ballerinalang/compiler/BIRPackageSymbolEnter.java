@@ -90,16 +90,18 @@ import org.wso2.ballerinalang.compiler.util.ImmutableTypeCloner;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
-import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -109,6 +111,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.COMPILED_SOURCE;
@@ -139,11 +142,12 @@ public class BIRPackageSymbolEnter {
 
     private static final int SERVICE_TYPE_TAG = 52;
 
+    private static final Map<byte[], BIRPackageFile> BIR_PACKAGE_FILES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
-    private Map<String, BVarSymbol> globalVarMap = new HashMap<>();
-
     public static BIRPackageSymbolEnter getInstance(CompilerContext context) {
         BIRPackageSymbolEnter packageReader = context.get(COMPILED_PACKAGE_SYMBOL_ENTER_KEY);
         if (packageReader == null) {
@@ -168,27 +172,40 @@ public class BIRPackageSymbolEnter {
                                         RepoHierarchy packageRepositoryHierarchy,
                                         byte[] packageBinaryContent) {
         BPackageSymbol pkgSymbol = definePackage(packageId, packageRepositoryHierarchy,
-                new ByteArrayInputStream(packageBinaryContent));
-
-        // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
-        byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
-                packageBinaryContent, 8, packageBinaryContent.length);
-        pkgSymbol.birPackageFile = new CompiledBinaryFile.BIRPackageFile(modifiedPkgBinaryContent);
+                new PositionTrackingInputStream(new ByteArrayInputStream(packageBinaryContent)),
+                packageBinaryContent);
+        pkgSymbol.birPackageFile = getBIRPackageFile(packageBinaryContent);
         SymbolEnv builtinEnv = this.symTable.pkgEnvMap.get(symTable.langAnnotationModuleSymbol);
         SymbolEnv pkgEnv = SymbolEnv.createPkgEnv(null, pkgSymbol.scope, builtinEnv);
         this.symTable.pkgEnvMap.put(pkgSymbol, pkgEnv);
         return pkgSymbol;
     }
 
+    static BIRPackageFile getBIRPackageFile(byte[] packageBinaryContent) {
+        // Binaries shared between compiler contexts, such as lang libs, share the package file as well
+        BIRPackageFile birPackageFile = BIR_PACKAGE_FILES.get(packageBinaryContent);
+        if (birPackageFile == null) {
+            // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
+            byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
+                    packageBinaryContent, 8, packageBinaryContent.length);
+            birPackageFile = new BIRPackageFile(modifiedPkgBinaryContent);
+            BIR_PACKAGE_FILES.put(packageBinaryContent, birPackageFile);
+        }
+        return birPackageFile;
+    }
+
     private BPackageSymbol definePackage(PackageID packageId,
                                          RepoHierarchy packageRepositoryHierarchy,
-                                         InputStream programFileInStream) {
+                                         PositionTrackingInputStream programFileInStream,
+                                         byte[] packageBinaryContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
             this.env.repoHierarchy = packageRepositoryHierarchy;
+            this.env.binaryContent = packageBinaryContent;
+            this.env.binaryContentStream = programFileInStream;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -229,6 +246,8 @@ public class BIRPackageSymbolEnter {
 
         PackageID pkgId = createPackageID(orgName, pkgName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
+        LazyFunctionScopeEntries scopeEntries = new LazyFunctionScopeEntries();
+        this.env.pkgSymbol.scope.entries = scopeEntries;
 
         // TODO Validate this pkdID with the requestedPackageID available in the env.
 
@@ -247,8 +266,8 @@ public class BIRPackageSymbolEnter {
 
         readTypeDefBodies(dataInStream);
 
-        // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        // Define functions. These are only read when they are looked up, using the function index.
+        readFunctionIndex(dataInStream, scopeEntries);
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -262,6 +281,57 @@ public class BIRPackageSymbolEnter {
         return this.env.pkgSymbol;
     }
 
+    private void readFunctionIndex(DataInputStream dataInStream, LazyFunctionScopeEntries scopeEntries)
+            throws IOException {
+        int indexSize = dataInStream.readInt();
+        Name[] funcNames = new Name[indexSize];
+        int[] offsets = new int[indexSize];
+        int[] lengths = new int[indexSize];
+        int sectionLength = 0;
+        for (int i = 0; i < indexSize; i++) {
+            funcNames[i] = names.fromString(getStringCPEntryValue(dataInStream));
+            offsets[i] = dataInStream.readInt();
+            lengths[i] = dataInStream.readInt();
+            sectionLength = Math.max(sectionLength, offsets[i] + lengths[i]);
+        }
+
+        int funcCount = dataInStream.readInt();
+        if (funcCount != indexSize) {
+            throw new BLangCompilerException("function index size " + indexSize +
+                    " does not match the function count " + funcCount);
+        }
+        // Refer to the functions in the binary content being read, rather than copying them
+        byte[] functions = this.env.binaryContent;
+        int sectionOffset = this.env.binaryContentStream.position();
+        if (sectionOffset + sectionLength > functions.length ||
+                dataInStream.skipBytes(sectionLength) != sectionLength) {
+            throw new BLangCompilerException("unexpected end of the function section");
+        }
+        for (int i = 0; i < indexSize; i++) {
+            BIRPackageSymbolEnv funcEnv = this.env;
+            int offset = sectionOffset + offsets[i];
+            int length = lengths[i];
+            scopeEntries.addPendingFunction(funcNames[i],
+                                            () -> defineIndexedFunction(funcEnv, functions, offset, length));
+        }
+    }
+
+    private void defineIndexedFunction(BIRPackageSymbolEnv funcEnv, byte[] functions, int offset, int length) {
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        this.env = funcEnv;
+        this.currentStructure = null;
+        try (DataInputStream dataInStream =
+                     new DataInputStream(new ByteArrayInputStream(functions, offset, length))) {
+            defineFunction(dataInStream);
+        } catch (IOException e) {
+            throw new BLangCompilerException(e.getMessage(), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+        }
+    }
+
     private void populateReferencedFunctions() {
         for (BStructureTypeSymbol structureTypeSymbol : this.structureTypes) {
             if (structureTypeSymbol.type.tag == TypeTags.OBJECT) {
@@ -451,7 +521,7 @@ public class BIRPackageSymbolEnter {
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -777,7 +847,7 @@ public class BIRPackageSymbolEnter {
             }
         }
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
 
@@ -1009,12 +1079,167 @@ public class BIRPackageSymbolEnter {
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
+        Map<String, BVarSymbol> globalVarMap = new HashMap<>();
+        byte[] binaryContent;
+        PositionTrackingInputStream binaryContentStream;
 
         BIRPackageSymbolEnv() {
             this.unresolvedTypes = new ArrayList<>();
         }
     }
 
+    /**
+     * Scope entries of a compiled package, in which module level functions are defined only when they are first
+     * looked up. Bulk operations such as iterating over the entries define all the pending functions first.
+     * <p>
+     * The position of a pending function is reserved when it is added, so that the entries are iterated in the order
+     * in which they are in the BIR, as if the functions were defined eagerly. Operations of {@code Map} which are not
+     * overridden here are implemented using the overridden ones, hence they see the pending functions as well.
+     *
+     * @since 2.0.0
+     */
+    static class LazyFunctionScopeEntries extends AbstractMap<Name, Scope.ScopeEntry> {
+
+        // Pending functions are mapped to null, until they are defined
+        private final Map<Name, Scope.ScopeEntry> entries = new LinkedHashMap<>();
+        private Map<Name, List<Runnable>> pendingFunctions;
+
+        /**
+         * Adds a function which is defined in this scope by the given definer when its name is first looked up.
+         *
+         * @param funcName name of the function
+         * @param definer  defines the function in this scope
+         */
+        void addPendingFunction(Name funcName, Runnable definer) {
+            if (pendingFunctions == null) {
+                pendingFunctions = new LinkedHashMap<>();
+            }
+            pendingFunctions.computeIfAbsent(funcName, k -> new ArrayList<>(1)).add(definer);
+            if (!entries.containsKey(funcName)) {
+                entries.put(funcName, null);
+            }
+        }
+
+        private synchronized void definePendingFunction(Object funcName) {
+            if (pendingFunctions == null) {
+                return;
+            }
+            List<Runnable> definers = pendingFunctions.remove(funcName);
+            if (definers == null) {
+                return;
+            }
+            if (pendingFunctions.isEmpty()) {
+                // Nothing left to be read, so let go of the function bytes and the constant pool
+                pendingFunctions = null;
+            }
+            for (Runnable definer : definers) {
+                definer.run();
+            }
+            if (entries.get(funcName) == null) {
+                // Not defined in this scope after all, so do not keep the reserved position
+                entries.remove(funcName);
+            }
+        }
+
+        private synchronized void defineAllFunctions() {
+            while (pendingFunctions != null) {
+                definePendingFunction(pendingFunctions.keySet().iterator().next());
+            }
+        }
+
+        @Override
+        public Scope.ScopeEntry get(Object key) {
+            definePendingFunction(key);
+            return entries.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            definePendingFunction(key);
+            return entries.get(key) != null;
+        }
+
+        @Override
+        public Scope.ScopeEntry put(Name key, Scope.ScopeEntry value) {
+            definePendingFunction(key);
+            return entries.put(key, value);
+        }
+
+        @Override
+        public Scope.ScopeEntry remove(Object key) {
+            definePendingFunction(key);
+            return entries.remove(key);
+        }
+
+        @Override
+        public synchronized void clear() {
+            pendingFunctions = null;
+            entries.clear();
+        }
+
+        @Override
+        public int size() {
+            defineAllFunctions();
+            return entries.size();
+        }
+
+        @Override
+        public Set<Map.Entry<Name, Scope.ScopeEntry>> entrySet() {
+            defineAllFunctions();
+            return entries.entrySet();
+        }
+    }
+
+    /**
+     * Input stream which keeps track of the number of bytes read from the underlying stream, which is the offset in
+     * the binary content being read, regardless of how the stream is buffered by its readers.
+     *
+     * @since 2.0.0
+     */
+    static class PositionTrackingInputStream extends FilterInputStream {
+
+        private int position;
+
+        PositionTrackingInputStream(InputStream in) {
+            super(in);
+        }
+
+        int position() {
+            return position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                position++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                position += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            // The position cannot be reset along with the underlying stream
+            return false;
+        }
+    }
+
     private static class UnresolvedType {
         String typeSig;
         Consumer<BType> completer;
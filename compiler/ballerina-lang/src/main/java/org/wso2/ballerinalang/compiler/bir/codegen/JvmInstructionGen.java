@@ -39,13 +39,18 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import static io.ballerina.runtime.api.utils.IdentifierUtils.decodeIdentifier;
 import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
@@ -65,6 +70,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -88,6 +94,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -121,6 +128,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_OPTIONAL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_INITIAL_VALUE_ENTRY;
@@ -189,6 +197,8 @@ public class JvmInstructionGen {
     private final JvmBStringConstantsGen stringConstantsGen;
     private final SymbolTable symbolTable;
     private final AsyncDataCollector asyncDataCollector;
+    // string constants loaded into temp vars of the current basic block, used to resolve record field keys
+    private final Map<BIRNode.BIRVariableDcl, String> constantStringKeys = new HashMap<>();
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1232,6 +1242,10 @@ public class JvmInstructionGen {
     }
 
     void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+        if (generatePrimitiveRecordFieldLoad(mapLoadIns)) {
+            return;
+        }
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
@@ -1268,6 +1282,72 @@ public class JvmInstructionGen {
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    private boolean generatePrimitiveRecordFieldLoad(BIRNonTerminator.FieldAccess mapLoadIns) {
+        BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        if (varRefType.tag != TypeTags.RECORD || mapLoadIns.fillingRead || !isPrimitiveFieldType(targetType)) {
+            return false;
+        }
+
+        String fieldName = this.constantStringKeys.get(mapLoadIns.keyOp.variableDcl);
+        if (fieldName == null || !currentPackage.equals(varRefType.tsymbol.pkgID)) {
+            return false;
+        }
+
+        // Record value classes keep required fields in typed JVM fields, so a value of the exact generated class
+        // can be read without the key switch in get() and without boxing. Any other mapping that is structurally
+        // a subtype of the static record type goes through the generic path.
+        String className = getTypeValueClassName(currentPackageName, toNameString(varRefType));
+        if (!jvmPackageGen.isRecordValueClass(className)) {
+            return false;
+        }
+
+        BField field = null;
+        for (BField recordField : ((BRecordType) varRefType).fields.values()) {
+            if (recordField != null && fieldName.equals(decodeIdentifier(recordField.name.value))) {
+                field = recordField;
+                break;
+            }
+        }
+
+        if (field == null || field.type.tag != targetType.tag ||
+                (field.symbol.flags & BAL_OPTIONAL) == BAL_OPTIONAL) {
+            return false;
+        }
+
+        Label genericLoadLabel = new Label();
+        Label endLabel = new Label();
+        this.loadVar(mapLoadIns.rhsOp.variableDcl);
+        this.mv.visitInsn(DUP);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitFieldInsn(GETFIELD, className, field.name.value, getTypeDesc(field.type));
+        this.mv.visitJumpInsn(GOTO, endLabel);
+
+        this.mv.visitLabel(genericLoadLabel);
+        this.loadVar(mapLoadIns.keyOp.variableDcl);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "get", String.format("(L%s;)L%s;", OBJECT, OBJECT),
+                                true);
+        jvmCastGen.addUnboxInsn(this.mv, targetType);
+
+        this.mv.visitLabel(endLabel);
+        this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        return true;
+    }
+
+    private static boolean isPrimitiveFieldType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.FLOAT:
+            case TypeTags.BOOLEAN:
+            case TypeTags.BYTE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
@@ -1871,6 +1951,17 @@ public class JvmInstructionGen {
 
         JvmCodeGenUtil.loadConstantValue(loadIns.type, loadIns.value, this.mv, stringConstantsGen);
         this.storeToVar(loadIns.lhsOp.variableDcl);
+
+        BIRNode.BIRVariableDcl lhsVarDcl = loadIns.lhsOp.variableDcl;
+        if (lhsVarDcl.kind == VarKind.TEMP && TypeTags.isStringTypeTag(loadIns.type.tag)) {
+            this.constantStringKeys.put(lhsVarDcl, String.valueOf(loadIns.value));
+        } else {
+            this.constantStringKeys.remove(lhsVarDcl);
+        }
+    }
+
+    void resetConstantStringKeys() {
+        this.constantStringKeys.clear();
     }
 
     private void loadListInitialValues(BIRNonTerminator.NewArray arrayNewIns) {
@@ -1901,6 +1992,11 @@ public class JvmInstructionGen {
     }
 
     void generateInstructions(int localVarOffset, BIRInstruction inst) {
+        if (inst.getKind() != InstructionKind.CONST_LOAD && inst instanceof BIRNonTerminator &&
+                ((BIRNonTerminator) inst).lhsOp != null) {
+            this.constantStringKeys.remove(((BIRNonTerminator) inst).lhsOp.variableDcl);
+        }
+
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
         } else {
@@ -119,6 +119,7 @@ class JvmObservabilityGen {
     private int desugaredBBIndex;
     private int constantIndex;
     private int defaultServiceIndex;
+    private int callSiteIndex;
 
     private final Map<Object, BIROperand> compileTimeConstants;
     private final Map<Name, String> svcAttachPoints;
@@ -132,6 +133,7 @@ class JvmObservabilityGen {
         this.desugaredBBIndex = 0;
         this.constantIndex = 0;
         this.defaultServiceIndex = 0;
+        this.callSiteIndex = 0;
     }
 
     /**
@@ -718,15 +720,17 @@ class JvmObservabilityGen {
                 resourceAccessor);
         BIROperand isResourceOperand = generateGlobalConstantOperand(pkg, symbolTable.booleanType, isResource);
         BIROperand isRemoteOperand = generateGlobalConstantOperand(pkg, symbolTable.booleanType, isRemote);
+        BIROperand callSiteIdOperand = generateCallSiteIdOperand(pkg);
 
         JIMethodCall observeStartCallTerminator = new JIMethodCall(null);
         observeStartCallTerminator.invocationType = INVOKESTATIC;
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
-        observeStartCallTerminator.jMethodVMSig = String.format("(L%s;L%s;L%s;L%s;L%s;L%s;ZZ)V",
+        observeStartCallTerminator.jMethodVMSig = String.format("(L%s;L%s;L%s;L%s;L%s;L%s;ZZJ)V",
                 BAL_ENV, B_STRING_VALUE, B_STRING_VALUE, B_STRING_VALUE, B_STRING_VALUE, B_STRING_VALUE);
         observeStartCallTerminator.name = START_RESOURCE_OBSERVATION_METHOD;
         observeStartCallTerminator.args = Arrays.asList(pkgOperand, originalInsPosOperand, serviceNameOperand,
-                resourcePathOrFunctionOperand, resourceAccessorOperand, isResourceOperand, isRemoteOperand);
+                resourcePathOrFunctionOperand, resourceAccessorOperand, isResourceOperand, isRemoteOperand,
+                callSiteIdOperand);
         observeStartBB.terminator = observeStartCallTerminator;
     }
 
@@ -757,15 +761,16 @@ class JvmObservabilityGen {
                 isMainEntryPoint);
         BIROperand isRemoteOperand = generateGlobalConstantOperand(pkg, symbolTable.booleanType, isRemote);
         BIROperand isWorkerOperand = generateGlobalConstantOperand(pkg, symbolTable.booleanType, isWorker);
+        BIROperand callSiteIdOperand = generateCallSiteIdOperand(pkg);
 
         JIMethodCall observeStartCallTerminator = new JIMethodCall(desugaredInsLocation);
         observeStartCallTerminator.invocationType = INVOKESTATIC;
         observeStartCallTerminator.jClassName = OBSERVE_UTILS;
-        observeStartCallTerminator.jMethodVMSig = String.format("(L%s;L%s;L%s;L%s;L%s;ZZZ)V", BAL_ENV, B_STRING_VALUE,
+        observeStartCallTerminator.jMethodVMSig = String.format("(L%s;L%s;L%s;L%s;L%s;ZZZJ)V", BAL_ENV, B_STRING_VALUE,
                 B_STRING_VALUE, B_OBJECT, B_STRING_VALUE);
         observeStartCallTerminator.name = START_CALLABLE_OBSERVATION_METHOD;
         observeStartCallTerminator.args = Arrays.asList(pkgOperand, originalInsPosOperand, objectOperand, actionOperand,
-                isMainEntryPointOperand, isRemoteOperand, isWorkerOperand);
+                isMainEntryPointOperand, isRemoteOperand, isWorkerOperand, callSiteIdOperand);
         observeStartBB.terminator = observeStartCallTerminator;
     }
 
@@ -858,6 +863,17 @@ class JvmObservabilityGen {
         });
     }
 
+    /**
+     * Generate a constant operand holding a new call site id, unique within the package.
+     * The runtime caches the metrics of the observations started at a call site against this id.
+     *
+     * @param pkg The package which should contain the constant
+     * @return The generated operand which will pass the call site id
+     */
+    private BIROperand generateCallSiteIdOperand(BIRPackage pkg) {
+        return generateGlobalConstantOperand(pkg, symbolTable.intType, (long) callSiteIndex++);
+    }
+
     /**
      * Create and insert a new basic block into a function in the specified index.
      *
@@ -67,6 +67,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -131,6 +132,7 @@ public class JvmPackageGen {
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
     private final Set<PackageID> dependentModules;
+    private final Set<String> recordValueClasses;
     private final BLangDiagnosticLog dlog;
 
     JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog) {
@@ -138,6 +140,7 @@ public class JvmPackageGen {
         globalVarClassMap = new HashMap<>();
         externClassMap = new HashMap<>();
         dependentModules = new LinkedHashSet<>();
+        recordValueClasses = new HashSet<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
@@ -668,6 +671,7 @@ public class JvmPackageGen {
         globalVarClassMap.clear();
         externClassMap.clear();
         dependentModules.clear();
+        recordValueClasses.clear();
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -700,6 +704,19 @@ public class JvmPackageGen {
         }
     }
 
+    boolean isRecordValueClass(String className) {
+        return this.recordValueClasses.contains(className);
+    }
+
+    private void linkRecordValueClasses(BIRPackage module) {
+        String pkgName = JvmCodeGenUtil.getPackageName(module.packageID);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.type.tag == TypeTags.RECORD) {
+                recordValueClasses.add(JvmValueGen.getTypeValueClassName(pkgName, typeDef.internalName.value));
+            }
+        }
+    }
+
     public String lookupGlobalVarClassName(String pkgName, String varName) {
         String key = pkgName + varName;
         if (!globalVarClassMap.containsKey(key)) {
@@ -767,6 +784,7 @@ public class JvmPackageGen {
         rewriteRecordInits(module.typeDefs);
 
         // generate object/record value classes
+        linkRecordValueClasses(module);
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen);
         valueGen.generateValueClasses(jarEntries, stringConstantsGen);
 
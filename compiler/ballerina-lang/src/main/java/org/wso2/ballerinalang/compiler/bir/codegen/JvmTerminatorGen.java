@@ -369,7 +369,8 @@ public class JvmTerminatorGen {
         this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap",
                 String.format("(L%s;)L%s;", STRING_VALUE, LOCK_VALUE), false);
         this.mv.visitVarInsn(ALOAD, localVarOffset);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "lock", String.format("(L%s;)Z", STRAND_CLASS), false);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, lockIns.readOnly ? "lockShared" : "lock",
+                String.format("(L%s;)Z", STRAND_CLASS), false);
         this.mv.visitInsn(POP);
         genYieldCheckForLock(this.mv, this.labelGen, funcName, localVarOffset);
         this.mv.visitJumpInsn(GOTO, gotoLabel);
@@ -387,7 +388,8 @@ public class JvmTerminatorGen {
         this.mv.visitLdcInsn(lockName);
         this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_STORE, "getLockFromMap", String.format("(L%s;)L%s;",
                 STRING_VALUE, LOCK_VALUE), false);
-        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, "unlock", "()V", false);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, LOCK_VALUE, unlockIns.relatedLock.readOnly ? "unlockShared" : "unlock",
+                "()V", false);
 
         this.mv.visitJumpInsn(GOTO, gotoLabel);
     }
@@ -316,6 +316,12 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        /**
+         * Whether the locked block only reads the lock variables, in which case the lock can be acquired in shared
+         * mode.
+         */
+        public boolean readOnly = false;
+
         public Lock(Location pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
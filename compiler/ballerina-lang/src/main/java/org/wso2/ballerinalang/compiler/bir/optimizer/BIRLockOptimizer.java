@@ -19,11 +19,18 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +43,24 @@ import java.util.Set;
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    /**
+     * Instructions that cannot modify the lock variables or any value reachable from them, other than by assigning
+     * to a lock variable.
+     */
+    private static final Set<InstructionKind> READ_ONLY_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.MAP_LOAD, InstructionKind.ARRAY_LOAD,
+            InstructionKind.OBJECT_LOAD, InstructionKind.TYPE_CAST, InstructionKind.IS_LIKE, InstructionKind.TYPE_TEST,
+            InstructionKind.STRING_LOAD, InstructionKind.XML_SEQ_LOAD, InstructionKind.XML_LOAD,
+            InstructionKind.XML_LOAD_ALL, InstructionKind.XML_ATTRIBUTE_LOAD, InstructionKind.TABLE_LOAD,
+            InstructionKind.ADD, InstructionKind.SUB, InstructionKind.MUL, InstructionKind.DIV, InstructionKind.MOD,
+            InstructionKind.EQUAL, InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN,
+            InstructionKind.GREATER_EQUAL, InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL,
+            InstructionKind.AND, InstructionKind.OR, InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL,
+            InstructionKind.CLOSED_RANGE, InstructionKind.HALF_OPEN_RANGE, InstructionKind.TYPEOF,
+            InstructionKind.NOT, InstructionKind.NEGATE, InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR,
+            InstructionKind.BITWISE_XOR, InstructionKind.BITWISE_LEFT_SHIFT, InstructionKind.BITWISE_RIGHT_SHIFT,
+            InstructionKind.BITWISE_UNSIGNED_RIGHT_SHIFT);
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
@@ -52,6 +77,65 @@ public class BIRLockOptimizer extends BIRVisitor {
     private void optimizeLocks() {
         analyzeLocks();
         propagateLocks();
+        markReadOnlyLocks();
+    }
+
+    private void markReadOnlyLocks() {
+        for (BIRTerminator.Lock lock : lockList) {
+            lock.readOnly = isReadOnlyLock(lock);
+        }
+    }
+
+    /**
+     * Checks whether the locked block of the given lock only reads the lock variables. The check is conservative,
+     * any call, nested lock or store makes the lock exclusive.
+     */
+    private boolean isReadOnlyLock(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> toVisit = new ArrayDeque<>();
+        toVisit.push(lock.lockedBB);
+        while (!toVisit.isEmpty()) {
+            BIRNode.BIRBasicBlock bb = toVisit.pop();
+            if (!visited.add(bb)) {
+                continue;
+            }
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = bb.terminator;
+            switch (terminator.kind) {
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock != lock) {
+                        return false;
+                    }
+                    break;
+                case GOTO:
+                case BRANCH:
+                    for (BIRNode.BIRBasicBlock nextBB : terminator.getNextBasicBlocks()) {
+                        toVisit.push(nextBB);
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (!READ_ONLY_INSTRUCTIONS.contains(instruction.kind) || isGlobalVariable(instruction.lhsOp)) {
+            return false;
+        }
+        // A filling read adds the filler value to the container.
+        return !(instruction instanceof BIRNonTerminator.FieldAccess) ||
+                !((BIRNonTerminator.FieldAccess) instruction).fillingRead;
+    }
+
+    private boolean isGlobalVariable(BIROperand operand) {
+        return operand != null && operand.variableDcl instanceof BIRNode.BIRGlobalVariableDcl;
     }
 
     private void analyzeLocks() {
@@ -81,8 +81,8 @@ public class BIRBinaryWriter {
         writeGlobalVars(birbuf, typeWriter, birPackage.globalVars);
         // Write type def bodies
         writeTypeDefBodies(birbuf, typeWriter, birPackage.typeDefs);
-        // Write functions
-        writeFunctions(birbuf, typeWriter, birPackage.functions);
+        // Write the function index and functions
+        writeIndexedFunctions(birbuf, typeWriter, birPackage.functions);
         // Write annotations
         writeAnnotations(birbuf, typeWriter, birPackage.annotations);
         // Write service declarations
@@ -189,6 +189,30 @@ public class BIRBinaryWriter {
         birFunctionList.forEach(func -> writeFunction(buf, typeWriter, func));
     }
 
+    /**
+     * Write the module level functions, preceded by an index of the function names and the offset and the length
+     * of each function, relative to the start of the functions. The index lets the functions of a dependency be
+     * read only when they are looked up.
+     *
+     * @param buf ByteBuf
+     * @param typeWriter Type writer
+     * @param birFunctionList Module level functions
+     */
+    private void writeIndexedFunctions(ByteBuf buf, BIRTypeWriter typeWriter,
+                                       List<BIRNode.BIRFunction> birFunctionList) {
+        ByteBuf funcBuf = Unpooled.buffer();
+        buf.writeInt(birFunctionList.size());
+        for (BIRNode.BIRFunction birFunction : birFunctionList) {
+            int offset = funcBuf.writerIndex();
+            writeFunction(funcBuf, typeWriter, birFunction);
+            buf.writeInt(addStringCPEntry(birFunction.name.value));
+            buf.writeInt(offset);
+            buf.writeInt(funcBuf.writerIndex() - offset);
+        }
+        buf.writeInt(birFunctionList.size());
+        buf.writeBytes(funcBuf);
+    }
+
     private void writeFunction(ByteBuf buf, BIRTypeWriter typeWriter, BIRNode.BIRFunction birFunction) {
 
         // Write Position
@@ -21,6 +21,7 @@ import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -171,6 +172,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -206,6 +208,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_FILTER_BY_INDEX_FUNCTION = new Name("filterByIndex");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -322,7 +325,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                addIndexedTableScan(initFromClause, clauses, resultType), resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -410,6 +413,139 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(valueVarRef, typedescExpr), pos);
     }
 
+    /**
+     * Narrow down a table collection using a secondary index of the table, when the clause following the from clause
+     * is a where clause which compares a field of the row to a value. i.e.
+     * from var u in tbl where u.email == email ...
+     * is desugared to
+     * from var u in filterByIndex(tbl, "email", "==", email) where u.email == email ...
+     * The where clause is kept, since filterByIndex returns the table as it is when the field is not indexed.
+     * <p>
+     * The value is evaluated once before the pipeline is created, hence this is only done for query expressions
+     * which are consumed right away and only for values which cannot change while the query is evaluated.
+     *
+     * @param fromClause the initial from clause.
+     * @param clauses    list of query clauses.
+     * @param resultType result type of the query output.
+     * @return collection to create the pipeline with.
+     */
+    private BLangExpression addIndexedTableScan(BLangFromClause fromClause, List<BLangNode> clauses,
+                                                BType resultType) {
+        BLangExpression collection = fromClause.collection;
+        if (collection.type.tag != TypeTags.TABLE || resultType.tag == TypeTags.STREAM || clauses.size() < 2
+                || clauses.get(1).getKind() != NodeKind.WHERE
+                || clauses.stream().anyMatch(clause -> clause.getKind() == NodeKind.DO)) {
+            return collection;
+        }
+
+        BLangVariable rowVariable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (rowVariable.getKind() != NodeKind.VARIABLE || rowVariable.symbol == null) {
+            return collection;
+        }
+
+        BLangBinaryExpr predicate = findIndexablePredicate(((BLangWhereClause) clauses.get(1)).expression,
+                rowVariable.symbol);
+        if (predicate == null) {
+            return collection;
+        }
+
+        OperatorKind operator = predicate.opKind;
+        BLangFieldBasedAccess fieldAccess;
+        BLangExpression value;
+        if (isRowFieldAccess(predicate.lhsExpr, rowVariable.symbol)) {
+            fieldAccess = (BLangFieldBasedAccess) predicate.lhsExpr;
+            value = predicate.rhsExpr;
+        } else {
+            fieldAccess = (BLangFieldBasedAccess) predicate.rhsExpr;
+            value = predicate.lhsExpr;
+            operator = getFlippedOperator(operator);
+        }
+
+        Location pos = collection.pos;
+        BLangExpression valueCopy;
+        if (value.getKind() == NodeKind.SIMPLE_VARIABLE_REF) {
+            valueCopy = ASTBuilderUtil.createVariableRef(value.pos, ((BLangSimpleVarRef) value).symbol);
+        } else {
+            valueCopy = ASTBuilderUtil.createLiteral(value.pos, value.type, ((BLangLiteral) value).value);
+        }
+        BLangInvocation filterInvocation = createQueryLibInvocation(QUERY_FILTER_BY_INDEX_FUNCTION,
+                Lists.of(collection,
+                        ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldAccess.field.value),
+                        ASTBuilderUtil.createLiteral(pos, symTable.stringType, operator.value()),
+                        desugar.addConversionExprIfRequired(valueCopy, symTable.anyType)), pos);
+        return addTypeConversionExpr(filterInvocation, collection.type);
+    }
+
+    private BLangBinaryExpr findIndexablePredicate(BLangExpression expr, BSymbol rowSymbol) {
+        if (expr.getKind() == NodeKind.GROUP_EXPR) {
+            return findIndexablePredicate(((BLangGroupExpr) expr).expression, rowSymbol);
+        }
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                // any of the conjuncts narrows down the rows
+                BLangBinaryExpr predicate = findIndexablePredicate(binaryExpr.lhsExpr, rowSymbol);
+                return predicate != null ? predicate : findIndexablePredicate(binaryExpr.rhsExpr, rowSymbol);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                if ((isRowFieldAccess(binaryExpr.lhsExpr, rowSymbol) && isInvariant(binaryExpr.rhsExpr, rowSymbol))
+                        || (isRowFieldAccess(binaryExpr.rhsExpr, rowSymbol)
+                        && isInvariant(binaryExpr.lhsExpr, rowSymbol))) {
+                    return binaryExpr;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isRowFieldAccess(BLangExpression expr, BSymbol rowSymbol) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR || expr.getClass() != BLangFieldBasedAccess.class) {
+            return false;
+        }
+
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        return !fieldAccess.optionalFieldAccess && fieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                && ((BLangSimpleVarRef) fieldAccess.expr).symbol == rowSymbol;
+    }
+
+    // Literals, final variables and function parameters keep their value while the query is evaluated
+    private boolean isInvariant(BLangExpression expr, BSymbol rowSymbol) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                return symbol instanceof BVarSymbol && symbol != rowSymbol
+                        && (symbol.flags & (Flags.FINAL | Flags.FUNCTION_FINAL)) != 0;
+            default:
+                return false;
+        }
+    }
+
+    private OperatorKind getFlippedOperator(OperatorKind operator) {
+        switch (operator) {
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return operator;
+        }
+    }
+
     /**
      * Desugar inputClause to below and return a reference to created from _StreamFunction.
      * _StreamFunction xsFrom = createFromFunction(function(_Frame frame) returns _Frame|error? {
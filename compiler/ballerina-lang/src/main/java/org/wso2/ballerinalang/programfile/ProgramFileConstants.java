@@ -25,7 +25,7 @@ public class ProgramFileConstants {
 
     public static final int MAGIC_NUMBER = 0xBA1DA4CE;
     public static final short VERSION_NUMBER = 50;
-    public static final int BIR_VERSION_NUMBER = 58;
+    public static final int BIR_VERSION_NUMBER = 59;
     public static final short MIN_SUPPORTED_VERSION = 58;
     public static final short MAX_SUPPORTED_VERSION = 58;
 
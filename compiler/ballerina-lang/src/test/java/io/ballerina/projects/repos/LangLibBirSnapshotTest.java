@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.repos;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Test cases for the JVM wide snapshot of lang lib BIRs.
+ */
+public class LangLibBirSnapshotTest {
+
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("lang-lib-bir-snapshot-" + System.nanoTime());
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (var paths = Files.list(tempDir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(tempDir);
+    }
+
+    @Test
+    public void testUnchangedBirIsReused() throws IOException {
+        Path birPath = writeBir("lang.int.bir", new byte[]{1, 2, 3});
+        byte[] bir = LangLibBirSnapshot.getBir(birPath);
+        Assert.assertEquals(bir, new byte[]{1, 2, 3});
+        Assert.assertSame(LangLibBirSnapshot.getBir(birPath), bir);
+
+        // Paths are normalized before looking up the snapshot
+        Path unnormalizedPath = tempDir.resolve(".").resolve("lang.int.bir");
+        Assert.assertSame(LangLibBirSnapshot.getBir(unnormalizedPath), bir);
+    }
+
+    @Test
+    public void testBirWithChangedSizeIsReadAgain() throws IOException {
+        Path birPath = writeBir("lang.string.bir", new byte[]{1, 2, 3});
+        FileTime lastModified = Files.getLastModifiedTime(birPath);
+        byte[] bir = LangLibBirSnapshot.getBir(birPath);
+
+        Files.write(birPath, new byte[]{4, 5, 6, 7});
+        Files.setLastModifiedTime(birPath, lastModified);
+        byte[] changedBir = LangLibBirSnapshot.getBir(birPath);
+        Assert.assertEquals(changedBir, new byte[]{4, 5, 6, 7});
+        Assert.assertSame(LangLibBirSnapshot.getBir(birPath), changedBir);
+        // The bytes handed out earlier are not modified
+        Assert.assertEquals(bir, new byte[]{1, 2, 3});
+    }
+
+    @Test
+    public void testBirWithChangedModificationTimeIsReadAgain() throws IOException {
+        Path birPath = writeBir("lang.float.bir", new byte[]{1, 2, 3});
+        byte[] bir = LangLibBirSnapshot.getBir(birPath);
+
+        Files.write(birPath, new byte[]{7, 8, 9});
+        Files.setLastModifiedTime(birPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(birPath).toMillis() + 60000));
+        byte[] changedBir = LangLibBirSnapshot.getBir(birPath);
+        Assert.assertNotSame(changedBir, bir);
+        Assert.assertEquals(changedBir, new byte[]{7, 8, 9});
+    }
+
+    @Test
+    public void testBirsAreKeyedByPath() throws IOException {
+        Path birPath = writeBir("lang.map.bir", new byte[]{1, 2, 3});
+        Path otherBirPath = writeBir("lang.array.bir", new byte[]{1, 2, 3});
+        Assert.assertNotSame(LangLibBirSnapshot.getBir(otherBirPath), LangLibBirSnapshot.getBir(birPath));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testMissingBir() throws IOException {
+        LangLibBirSnapshot.getBir(tempDir.resolve("lang.missing.bir"));
+    }
+
+    private Path writeBir(String fileName, byte[] content) throws IOException {
+        return Files.write(tempDir.resolve(fileName), content);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.BIRPackageSymbolEnter.PositionTrackingInputStream;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Test cases for reading the binary content of compiled packages in {@link BIRPackageSymbolEnter}.
+ */
+public class BIRPackageSymbolEnterTest {
+
+    @Test
+    public void testPositionOfBufferedStream() throws IOException {
+        byte[] content = new byte[10000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        // The buffered stream reads ahead of the position of its reader
+        PositionTrackingInputStream stream =
+                new PositionTrackingInputStream(new BufferedInputStream(new ByteArrayInputStream(content)));
+        DataInputStream dataInStream = new DataInputStream(stream);
+
+        dataInStream.readInt();
+        dataInStream.readLong();
+        Assert.assertEquals(stream.position(), 12);
+        Assert.assertEquals(dataInStream.skipBytes(1000), 1000);
+        Assert.assertEquals(stream.position(), 1012);
+        byte[] bytes = new byte[100];
+        dataInStream.readFully(bytes);
+        Assert.assertEquals(stream.position(), 1112);
+        Assert.assertEquals(bytes, Arrays.copyOfRange(content, 1012, 1112));
+        Assert.assertEquals(dataInStream.readByte(), content[1112]);
+        Assert.assertEquals(stream.position(), 1113);
+
+        Assert.assertEquals(dataInStream.skipBytes(content.length), content.length - 1113);
+        Assert.assertEquals(stream.position(), content.length);
+        Assert.assertEquals(stream.read(), -1);
+        Assert.assertEquals(stream.position(), content.length);
+    }
+
+    @Test
+    public void testPackageFileSharedPerBinaryContent() {
+        byte[] content = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        BIRPackageFile packageFile = BIRPackageSymbolEnter.getBIRPackageFile(content);
+        // The magic value and the version are stripped off
+        Assert.assertEquals(packageFile.pkgBirBinaryContent, new byte[]{9, 10});
+        Assert.assertSame(BIRPackageSymbolEnter.getBIRPackageFile(content), packageFile);
+
+        // Binary contents are identified by identity, not by their contents
+        BIRPackageFile otherPackageFile = BIRPackageSymbolEnter.getBIRPackageFile(content.clone());
+        Assert.assertNotSame(otherPackageFile, packageFile);
+        Assert.assertEquals(otherPackageFile.pkgBirBinaryContent, packageFile.pkgBirBinaryContent);
+    }
+
+    @Test
+    public void testPackageFileReleasedWithBinaryContent() throws InterruptedException {
+        WeakReference<BIRPackageFile> packageFileRef = getPackageFileOfUnreachableContent();
+        for (int i = 0; i < 50 && packageFileRef.get() != null; i++) {
+            System.gc();
+            // Stale entries are expunged when the map is accessed
+            BIRPackageSymbolEnter.getBIRPackageFile(new byte[8]);
+            Thread.sleep(10);
+        }
+        Assert.assertNull(packageFileRef.get());
+    }
+
+    private static WeakReference<BIRPackageFile> getPackageFileOfUnreachableContent() {
+        return new WeakReference<>(BIRPackageSymbolEnter.getBIRPackageFile(new byte[1024]));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.BIRPackageSymbolEnter.LazyFunctionScopeEntries;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the scope entries of compiled packages, in which module level functions are defined lazily.
+ */
+public class LazyFunctionScopeEntriesTest {
+
+    private static final Name TYPE = new Name("Type");
+    private static final Name FOO = new Name("foo");
+    private static final Name BAR = new Name("bar");
+    private static final Name BAZ = new Name("baz");
+    private static final Name ANNOT = new Name("annot");
+
+    private Scope scope;
+    private LazyFunctionScopeEntries entries;
+    private List<Name> definedFunctions;
+
+    @BeforeMethod
+    public void setUp() {
+        // Mirrors the order in which BIRPackageSymbolEnter defines the symbols of a package
+        scope = new Scope(null);
+        entries = new LazyFunctionScopeEntries();
+        scope.entries = entries;
+        definedFunctions = new ArrayList<>();
+        scope.define(TYPE, symbol(TYPE));
+        addPendingFunction(FOO);
+        addPendingFunction(BAR);
+        addPendingFunction(BAZ);
+        scope.define(ANNOT, symbol(ANNOT));
+    }
+
+    @Test
+    public void testFunctionDefinedOnLookup() {
+        Assert.assertTrue(definedFunctions.isEmpty());
+
+        Scope.ScopeEntry entry = scope.lookup(BAR);
+        Assert.assertEquals(entry.symbol.name, BAR);
+        Assert.assertEquals(definedFunctions, Arrays.asList(BAR));
+
+        // defined only once
+        Assert.assertSame(scope.lookup(BAR), entry);
+        Assert.assertTrue(entries.containsKey(BAR));
+        Assert.assertEquals(definedFunctions, Arrays.asList(BAR));
+        Assert.assertSame(scope.lookup(new Name("undefined")), Scope.NOT_FOUND_ENTRY);
+    }
+
+    @Test
+    public void testIterationReturnsAllFunctionsInOrder() {
+        scope.lookup(BAZ);
+
+        List<Name> names = new ArrayList<>();
+        for (Map.Entry<Name, Scope.ScopeEntry> entry : entries.entrySet()) {
+            Assert.assertEquals(entry.getValue().symbol.name, entry.getKey());
+            names.add(entry.getKey());
+        }
+        Assert.assertEquals(names, Arrays.asList(TYPE, FOO, BAR, BAZ, ANNOT));
+        Assert.assertEquals(entries.size(), 5);
+        Assert.assertEquals(new ArrayList<>(entries.keySet()), names);
+        Assert.assertEquals(definedFunctions, Arrays.asList(BAZ, FOO, BAR));
+    }
+
+    @Test
+    public void testDefaultMapOperationsDefinePendingFunctions() {
+        Scope.ScopeEntry other = new Scope.ScopeEntry(symbol(FOO), Scope.NOT_FOUND_ENTRY);
+        Scope.ScopeEntry foo = entries.computeIfAbsent(FOO, name -> other);
+        Assert.assertNotSame(foo, other);
+        Assert.assertEquals(foo.symbol.name, FOO);
+
+        Scope.ScopeEntry bar = entries.putIfAbsent(BAR, other);
+        Assert.assertNotNull(bar);
+        Assert.assertNotSame(bar, other);
+        Assert.assertSame(entries.get(BAR), bar);
+
+        Assert.assertNotSame(entries.getOrDefault(BAZ, other), other);
+        Assert.assertEquals(definedFunctions, Arrays.asList(FOO, BAR, BAZ));
+    }
+
+    @Test
+    public void testFunctionsWithSameName() {
+        addPendingFunction(FOO);
+        Scope.ScopeEntry entry = scope.lookup(FOO);
+        Assert.assertEquals(entry.symbol.name, FOO);
+        Assert.assertEquals(entry.next.symbol.name, FOO);
+        Assert.assertSame(entry.next.next, Scope.NOT_FOUND_ENTRY);
+        Assert.assertEquals(definedFunctions, Arrays.asList(FOO, FOO));
+    }
+
+    @Test
+    public void testFunctionLookedUpWhileDefiningAnother() {
+        Name caller = new Name("caller");
+        entries.addPendingFunction(caller, () -> {
+            definedFunctions.add(caller);
+            // e.g. a function whose definition resolves another function of the same package
+            Assert.assertEquals(scope.lookup(FOO).symbol.name, FOO);
+            scope.define(caller, symbol(caller));
+        });
+
+        Assert.assertEquals(scope.lookup(caller).symbol.name, caller);
+        Assert.assertEquals(definedFunctions, Arrays.asList(caller, FOO));
+    }
+
+    @Test
+    public void testRemoveAndPutPendingFunction() {
+        Scope.ScopeEntry removed = entries.remove(FOO);
+        Assert.assertEquals(removed.symbol.name, FOO);
+        Assert.assertFalse(entries.containsKey(FOO));
+
+        Scope.ScopeEntry replacement = new Scope.ScopeEntry(symbol(BAR), Scope.NOT_FOUND_ENTRY);
+        Scope.ScopeEntry replaced = entries.put(BAR, replacement);
+        Assert.assertEquals(replaced.symbol.name, BAR);
+        Assert.assertSame(entries.get(BAR), replacement);
+        Assert.assertEquals(new ArrayList<>(entries.keySet()), Arrays.asList(TYPE, BAR, BAZ, ANNOT));
+    }
+
+    private void addPendingFunction(Name name) {
+        entries.addPendingFunction(name, () -> {
+            definedFunctions.add(name);
+            scope.define(name, symbol(name));
+        });
+    }
+
+    private static BSymbol symbol(Name name) {
+        return new BSymbol(SymTag.FUNCTION, 0, name, null, null, null, null, SymbolOrigin.COMPILED_SOURCE);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.Collections;
+
+/**
+ * Test cases for marking read-only lock statements in {@link BIRLockOptimizer}.
+ */
+public class BIRLockOptimizerTest {
+
+    private final BIRNode.BIRGlobalVariableDcl global = new BIRNode.BIRGlobalVariableDcl(null, 0, null,
+            PackageID.DEFAULT, new Name("counter"), VarScope.GLOBAL, VarKind.GLOBAL, "counter", null);
+    private final BIRNode.BIRVariableDcl local = new BIRNode.BIRVariableDcl(null, new Name("%0"), VarScope.FUNCTION,
+            VarKind.TEMP);
+    private final BIRNode.BIRVariableDcl key = new BIRNode.BIRVariableDcl(null, new Name("%1"), VarScope.FUNCTION,
+            VarKind.TEMP);
+
+    @Test
+    public void testReadOnlyLock() {
+        BIRNode.BIRBasicBlock lockedBB = newBasicBlock("bb1");
+        lockedBB.instructions.add(new BIRNonTerminator.Move(null, new BIROperand(global), new BIROperand(local)));
+        BIRTerminator.Lock lock = optimize(lockedBB, lockedBB);
+
+        Assert.assertTrue(lock.readOnly);
+    }
+
+    @Test
+    public void testReadOnlyLockWithBranches() {
+        BIRNode.BIRBasicBlock lockedBB = newBasicBlock("bb1");
+        BIRNode.BIRBasicBlock thenBB = newBasicBlock("bb2");
+        BIRNode.BIRBasicBlock elseBB = newBasicBlock("bb3");
+        BIRNode.BIRBasicBlock unlockingBB = newBasicBlock("bb4");
+        lockedBB.instructions.add(new BIRNonTerminator.Move(null, new BIROperand(global), new BIROperand(local)));
+        lockedBB.terminator = new BIRTerminator.Branch(null, new BIROperand(local), thenBB, elseBB);
+        thenBB.terminator = new BIRTerminator.GOTO(null, unlockingBB);
+        elseBB.terminator = new BIRTerminator.GOTO(null, unlockingBB);
+        BIRTerminator.Lock lock = optimize(lockedBB, unlockingBB);
+
+        Assert.assertTrue(lock.readOnly);
+    }
+
+    @Test
+    public void testLockWritingGlobalVariable() {
+        BIRNode.BIRBasicBlock lockedBB = newBasicBlock("bb1");
+        lockedBB.instructions.add(new BIRNonTerminator.Move(null, new BIROperand(local), new BIROperand(global)));
+        BIRTerminator.Lock lock = optimize(lockedBB, lockedBB);
+
+        Assert.assertFalse(lock.readOnly);
+    }
+
+    @Test
+    public void testLockStoringToLockVariable() {
+        BIRNode.BIRBasicBlock lockedBB = newBasicBlock("bb1");
+        lockedBB.instructions.add(new BIRNonTerminator.FieldAccess(null, InstructionKind.MAP_STORE,
+                new BIROperand(global), new BIROperand(key), new BIROperand(local)));
+        BIRTerminator.Lock lock = optimize(lockedBB, lockedBB);
+
+        Assert.assertFalse(lock.readOnly);
+    }
+
+    @Test
+    public void testLockWithFillingRead() {
+        BIRNode.BIRBasicBlock lockedBB = newBasicBlock("bb1");
+        lockedBB.instructions.add(new BIRNonTerminator.FieldAccess(null, InstructionKind.MAP_LOAD,
+                new BIROperand(local), new BIROperand(key), new BIROperand(global), false, true));
+        BIRTerminator.Lock lock = optimize(lockedBB, lockedBB);
+
+        Assert.assertFalse(lock.readOnly);
+    }
+
+    @Test
+    public void testLockCallingFunction() {
+        BIRNode.BIRBasicBlock lockedBB = newBasicBlock("bb1");
+        BIRNode.BIRBasicBlock unlockingBB = newBasicBlock("bb2");
+        lockedBB.instructions.add(new BIRNonTerminator.Move(null, new BIROperand(global), new BIROperand(local)));
+        lockedBB.terminator = new BIRTerminator.Call(null, InstructionKind.CALL, false, PackageID.DEFAULT,
+                new Name("update"), Collections.emptyList(), null, unlockingBB, Collections.emptyList(),
+                Collections.emptySet());
+        BIRTerminator.Lock lock = optimize(lockedBB, unlockingBB);
+
+        Assert.assertFalse(lock.readOnly);
+    }
+
+    /**
+     * Creates a lock on the global variable which locks {@code lockedBB} and is released at the end of
+     * {@code unlockingBB}, and runs the optimizer on it.
+     */
+    private BIRTerminator.Lock optimize(BIRNode.BIRBasicBlock lockedBB, BIRNode.BIRBasicBlock unlockingBB) {
+        BIRNode.BIRBasicBlock lockingBB = newBasicBlock("bb0");
+        BIRTerminator.Lock lock = new BIRTerminator.Lock(null, lockedBB);
+        lock.lockVariables.add(global);
+        lockingBB.terminator = lock;
+
+        BIRTerminator.Unlock unlock = new BIRTerminator.Unlock(null, newBasicBlock("bb5"));
+        unlock.relatedLock = lock;
+        unlockingBB.terminator = unlock;
+
+        new BIRLockOptimizer().optimizeNode(lockingBB);
+        return lock;
+    }
+
+    private static BIRNode.BIRBasicBlock newBasicBlock(String id) {
+        return new BIRNode.BIRBasicBlock(new Name(id));
+    }
+}
@@ -120,11 +120,19 @@ class BIRTestUtils {
         List<BIRNode.BIRFunction> expectedFunctions = expectedBIR.functions;
         ArrayList<Bir.Function> actualFunctions = birModule.functions();
         Assert.assertEquals(birModule.functionCount(), expectedFunctions.size());
+        Assert.assertEquals(birModule.functionIndexCount(), expectedFunctions.size());
 
+        int expectedOffset = 0;
         for (int i = 0; i < expectedFunctions.size(); i++) {
             Bir.Function actualFunction = actualFunctions.get(i);
             BIRNode.BIRFunction expectedFunction = expectedFunctions.get(i);
 
+            // assert function index entry
+            Bir.FunctionIndexEntry indexEntry = birModule.functionIndexEntries().get(i);
+            assertConstantPoolEntry(constantPoolEntries.get(indexEntry.nameCpIndex()), expectedFunction.name.value);
+            Assert.assertEquals(indexEntry.offset(), expectedOffset);
+            expectedOffset += indexEntry.length();
+
             // assert name
             Bir.ConstantPoolEntry constantPoolEntry = constantPoolEntries.get(actualFunction.nameCpIndex());
             assertConstantPoolEntry(constantPoolEntry, expectedFunction.name.value);
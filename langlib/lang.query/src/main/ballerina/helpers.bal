@@ -150,3 +150,29 @@ function consumeStream(stream<Type, CompletionType> strm) returns error? {
         return v;
     }
 }
+
+function createFrameIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameIndex",
+    name: "createFrameIndex"
+} external;
+
+function getFrameBucket(handle frameIndex, any key) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameIndex",
+    name: "getFrameBucket"
+} external;
+
+function putFrameBucket(handle frameIndex, any key, int position) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameIndex",
+    name: "putFrameBucket"
+} external;
+
+function sortFrames(_Frame[] frames) returns _Frame[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderBy",
+    name: "sortFrames"
+} external;
+
+function filterByIndex(table<map<any|error>> tbl, string fieldName, string operator, any value)
+        returns table<map<any|error>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.IndexedTableScan",
+    name: "filterByIndex"
+} external;
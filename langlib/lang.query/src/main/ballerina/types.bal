@@ -324,6 +324,7 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
 
     function init(
@@ -337,7 +338,7 @@ class _InnerJoinFunction {
         self.lhsFrame = ();
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -352,7 +353,6 @@ class _InnerJoinFunction {
          _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -360,14 +360,14 @@ class _InnerJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
+            if (rhsCandidates is _Frame[] && self.rhsCandidateIndex < rhsCandidates.length()) {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
                 _Frame joinedFrame = {...lhsFrame};
                 foreach var [k, val] in rhsFrame.entries() {
                     joinedFrame[k] = val;
@@ -387,6 +387,7 @@ class _InnerJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -400,6 +401,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
 
@@ -415,7 +417,7 @@ class _OuterJoinFunction {
         self.nilFrame = nilFrame;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -431,7 +433,6 @@ class _OuterJoinFunction {
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
@@ -439,17 +440,16 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
+                if (self.rhsCandidateIndex >= rhsCandidates.length()) {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
@@ -476,6 +476,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -533,18 +534,17 @@ class _OrderByFunction {
             _StreamFunction pf = <_StreamFunction> self.prevFunc;
             function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            _Frame[] frames = [];
             // consume all events for ordering.
             while (f is _Frame) {
                 orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                frames.push(f);
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            self.orderedStream = sortFrames(frames).toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.orderedStream;
@@ -676,35 +676,25 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
-
-    function init() {
-        self.m = {};
-    }
-
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
+    _Frame[][] buckets = [];
+    handle bucketIndex = createFrameIndex();
+
+    function put(any k, _Frame v) {
+        int i = getFrameBucket(self.bucketIndex, k);
+        if (i < 0) {
+            putFrameBucket(self.bucketIndex, k, self.buckets.length());
+            self.buckets.push([v]);
         } else {
-            self.m[k] = [v];
+            self.buckets[i].push(v);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
+    function get(any k) returns _Frame[]? {
+        int i = getFrameBucket(self.bucketIndex, k);
+        if (i >= 0) {
+            return self.buckets[i];
         }
     }
-
 }
 
 class IterHelper {
@@ -727,107 +717,3 @@ class IterHelper {
         }
     }
 }
-
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if(!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return -  ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return -  ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Native hash index used by join clauses of query expressions. Maps join key values to the position of the
+ * matching frame bucket, using the same equality as the Ballerina `==` operator.
+ *
+ * @since 2.0.0
+ */
+public class FrameIndex {
+
+    private static final long NOT_FOUND = -1;
+    private static final int MAX_HASH_DEPTH = 16;
+
+    public static BHandle createFrameIndex() {
+        return ValueCreator.createHandleValue(new HashMap<JoinKey, Long>());
+    }
+
+    public static long getFrameBucket(BHandle index, Object key) {
+        Long position = getIndex(index).get(new JoinKey(key));
+        return position == null ? NOT_FOUND : position;
+    }
+
+    public static void putFrameBucket(BHandle index, Object key, long position) {
+        getIndex(index).put(new JoinKey(key), position);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<JoinKey, Long> getIndex(BHandle index) {
+        return (Map<JoinKey, Long>) index.getValue();
+    }
+
+    /**
+     * Join key value which is hashed and compared by its shape.
+     */
+    private static class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = hash(value);
+        }
+
+        /**
+         * Hashes the value consistently with {@link TypeChecker#isEqual(Object, Object)}, which compares decimals by
+         * value and mappings regardless of the order of their fields.
+         */
+        private static int hash(Object value) {
+            return hash(value, 0);
+        }
+
+        private static int hash(Object value, int depth) {
+            if (depth > MAX_HASH_DEPTH) {
+                // Values nested deeper, including cyclic ones, only take part in the equality check.
+                return 0;
+            }
+            if (value instanceof BDecimal) {
+                // Decimals with the same value but different scales are equal.
+                return ((BDecimal) value).decimalValue().stripTrailingZeros().hashCode();
+            }
+            if (value instanceof BMap) {
+                int result = 0;
+                for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                    result += entry.getKey().hashCode() ^ hash(entry.getValue(), depth + 1);
+                }
+                return result;
+            }
+            if (value instanceof BArray) {
+                BArray array = (BArray) value;
+                int result = 1;
+                for (int i = 0; i < array.size(); i++) {
+                    result = 31 * result + hash(array.get(i), depth + 1);
+                }
+                return result;
+            }
+            return TableUtils.hash(value, null).hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey other = (JoinKey) obj;
+            return this.hash == other.hash && TypeChecker.isEqual(this.value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
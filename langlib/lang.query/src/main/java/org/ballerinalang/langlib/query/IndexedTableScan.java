@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.util.List;
+
+/**
+ * Narrows down the input table of a query expression using a secondary index of the table, when the first `where`
+ * clause of the query compares an indexed field to a value. The `where` clause is still applied to the narrowed
+ * down table, hence the table is returned as it is when there is no usable index.
+ *
+ * @since 2.0.0
+ */
+public class IndexedTableScan {
+
+    @SuppressWarnings("unchecked")
+    public static BTable filterByIndex(BTable tbl, BString fieldName, BString operator, Object value) {
+        if (!(tbl instanceof TableValueImpl)) {
+            return tbl;
+        }
+
+        TableValueImpl<Object, Object> table = (TableValueImpl<Object, Object>) tbl;
+        List<Object> rows;
+        try {
+            switch (operator.getValue()) {
+                case "==":
+                    rows = table.lookupIndex(fieldName, value);
+                    break;
+                case "<":
+                    rows = value == null ? null : table.rangeIndex(fieldName, null, false, value, false);
+                    break;
+                case "<=":
+                    rows = value == null ? null : table.rangeIndex(fieldName, null, false, value, true);
+                    break;
+                case ">":
+                    rows = value == null ? null : table.rangeIndex(fieldName, value, false, null, false);
+                    break;
+                case ">=":
+                    rows = value == null ? null : table.rangeIndex(fieldName, value, true, null, false);
+                    break;
+                default:
+                    rows = null;
+            }
+        } catch (BError e) {
+            // the value is not comparable with the indexed values, fall back to a full scan
+            return tbl;
+        }
+        return rows == null ? tbl : table.subTable(rows);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Native implementation of the order by clause of query expressions. Sorts the frames by the order keys and
+ * directions set on each frame, keeping the relative order of frames with equal keys.
+ *
+ * @since 2.0.0
+ */
+public class OrderBy {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    @SuppressWarnings("unchecked")
+    public static BArray sortFrames(BArray frames) {
+        int size = frames.size();
+        if (size < 2) {
+            return frames;
+        }
+
+        OrderedFrame[] orderedFrames = new OrderedFrame[size];
+        for (int i = 0; i < size; i++) {
+            BMap<BString, Object> frame = (BMap<BString, Object>) frames.get(i);
+            BArray keyArr = (BArray) frame.get(ORDER_KEY);
+            Object[] keys = new Object[keyArr.size()];
+            for (int j = 0; j < keys.length; j++) {
+                keys[j] = keyArr.get(j);
+            }
+            orderedFrames[i] = new OrderedFrame(keys, frame);
+        }
+
+        BArray directionArr = (BArray) ((BMap<BString, Object>) frames.get(0)).get(ORDER_DIRECTION);
+        boolean[] ascending = new boolean[directionArr.size()];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = directionArr.getBoolean(i);
+        }
+
+        // Arrays.sort on objects is a stable merge sort.
+        Arrays.sort(orderedFrames, new FrameComparator(ascending));
+        for (int i = 0; i < size; i++) {
+            frames.add(i, orderedFrames[i].frame);
+        }
+        return frames;
+    }
+
+    /**
+     * Frame with its order keys extracted once before sorting.
+     */
+    private static class OrderedFrame {
+
+        private final Object[] keys;
+        private final Object frame;
+
+        OrderedFrame(Object[] keys, Object frame) {
+            this.keys = keys;
+            this.frame = frame;
+        }
+    }
+
+    /**
+     * Compares frames key by key, comparing int, boolean and float keys without boxing them into generic
+     * comparisons. Nil and NaN keys are placed last in both directions.
+     */
+    private static class FrameComparator implements Comparator<OrderedFrame> {
+
+        private final boolean[] ascending;
+
+        FrameComparator(boolean[] ascending) {
+            this.ascending = ascending;
+        }
+
+        @Override
+        public int compare(OrderedFrame lhs, OrderedFrame rhs) {
+            for (int i = 0; i < ascending.length; i++) {
+                int result = compareKeys(lhs.keys[i], rhs.keys[i], ascending[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+
+        private static int compareKeys(Object lhs, Object rhs, boolean ascending) {
+            if (lhs instanceof Long && rhs instanceof Long) {
+                int result = Long.compare((long) lhs, (long) rhs);
+                return ascending ? result : -result;
+            }
+            if (lhs instanceof Boolean && rhs instanceof Boolean) {
+                int result = Boolean.compare((boolean) lhs, (boolean) rhs);
+                return ascending ? result : -result;
+            }
+            if (lhs instanceof Double && rhs instanceof Double && !((Double) lhs).isNaN() &&
+                    !((Double) rhs).isNaN()) {
+                double lhsValue = (double) lhs;
+                double rhsValue = (double) rhs;
+                // -0.0 = +0.0
+                int result = lhsValue == rhsValue ? 0 : Double.compare(lhsValue, rhsValue);
+                return ascending ? result : -result;
+            }
+            if (ascending) {
+                return ValueComparisonUtils.compareValues(lhs, rhs, ASCENDING);
+            }
+            return -ValueComparisonUtils.compareValues(lhs, rhs, DESCENDING);
+        }
+    }
+}
@@ -216,3 +216,17 @@ public isolated function nextKey(table<any|error> key<int> t) returns int = @jav
     'class: "org.ballerinalang.langlib.table.NextKey",
     name: "nextKey"
 } external;
+
+# Adds a secondary index on a field of the members of a table.
+# The field must be a readonly field, so that its value cannot change after a member is added.
+# Query expressions over `t` use the index when a `where` clause compares the field to a value.
+# A hash index supports `==` comparisons; a sorted index also supports `<`, `<=`, `>` and `>=`,
+# but the field must belong to a single ordered basic type.
+#
+# + t - the table
+# + fieldName - the name of the field to index
+# + sorted - true for a sorted index, false for a hash index
+public isolated function addIndex(table<map<any|error>> t, string fieldName, boolean sorted = false) = @java:Method {
+    'class: "org.ballerinalang.langlib.table.AddIndex",
+    name: "addIndex"
+} external;
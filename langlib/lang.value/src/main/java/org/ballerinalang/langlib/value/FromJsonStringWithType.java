@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypedJsonDecoder;
 
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CONVERSION_ERROR;
 
@@ -41,6 +42,12 @@ public class FromJsonStringWithType {
             if (str.equals("null")) {
                 return FromJsonWithType.fromJsonWithType(null, t);
             } else {
+                Object value = TypedJsonDecoder.decode(str, t);
+                if (value != TypedJsonDecoder.NOT_DECODED) {
+                    return value;
+                }
+                // Parse and convert the json value to convert to the types the decoder does not support, or to
+                // report the syntax error.
                 Object jsonFromString = JsonParser.parse(str);
                 return FromJsonWithType.fromJsonWithType(jsonFromString, t);
             }
@@ -18,8 +18,12 @@
 
 package org.ballerinalang.langlib.value;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.Utf8JsonWriter;
 
 /**
  * Return the string that represents `v` in JSON format.
@@ -29,7 +33,30 @@ import io.ballerina.runtime.api.values.BString;
 public class ToJsonString {
 
     public static BString toJsonString(Object value) {
+        if (isStructuredValue(value)) {
+            try {
+                return StringUtils.fromString(Utf8JsonWriter.toJsonString(value));
+            } catch (BError e) {
+                // Values which cannot be converted to json are handled by the conversion below.
+            }
+        }
         Object jsonValue = ToJson.toJson(value);
         return StringUtils.fromString(StringUtils.getJsonString(jsonValue));
     }
+
+    private static boolean isStructuredValue(Object value) {
+        if (value == null) {
+            return false;
+        }
+        switch (TypeChecker.getType(value).getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.MAP_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TABLE_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
 }
@@ -442,4 +442,9 @@ public class LangLibTableTest {
     public void testReadOnlyTableFilter() {
         BRunUtil.invoke(compileResult, "testReadOnlyTableFilter");
     }
+
+    @Test
+    public void testAddIndex() {
+        BRunUtil.invoke(compileResult, "testAddIndex");
+    }
 }
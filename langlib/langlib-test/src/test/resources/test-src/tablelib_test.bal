@@ -702,6 +702,37 @@ function testReadOnlyTableFilter() {
     assertFalse(children.isReadOnly());
 }
 
+type Account record {|
+    readonly int id;
+    readonly string tenant;
+    int balance;
+|};
+
+function testAddIndex() {
+    table<Account> key(id) accounts = table [
+        {id: 1, tenant: "a", balance: 10},
+        {id: 2, tenant: "b", balance: 20},
+        {id: 3, tenant: "a", balance: 30}
+    ];
+    accounts.addIndex("tenant");
+    accounts.addIndex("id", true);
+    accounts.add({id: 4, tenant: "a", balance: 40});
+    _ = accounts.remove(1);
+
+    final string tenant = "a";
+    int[] ids = from var account in accounts where account.tenant == tenant select account.id;
+    assertEquals([3, 4], ids);
+
+    ids = from var account in accounts where account.id >= 3 && account.balance > 30 select account.id;
+    assertEquals([4], ids);
+
+    ids = from var account in accounts where 2 > account.id select account.id;
+    assertEquals([], ids);
+
+    error? err = trap accounts.addIndex("balance");
+    assertTrue(err is error);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(boolean actual) {
@@ -117,7 +117,7 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
 
     public CompletableFuture<InitializeResult> initialize(InitializeParams params) {
         final InitializeResult res = new InitializeResult(new ServerCapabilities());
-        res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Full);
+        res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Incremental);
 
         //Checks for instances in which the LS needs to be initiated in lightweight mode
         if (isLightWeightMode(params)) {
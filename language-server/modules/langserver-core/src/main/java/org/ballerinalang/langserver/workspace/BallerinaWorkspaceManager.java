@@ -42,6 +42,12 @@ import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectPaths;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.LSClientLogger;
@@ -56,12 +62,15 @@ import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -263,24 +272,42 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         // Get Project and Lock
         ProjectPair projectPair = createOrGetProjectPair(filePath, LSContextOperation.TXT_DID_CHANGE.getName());
 
-        Project project = projectPair.project();
-        if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
-            // Update Ballerina.toml
-            updateBallerinaToml(params.getContentChanges().get(0).getText(), projectPair, false);
-        } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
-            // create or update Dependencies.toml
-            updateDependenciesToml(params.getContentChanges().get(0).getText(), projectPair, false);
-        } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
-            // create or update Cloud.toml
-            updateCloudToml(params.getContentChanges().get(0).getText(), projectPair, false);
-        } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.COMPILER_PLUGIN_TOML))) {
-            // create or update Compiler-plugin.toml
-            updateCompilerPluginToml(params.getContentChanges().get(0).getText(), projectPair, false);
-        } else if (ProjectPaths.isBalFile(filePath)) {
-            // Update .bal document
-            updateDocument(filePath, params.getContentChanges().get(0).getText(), projectPair, false);
-        } else {
-            throw new WorkspaceDocumentException("Unsupported file update");
+        List<TextDocumentContentChangeEvent> changes = params.getContentChanges();
+        // Lock Project Instance, the changes are applied to the current content of the document, which should not
+        // change until the updated content is set
+        Lock lock = projectPair.lockAndGet();
+        try {
+            Project project = projectPair.project();
+            Package currentPackage = project.currentPackage();
+            if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
+                // Update Ballerina.toml
+                String content = applyContentChanges(
+                        currentPackage.ballerinaToml().map(toml -> toml.tomlDocument().textDocument()), changes);
+                updateBallerinaToml(content, projectPair, false);
+            } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
+                // create or update Dependencies.toml
+                String content = applyContentChanges(
+                        currentPackage.dependenciesToml().map(toml -> toml.tomlDocument().textDocument()), changes);
+                updateDependenciesToml(content, projectPair, false);
+            } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
+                // create or update Cloud.toml
+                String content = applyContentChanges(
+                        currentPackage.cloudToml().map(toml -> toml.tomlDocument().textDocument()), changes);
+                updateCloudToml(content, projectPair, false);
+            } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.COMPILER_PLUGIN_TOML))) {
+                // create or update Compiler-plugin.toml
+                String content = applyContentChanges(
+                        currentPackage.compilerPluginToml().map(toml -> toml.tomlDocument().textDocument()), changes);
+                updateCompilerPluginToml(content, projectPair, false);
+            } else if (ProjectPaths.isBalFile(filePath)) {
+                // Update .bal document
+                updateDocument(filePath, changes, projectPair);
+            } else {
+                throw new WorkspaceDocumentException("Unsupported file update");
+            }
+        } finally {
+            // Unlock Project Instance
+            lock.unlock();
         }
     }
 
@@ -787,6 +814,64 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    private void updateDocument(Path filePath, List<TextDocumentContentChangeEvent> changes, ProjectPair projectPair)
+            throws WorkspaceDocumentException {
+        // Lock Project Instance
+        Lock lock = projectPair.lockAndGet();
+        try {
+            // Get document
+            Optional<Document> document = document(filePath, projectPair.project());
+            if (document.isEmpty()) {
+                throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
+            }
+
+            // Apply changes in the order they were sent, ranged changes let the syntax tree reparse incrementally
+            Document.Modifier modifier = document.get().modify();
+            TextDocument textDocument = document.get().textDocument();
+            for (TextDocumentContentChangeEvent change : changes) {
+                if (change.getRange() == null) {
+                    modifier.withContent(change.getText());
+                    textDocument = TextDocuments.from(change.getText());
+                } else {
+                    TextDocumentChange textDocumentChange = toTextDocumentChange(textDocument, change);
+                    modifier.withChange(textDocumentChange);
+                    textDocument = textDocument.apply(textDocumentChange);
+                }
+            }
+            Document updatedDoc = modifier.apply();
+
+            // Update project instance
+            projectPair.setProject(updatedDoc.module().project());
+        } finally {
+            // Unlock Project Instance
+            lock.unlock();
+        }
+    }
+
+    private static String applyContentChanges(Optional<TextDocument> textDocument,
+                                              List<TextDocumentContentChangeEvent> changes) {
+        TextDocument updatedDocument = textDocument.orElseGet(() -> TextDocuments.from(""));
+        for (TextDocumentContentChangeEvent change : changes) {
+            if (change.getRange() == null) {
+                updatedDocument = TextDocuments.from(change.getText());
+            } else {
+                updatedDocument = updatedDocument.apply(toTextDocumentChange(updatedDocument, change));
+            }
+        }
+        return updatedDocument.toString();
+    }
+
+    private static TextDocumentChange toTextDocumentChange(TextDocument textDocument,
+                                                           TextDocumentContentChangeEvent change) {
+        Range range = change.getRange();
+        int startOffset = textDocument.textPositionFrom(
+                LinePosition.from(range.getStart().getLine(), range.getStart().getCharacter()));
+        int endOffset = textDocument.textPositionFrom(
+                LinePosition.from(range.getEnd().getLine(), range.getEnd().getCharacter()));
+        TextEdit textEdit = TextEdit.from(TextRange.from(startOffset, endOffset - startOffset), change.getText());
+        return TextDocumentChange.from(new TextEdit[]{textEdit});
+    }
+
     /**
      * The document close notification is sent from the client to the server when the document got closed in the
      * client.
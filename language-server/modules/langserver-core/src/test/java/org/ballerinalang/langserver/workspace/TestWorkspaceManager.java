@@ -29,6 +29,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
@@ -86,6 +88,77 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyContent);
     }
 
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testUpdateDocument")
+    public void testUpdateDocumentWithRangeChange(Path filePath) throws WorkspaceDocumentException {
+        openFile(filePath);
+
+        // Inputs from lang server, rename `foo` to `bar`
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        params.setTextDocument(doc);
+        Range range = new Range(new Position(0, 9), new Position(0, 12));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(range, 3, "bar"));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(),
+                            dummyContent.replace("foo", "bar"));
+    }
+
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testUpdateDocument")
+    public void testUpdateDocumentWithMultipleRangeChanges(Path filePath) throws WorkspaceDocumentException {
+        openFile(filePath);
+
+        // Inputs from lang server, each change applies to the content resulting from the previous changes
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        params.setTextDocument(doc);
+        // Replace the whole content
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(dummyContent));
+        // Append a function at the end of the document
+        String bazFunction = CommonUtil.LINE_SEPARATOR + "function baz() {" + CommonUtil.LINE_SEPARATOR + "}";
+        Range endRange = new Range(new Position(1, 1), new Position(1, 1));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(endRange, 0, bazFunction));
+        // Rename `foo` to `bar`
+        Range renameRange = new Range(new Position(0, 9), new Position(0, 12));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(renameRange, 3, "bar"));
+        // Replace `bar()`, overlapping the previous change
+        Range overlappingRange = new Range(new Position(0, 9), new Position(0, 14));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(overlappingRange, 5, "qux()"));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(),
+                            dummyContent.replace("foo", "qux") + bazFunction);
+    }
+
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testUpdateDocument")
+    public void testUpdateDocumentWithRangeChangeToEndOfDocument(Path filePath) throws WorkspaceDocumentException {
+        openFile(filePath);
+
+        // Inputs from lang server, replace the function body up to the end of the document
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2);
+        params.setTextDocument(doc);
+        String body = CommonUtil.LINE_SEPARATOR + "    int a = 1;" + CommonUtil.LINE_SEPARATOR + "}";
+        Range range = new Range(new Position(0, 16), new Position(1, 1));
+        int rangeLength = CommonUtil.LINE_SEPARATOR.length() + 1;
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(range, rangeLength, body));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), "function foo() {" + body);
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
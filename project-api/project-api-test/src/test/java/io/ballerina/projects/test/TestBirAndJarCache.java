@@ -17,6 +17,8 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
@@ -40,7 +42,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -98,6 +102,37 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests that parsing the modules in parallel does not change the compilation output")
+    public void testParallelParsing() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        TestCompilationCache sequentialCache = compile(projectPath, new BuildOptionsBuilder().build());
+        TestCompilationCache parallelCache = compile(projectPath,
+                new BuildOptionsBuilder().parallelParsing(true).build());
+
+        Assert.assertEquals(parallelCache.diagnostics, sequentialCache.diagnostics);
+        Assert.assertEquals(parallelCache.birContents.keySet(), sequentialCache.birContents.keySet());
+        for (Map.Entry<String, byte[]> birContent : sequentialCache.birContents.entrySet()) {
+            Assert.assertEquals(parallelCache.birContents.get(birContent.getKey()), birContent.getValue(),
+                    "BIR of module '" + birContent.getKey() + "' differs");
+        }
+    }
+
+    private TestCompilationCache compile(Path projectPath, BuildOptions buildOptions) throws IOException {
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildProject project = BuildProject.load(environmentBuilder, projectPath, buildOptions);
+
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        TestCompilationCache testCompilationCache = testCompCacheFactory.compilationCache();
+        testCompilationCache.diagnostics = pkgCompilation.diagnosticResult().diagnostics().stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+        return testCompilationCache;
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -126,6 +161,8 @@ public class TestBirAndJarCache {
     private static class TestCompilationCache extends FileSystemCache {
         public int birCachedCount;
         public int jarCachedCount;
+        public final Map<String, byte[]> birContents = new HashMap<>();
+        public List<String> diagnostics;
 
         public TestCompilationCache(Project project, Path cacheDirPath) {
             super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
@@ -134,6 +171,7 @@ public class TestBirAndJarCache {
         @Override
         public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
             super.cacheBir(moduleName, birContent);
+            birContents.put(moduleName.toString(), birContent.toByteArray());
             birCachedCount++;
         }
 
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.BuildOptionsBuilder;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Contains cases to test loading the modules of a build project from the compilation cache of a previous build.
+ */
+public class TestIncrementalBuild {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
+    private static final int NUM_OF_MODULES = 3;
+
+    private Path projectPath;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        projectPath = Files.createTempDirectory("b7a-incremental-build-test-" + System.nanoTime());
+        Path sourcePath = RESOURCE_DIRECTORY.resolve("incremental_build");
+        try (Stream<Path> paths = Files.walk(sourcePath)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Path targetPath = projectPath.resolve(sourcePath.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(targetPath);
+                } else {
+                    Files.copy(path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        TestUtils.deleteDirectory(projectPath.toFile());
+    }
+
+    @Test(description = "tests that the modules are loaded from the cache when the sources are unchanged")
+    public void testUnchangedSources() {
+        PackageCompilation initialCompilation = build(incrementalBuildOptions());
+        Assert.assertEquals(initialCompilation.cachedModuleCount(), 0);
+        Assert.assertEquals(initialCompilation.compiledModuleCount(), NUM_OF_MODULES);
+
+        PackageCompilation compilation = build(incrementalBuildOptions());
+        Assert.assertEquals(compilation.cachedModuleCount(), NUM_OF_MODULES);
+        Assert.assertEquals(compilation.compiledModuleCount(), 0);
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+    }
+
+    @Test(description = "tests that only a module whose function body changed is compiled again")
+    public void testChangedFunctionBody() throws IOException {
+        build(incrementalBuildOptions());
+        writeSource("modules/util/util.bal", "public function add(int a, int b) returns int {\n" +
+                "    return b + a;\n" +
+                "}\n");
+
+        // The interface of util is unchanged, hence the default module is loaded from the cache
+        PackageCompilation compilation = build(incrementalBuildOptions());
+        Assert.assertEquals(compilation.compiledModuleCount(), 1);
+        Assert.assertEquals(compilation.cachedModuleCount(), NUM_OF_MODULES - 1);
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+    }
+
+    @Test(description = "tests that the dependents of a module whose interface changed are compiled again")
+    public void testChangedModuleInterface() throws IOException {
+        build(incrementalBuildOptions());
+        writeSource("modules/util/util.bal", "public function add(int a, int b, int c = 0) returns int {\n" +
+                "    return a + b + c;\n" +
+                "}\n");
+
+        // util and the default module which imports it are compiled again, storage is loaded from the cache
+        PackageCompilation compilation = build(incrementalBuildOptions());
+        Assert.assertEquals(compilation.compiledModuleCount(), 2);
+        Assert.assertEquals(compilation.cachedModuleCount(), 1);
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+    }
+
+    @Test(description = "tests that all the modules are compiled again when a compiler option changes")
+    public void testChangedCompilerOption() {
+        build(incrementalBuildOptions());
+
+        BuildOptions buildOptions = new BuildOptionsBuilder()
+                .incrementalBuild(true)
+                .skipTests(true)
+                .observabilityIncluded(true)
+                .build();
+        PackageCompilation compilation = build(buildOptions);
+        Assert.assertEquals(compilation.compiledModuleCount(), NUM_OF_MODULES);
+        Assert.assertEquals(compilation.cachedModuleCount(), 0);
+    }
+
+    @Test(description = "tests that the warnings of a module are reported again in the next build")
+    public void testWarningsAreReportedAgain() throws IOException {
+        writeSource("modules/storage/storage.bal", "# Returns the name of the storage.\n" +
+                "# # Deprecated\n" +
+                "# Use `name()` instead.\n" +
+                "@deprecated\n" +
+                "function legacyName() returns string {\n" +
+                "    return \"storage\";\n" +
+                "}\n" +
+                "\n" +
+                "public function name() returns string {\n" +
+                "    return legacyName();\n" +
+                "}\n");
+        List<String> initialWarnings = warnings(build(incrementalBuildOptions()));
+        Assert.assertEquals(initialWarnings.size(), 1);
+
+        // A module with warnings is not loaded from the cache, since its diagnostics are not cached
+        PackageCompilation compilation = build(incrementalBuildOptions());
+        Assert.assertEquals(warnings(compilation), initialWarnings);
+        Assert.assertEquals(compilation.compiledModuleCount(), 1);
+        Assert.assertEquals(compilation.cachedModuleCount(), NUM_OF_MODULES - 1);
+    }
+
+    private PackageCompilation build(BuildOptions buildOptions) {
+        BuildProject project = BuildProject.load(projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        // The compilation hashes are recorded once the jars are generated
+        JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        return compilation;
+    }
+
+    private BuildOptions incrementalBuildOptions() {
+        return new BuildOptionsBuilder().incrementalBuild(true).skipTests(true).build();
+    }
+
+    private void writeSource(String relativePath, String content) throws IOException {
+        Files.writeString(projectPath.resolve(relativePath), content);
+    }
+
+    private static List<String> warnings(PackageCompilation compilation) {
+        return compilation.diagnosticResult().diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.WARNING)
+                .map(Diagnostic::toString)
+                .collect(Collectors.toList());
+    }
+}
@@ -17,6 +17,8 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.Document;
@@ -29,6 +31,10 @@ import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.testng.Assert;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
@@ -192,6 +198,43 @@ public class TestSingleFileProject {
         Assert.assertEquals(updatedPackage, updatedDoc.module().packageInstance());
     }
 
+    @Test
+    public void testUpdateDocumentWithTextChange() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single_file").resolve("main.bal");
+        SingleFileProject singleFileProject = SingleFileProject.load(filePath);
+        Module oldModule = singleFileProject.currentPackage().module(
+                singleFileProject.currentPackage().moduleIds().iterator().next());
+        Document oldDocument = oldModule.document(oldModule.documentIds().iterator().next());
+        String oldContent = oldDocument.textDocument().toString();
+
+        // Append two functions
+        String functions = "\nfunction foo() {\n}\n\nfunction bar() {\n}\n";
+        TextEdit append = TextEdit.from(TextRange.from(oldContent.length(), 0), functions);
+        Document updatedDoc = oldDocument.modify()
+                .withChange(TextDocumentChange.from(new TextEdit[]{append})).apply();
+        Assert.assertEquals(updatedDoc.textDocument().toString(), oldContent + functions);
+        ModulePartNode modulePart = updatedDoc.syntaxTree().rootNode();
+        Assert.assertEquals(modulePart.members().size(), 3);
+
+        // Change the body of the last function
+        String newContent = updatedDoc.textDocument().toString();
+        int bodyOffset = newContent.lastIndexOf('}');
+        TextEdit insert = TextEdit.from(TextRange.from(bodyOffset, 0), "    int a = 1;\n");
+        Document newDoc = updatedDoc.modify().withChange(TextDocumentChange.from(new TextEdit[]{insert})).apply();
+        String expectedContent = newContent.substring(0, bodyOffset) + "    int a = 1;\n" +
+                newContent.substring(bodyOffset);
+        Assert.assertEquals(newDoc.textDocument().toString(), expectedContent);
+        Assert.assertEquals(newDoc.syntaxTree().toSourceCode(), expectedContent);
+        Assert.assertFalse(newDoc.syntaxTree().hasDiagnostics());
+        Assert.assertEquals(newDoc.syntaxTree().rootNode().toString(),
+                SyntaxTree.from(TextDocuments.from(expectedContent)).rootNode().toString());
+
+        // The main function is not affected by the change, and is reused
+        ModulePartNode newModulePart = newDoc.syntaxTree().rootNode();
+        Assert.assertSame(newModulePart.members().get(0).internalNode(), modulePart.members().get(0).internalNode());
+        Assert.assertSame(newModulePart.imports().get(0).internalNode(), modulePart.imports().get(0).internalNode());
+    }
+
     @Test (description = "tests loading a single file with no read permission")
     public void testSingleFileWithNoReadPermission() {
         // Skip test in windows due to file permission setting issue
@@ -0,0 +1,8 @@
+import incremental_build.util;
+
+public function main() {
+}
+
+public function total() returns int {
+    return util:add(1, 2);
+}
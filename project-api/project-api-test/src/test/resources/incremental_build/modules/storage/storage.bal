@@ -0,0 +1,3 @@
+public function name() returns string {
+    return "storage";
+}
@@ -28,6 +28,21 @@ public function openReadableFile(@untainted string path) returns ReadableByteCha
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+# Retrieves a `ReadableByteChannel`, which reads the file at the given path through memory mapped windows. This
+# avoids a system call per read and suits large files, which are read sequentially or read repeatedly. The returned
+# channel could be used wherever a `ReadableByteChannel` is accepted (i.e., to create character, record or CSV
+# channels).
+#```ballerina
+# io:ReadableByteChannel readableFieldResult = check io:openReadableMappedFile("./files/sample.csv");
+#```
+#
+# + path - Relative/absolute path string to locate the file
+# + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
+public function openReadableMappedFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+    name: "openReadableMappedFile",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 # Retrieves a `WritableByteChannel` from a given file path.
 #```ballerina
 # io:WritableByteChannel writableFileResult = check io:openWritableFile("./files/sampleResponse.txt");
@@ -55,6 +55,18 @@ public class ReadableByteChannel {
         return base64DecodeExtern(self);
     }
 
+# Copies the remaining content of the `ReadableByteChannel` to the given `WritableByteChannel`. When the source is a
+# file, the content is transferred by the underlying platform without being read into the program.
+# ```ballerina
+# int|io:Error result = readableByteChannel.copyTo(writableByteChannel);
+# ```
+#
+# + destination - The `WritableByteChannel` the content should be written to
+# + return - Number of bytes copied, an `EofError` if the channel has already reached the end or else an `io:Error`
+    public function copyTo(WritableByteChannel destination) returns int|Error {
+        return byteCopyToExtern(self, destination);
+    }
+
 # Closes a given `ReadableByteChannel`.
 # ```ballerina
 # io:Error? err = readableByteChannel.close();
@@ -71,6 +83,11 @@ function byteReadExtern(ReadableByteChannel byteChannel, @untainted int nBytes)
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteCopyToExtern(ReadableByteChannel byteChannel, WritableByteChannel destination) returns int|Error = @java:Method {
+    name: "copyTo",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function base64EncodeExtern(ReadableByteChannel byteChannel) returns ReadableByteChannel|Error = @java:Method {
     name: "base64Encode",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
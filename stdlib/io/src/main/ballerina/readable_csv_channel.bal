@@ -96,6 +96,22 @@ public class ReadableCSVChannel {
         return ();
     }
 
+# Returns a stream of records, which corresponds to the CSV records. The fields of each CSV record are bound to
+# the fields of the given record type in the order of which the fields are declared, without holding the records
+# in memory. Fields enclosed in double quotes could contain field separators, new lines and escaped (`""`) quotes.
+# Blank lines are skipped.
+# ```ballerina
+# stream<Employee, io:Error?>|io:Error employees = readableCSVChannel.csvStream(Employee);
+# ```
+#
+# + rowType - The record type to which the CSV records should be bound
+# + return - Stream of records, which represents the CSV records or else an `io:Error`
+    public function csvStream(typedesc<record {}> rowType) returns @tainted stream<rowType, Error?>|Error =
+    @java:Method {
+        name: "csvStream",
+        'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvStreamUtils"
+    } external;
+
 # Returns a table, which corresponds to the CSV records.
 # ```ballerina
 # var tblResult1 = readableCSVChannel.getTable(Employee);
@@ -116,3 +132,29 @@ function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> struc
     name: "getTable",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
 } external;
+
+# Iterates through the CSV records of a `ReadableCSVChannel` as records.
+class CSVRecordIterator {
+
+    public isolated function next() returns record {| record {} value; |}|Error? {
+        record {}|Error? result = nextCsvRecordExtern(self);
+        if (result is record {}) {
+            return {value: result};
+        }
+        return result;
+    }
+
+    public isolated function close() returns Error? {
+        return closeCsvRecordIteratorExtern(self);
+    }
+}
+
+isolated function nextCsvRecordExtern(CSVRecordIterator iterator) returns @tainted record {}|Error? = @java:Method {
+    name: "next",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvStreamUtils"
+} external;
+
+isolated function closeCsvRecordIteratorExtern(CSVRecordIterator iterator) returns Error? = @java:Method {
+    name: "close",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CsvStreamUtils"
+} external;
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Reads the content of a file through read-only memory mapped windows.
+ * </p>
+ * <p>
+ * A single mapping could not exceed 2 GB, hence the file is mapped in windows of {@link #WINDOW_SIZE} bytes which
+ * are mapped one after the other as the content is read sequentially. Content is copied straight out of the page
+ * cache, without a read system call per buffer.
+ * </p>
+ */
+public class MappedFileChannel implements ByteChannel {
+
+    /**
+     * Maximum number of bytes mapped at once.
+     */
+    public static final long WINDOW_SIZE = 256L * 1024 * 1024;
+
+    private final FileChannel fileChannel;
+
+    private final long size;
+
+    private final long windowSize;
+
+    /**
+     * Position of the file where the current window starts.
+     */
+    private long windowPosition;
+
+    private MappedByteBuffer window;
+
+    public MappedFileChannel(FileChannel fileChannel) throws IOException {
+        this(fileChannel, WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a channel which maps the given file in windows of the given size.
+     *
+     * @param fileChannel file which should be read.
+     * @param windowSize  maximum number of bytes mapped at once.
+     * @throws IOException errors which occur while reading the attributes of the file.
+     */
+    public MappedFileChannel(FileChannel fileChannel, long windowSize) throws IOException {
+        this.fileChannel = fileChannel;
+        this.size = fileChannel.size();
+        this.windowSize = windowSize;
+        this.windowPosition = fileChannel.position();
+    }
+
+    /**
+     * Returns the window which holds the next bytes of the file, mapping the next window if the current one is
+     * exhausted.
+     *
+     * @return window with remaining bytes or null if the end of the file is reached.
+     * @throws IOException errors which occur while mapping the file.
+     */
+    private ByteBuffer nextWindow() throws IOException {
+        if (!fileChannel.isOpen()) {
+            throw new ClosedChannelException();
+        }
+        if (null != window && window.hasRemaining()) {
+            return window;
+        }
+        if (null != window) {
+            windowPosition = windowPosition + window.capacity();
+        }
+        if (windowPosition >= size) {
+            return null;
+        }
+        long length = Math.min(windowSize, size - windowPosition);
+        window = fileChannel.map(FileChannel.MapMode.READ_ONLY, windowPosition, length);
+        return window;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        ByteBuffer content = nextWindow();
+        if (null == content) {
+            return -1;
+        }
+        int numberOfBytes = Math.min(dst.remaining(), content.remaining());
+        int limit = content.limit();
+        content.limit(content.position() + numberOfBytes);
+        dst.put(content);
+        content.limit(limit);
+        return numberOfBytes;
+    }
+
+    /**
+     * Writes the remaining content of the file to the given channel directly from the mapped windows.
+     *
+     * @param dstChannel channel the content should be written to.
+     * @return the number of bytes written.
+     * @throws IOException errors which occur while reading or writing.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long numberOfBytesTransferred = 0;
+        ByteBuffer content;
+        while (null != (content = nextWindow())) {
+            while (content.hasRemaining()) {
+                numberOfBytesTransferred = numberOfBytesTransferred + dstChannel.write(content);
+            }
+        }
+        return numberOfBytesTransferred;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return fileChannel.isOpen();
+    }
+
+    /**
+     * Closes the underlying file. The mapped windows are released once they are garbage collected.
+     *
+     * @throws IOException errors which occur while closing the file.
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        fileChannel.close();
+    }
+}
@@ -18,8 +18,6 @@
 package org.ballerinalang.stdlib.io.channels.base;
 
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -51,40 +49,10 @@ public class Buffer {
      */
     private int minimumSizeOfBuffer;
 
-    private static final Logger log = LoggerFactory.getLogger(Buffer.class);
-
     public Buffer(int minimumSizeOfBuffer) {
         this.minimumSizeOfBuffer = minimumSizeOfBuffer;
     }
 
-    /**
-     * <p>
-     * Returns a ByteBuffer which will contain any remaining bytes left in the previous read.
-     * </p>
-     * <p>
-     * This operation will not guarantee a return of all the bytes required. This will return bytes if any is
-     * available in the buffer.
-     * </p>
-     * <p>
-     * The operation will return null if none of the bytes are remaining in the buffer.
-     * </p>
-     *
-     * @param totalNumberOfBytesRequired number of bytes required.
-     * @return new ByteBuffer which will contain bytes which are remaining.
-     */
-    private ByteBuffer remainingContent(int totalNumberOfBytesRequired) {
-        ByteBuffer remainingContent = null;
-        if (null != byteBuffer) {
-            remainingContent = byteBuffer.slice();
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("ByteBuffer has not being initialized, buffer will be initialized while reading the " +
-                        "requested amount of " + totalNumberOfBytesRequired + " of bytes");
-            }
-        }
-        return remainingContent;
-    }
-
     /**
      * <p>
      * Will allocate a buffer for the specified size.
@@ -93,6 +61,9 @@ public class Buffer {
      * If the size < minimumSizeOfBuffer the size of the new buffer = minimumSizeOfBuffer.
      * If the size > minimumSizeOfBuffer the size of the new buffer = size.
      * </p>
+     * <p>
+     * Buffers are acquired from the {@link DirectBufferPool} so that the channel could read directly into them.
+     * </p>
      *
      * @param size the size of the buffer.
      * @return the newly allocated buffer for the specified size.
@@ -101,34 +72,49 @@ public class Buffer {
         if (size < minimumSizeOfBuffer) {
             size = minimumSizeOfBuffer;
         }
-        return ByteBuffer.allocate(size);
+        return DirectBufferPool.acquire(size);
     }
 
     /**
      * <p>
-     * Resize the buffer for the specified size.
+     * Prepares the buffer to be filled from the channel while retaining the bytes which are not read yet.
      * </p>
      * <p>
-     * If a larger buffer was selected
+     * The un-read bytes are moved to the beginning of the buffer in place, the buffer is only re-allocated if its
+     * capacity is not sufficient to hold the number of bytes requested.
      * </p>
      *
-     * @param srcBuffer             buffer which requires resizing.
      * @param requiredNumberOfBytes the number of bytes which should be in the buffer.
-     * @return the buffer which is resized.
      */
-    private ByteBuffer resize(ByteBuffer srcBuffer, int requiredNumberOfBytes) {
-        srcBuffer.flip();
-        int totalBytesRead = srcBuffer.limit();
-        if (totalBytesRead > requiredNumberOfBytes) {
-            //If the size exceeds the required amount we need to narrow it down
-            srcBuffer.limit(requiredNumberOfBytes);
+    private void prepareForRead(int requiredNumberOfBytes) {
+        if (null == byteBuffer) {
+            byteBuffer = allocate(requiredNumberOfBytes);
+        } else if (byteBuffer.capacity() >= requiredNumberOfBytes) {
+            byteBuffer.compact();
+        } else {
+            ByteBuffer enlargedBuffer = allocate(requiredNumberOfBytes);
+            enlargedBuffer.put(byteBuffer);
+            DirectBufferPool.release(byteBuffer);
+            byteBuffer = enlargedBuffer;
         }
-        ByteBuffer resizedBuffer = srcBuffer.slice();
-        //After slicing we rest the limit
-        srcBuffer.limit(totalBytesRead);
-        //We need to move the cursor forward of the main buffer and mark it as read
-        srcBuffer.position(resizedBuffer.capacity());
-        return resizedBuffer;
+    }
+
+    /**
+     * <p>
+     * Returns a view of the next bytes in the buffer and marks them as read.
+     * </p>
+     *
+     * @param numberOfBytesRequested number of bytes required.
+     * @return view which contains at most numberOfBytesRequested bytes.
+     */
+    private ByteBuffer slice(int numberOfBytesRequested) {
+        int limit = byteBuffer.limit();
+        int numberOfBytes = Math.min(numberOfBytesRequested, byteBuffer.remaining());
+        byteBuffer.limit(byteBuffer.position() + numberOfBytes);
+        ByteBuffer slicedBuffer = byteBuffer.slice();
+        byteBuffer.limit(limit);
+        byteBuffer.position(byteBuffer.position() + numberOfBytes);
+        return slicedBuffer;
     }
 
     /**
@@ -161,46 +147,6 @@ public class Buffer {
         }
     }
 
-    /**
-     * <p>
-     * Deep copies a byte buffer with it's underlying array.
-     * </p>
-     *
-     * @param srcBuffer the source buffer which should be copied.
-     * @return the buffer which is duplicated.
-     */
-    private ByteBuffer deepCopy(ByteBuffer srcBuffer) {
-        ByteBuffer dstBuffer = ByteBuffer.allocate(srcBuffer.capacity());
-        srcBuffer.rewind();
-        dstBuffer.put(srcBuffer);
-        srcBuffer.rewind();
-        dstBuffer.flip();
-        return dstBuffer;
-    }
-
-    /**
-     * <p>
-     * Retrieves the required content from the existing buffer.
-     * </p>
-     * <p>
-     * In this case it will not be required to do another channel call.
-     * </p>
-     *
-     * @param numberOfBytesRequested number of bytes required.
-     * @param content                buffer which holds the content.
-     * @return buffer which contains the required amount of bytes.
-     */
-    private ByteBuffer copyRemainingContent(int numberOfBytesRequested, ByteBuffer content) {
-        //If there is excess bytes we need only a sub-set of them
-        int capacity;
-        content.limit(numberOfBytesRequested);
-        ByteBuffer slicedBuffer = content.slice();
-        capacity = slicedBuffer.capacity();
-        int offset = slicedBuffer.arrayOffset();
-        byteBuffer.position(offset + capacity);
-        return deepCopy(slicedBuffer);
-    }
-
     /**
      * <p>
      * Get readable byte buffer.
@@ -215,37 +161,34 @@ public class Buffer {
      * of the current buffer. The buffer will be re-sized.
      * </p>
      * <p>
-     * The operation will return slice of the bytes requested. The size of the buffer returned would be =
-     * numberOfBytesRequested. If numberOfBytesRequested &lt; minimumSizeOfBuffer the size of the buffer will be
-     * minimumSizeOfBuffer
+     * The operation will return slice of the bytes requested. The size of the buffer returned would be &lt;=
+     * numberOfBytesRequested. The slice shares its content with this buffer, hence it should be consumed before the
+     * next call.
      * </p>
      *
      * @param numberOfBytesRequested number of bytes requested from the buffer.
      * @param channel                byte channel which will perform I/O ops necessary for reading.
-     * @return buffer which will contain bytes &gt;= numberOfBytesRequested
+     * @return buffer which will contain bytes &lt;= numberOfBytesRequested
      * @throws IOException errors which occur while reading from the channel.
      */
     public ByteBuffer get(int numberOfBytesRequested, Channel channel) throws IOException {
-        ByteBuffer remainingContent = remainingContent(numberOfBytesRequested);
-        if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
-            return copyRemainingContent(numberOfBytesRequested, remainingContent);
-        } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
-            if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
-            } else {
-                //In this case we re-allocate
-                byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
-            }
-            channel.read(byteBuffer);
-            return resize(byteBuffer, numberOfBytesRequested);
+        if (null != byteBuffer && byteBuffer.remaining() >= numberOfBytesRequested) {
+            //The required content is already in the buffer, hence no channel call is required
+            return slice(numberOfBytesRequested);
         }
+        prepareForRead(numberOfBytesRequested);
+        channel.read(byteBuffer);
+        byteBuffer.flip();
+        return slice(numberOfBytesRequested);
+    }
+
+    /**
+     * Releases the underlying buffer. Buffers which were returned through {@link #get(int, Channel)} should not be
+     * accessed once released.
+     */
+    public void release() {
+        DirectBufferPool.release(byteBuffer);
+        byteBuffer = null;
     }
 
 }
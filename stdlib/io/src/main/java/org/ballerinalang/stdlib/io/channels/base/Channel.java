@@ -101,6 +101,14 @@ public abstract class Channel implements IOChannel {
         return hasReachedToEnd;
     }
 
+    /**
+     * Marks the channel as having reached its end. Used when the content was consumed without going through
+     * {@link #read(ByteBuffer)}, i.e by a direct transfer.
+     */
+    public void markReachedEnd() {
+        hasReachedToEnd = true;
+    }
+
     /**
      * This will return {@link ByteChannel} instance that use underneath.
      *
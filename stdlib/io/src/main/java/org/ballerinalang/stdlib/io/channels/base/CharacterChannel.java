@@ -28,6 +28,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 
 
@@ -334,6 +335,54 @@ public class CharacterChannel implements IOChannel {
         return asyncReadBytesFromChannel(nBytes);
     }
 
+    /**
+     * <p>
+     * Reads characters into the given buffer.
+     * </p>
+     * <p>
+     * Bytes are decoded straight into the given buffer without intermediate strings. Bytes of a character which is
+     * not complete at the end of the read are retained for the next read.
+     * </p>
+     *
+     * @param dst buffer the characters should be placed into.
+     * @return the number of characters read or -1 if the channel has reached its end.
+     * @throws BallerinaIOException errors which occur while reading or decoding.
+     */
+    public int read(CharBuffer dst) throws BallerinaIOException {
+        if (null != charBuffer && charBuffer.hasRemaining()) {
+            int numberOfChars = Math.min(dst.remaining(), charBuffer.remaining());
+            int limit = charBuffer.limit();
+            charBuffer.limit(charBuffer.position() + numberOfChars);
+            dst.put(charBuffer);
+            charBuffer.limit(limit);
+            return numberOfChars;
+        }
+        int position = dst.position();
+        //A character could take more than a byte, hence at least the bytes of a surrogate pair should be requested
+        int numberOfBytesRequired = Math.max(dst.remaining(), MAX_BYTES_PER_CHAR * 2);
+        boolean endOfInput;
+        try {
+            ByteBuffer buffer = contentBuffer.get(numberOfBytesRequired, channel);
+            endOfInput = channel.hasReachedEnd();
+            CoderResult result = bytesDecoder.decode(buffer, dst, endOfInput);
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (buffer.hasRemaining()) {
+                contentBuffer.reverse(buffer.remaining());
+            }
+        } catch (CharacterCodingException e) {
+            throw new BallerinaIOException("character decoding error while reading from buffer: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new BallerinaIOException("error occurred while reading from channel: " + e.getMessage(), e);
+        }
+        int numberOfCharsRead = dst.position() - position;
+        if (numberOfCharsRead == 0 && endOfInput) {
+            return -1;
+        }
+        return numberOfCharsRead;
+    }
+
     /**
      * Writes a given string input into the channel.
      *
@@ -395,6 +444,7 @@ public class CharacterChannel implements IOChannel {
      */
     @Override
     public void close() throws IOException {
+        contentBuffer.release();
         channel.close();
     }
 
@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.regex.Pattern;
 
@@ -377,6 +378,52 @@ public class DelimitedRecordChannel implements IOChannel {
         return fields;
     }
 
+    /**
+     * <p>
+     * Reads the characters of the channel, which are not read as records yet, into the given buffer.
+     * </p>
+     * <p>
+     * Allows the records to be tokenized by the caller after a set of records (i.e headers) are read through this
+     * channel.
+     * </p>
+     *
+     * @param dst buffer the characters should be placed into.
+     * @return the number of characters read or -1 if the channel has reached its end.
+     * @throws BallerinaIOException during I/O errors
+     */
+    public int read(CharBuffer dst) throws BallerinaIOException {
+        int numberOfCharsRemaining = persistentCharSequence.length();
+        if (numberOfCharsRemaining > 0) {
+            int numberOfChars = Math.min(dst.remaining(), numberOfCharsRemaining);
+            dst.append(persistentCharSequence, 0, numberOfChars);
+            persistentCharSequence.delete(0, numberOfChars);
+            return numberOfChars;
+        }
+        int numberOfCharsRead = channel.read(dst);
+        if (numberOfCharsRead < 0) {
+            remaining = false;
+        }
+        return numberOfCharsRead;
+    }
+
+    /**
+     * Retrieves the field separator, which should be used to tokenize the records.
+     *
+     * @return the field separator.
+     */
+    public String getFieldSeparator() {
+        return getFieldSeparatorForWriting();
+    }
+
+    /**
+     * Retrieves the record separator, which should be used to tokenize the records.
+     *
+     * @return the record separator.
+     */
+    public String getRecordSeparator() {
+        return getRecordSeparatorForWriting();
+    }
+
     /**
      * Enclose a given field with quotes.
      *
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.io.channels.base;
+
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Maintains a bounded pool of direct byte buffers which are used to move bytes between channels.
+ * </p>
+ * <p>
+ * Direct buffers are read into/written from by the OS without an intermediate copy through the heap, however they
+ * are expensive to allocate, hence buffers are recycled once released. Requests which exceed the pooled buffer size
+ * are served with heap buffers which are not recycled.
+ * </p>
+ */
+public class DirectBufferPool {
+
+    /**
+     * Capacity of each pooled buffer.
+     */
+    public static final int POOLED_BUFFER_SIZE = IOConstants.CHANNEL_BUFFER_SIZE;
+
+    /**
+     * Maximum number of idle buffers retained by the pool.
+     */
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    private static final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+
+    private static final AtomicInteger pooledBufferCount = new AtomicInteger();
+
+    private DirectBufferPool() {
+    }
+
+    /**
+     * Acquires a buffer which could hold at least the given number of bytes.
+     *
+     * @param size number of bytes the buffer should hold.
+     * @return cleared buffer of capacity &gt;= size.
+     */
+    public static ByteBuffer acquire(int size) {
+        if (size > POOLED_BUFFER_SIZE) {
+            return ByteBuffer.allocate(size);
+        }
+        ByteBuffer buffer = pool.poll();
+        if (null == buffer) {
+            return ByteBuffer.allocateDirect(POOLED_BUFFER_SIZE);
+        }
+        pooledBufferCount.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers which were not acquired from the pool are ignored.
+     * <p>
+     * The buffer or any of its slices should not be accessed once released.
+     *
+     * @param buffer buffer which should be released.
+     */
+    public static void release(ByteBuffer buffer) {
+        if (null == buffer || !buffer.isDirect() || buffer.capacity() != POOLED_BUFFER_SIZE) {
+            return;
+        }
+        if (pooledBufferCount.incrementAndGet() > MAX_POOLED_BUFFERS) {
+            pooledBufferCount.decrementAndGet();
+            return;
+        }
+        pool.offer(buffer);
+    }
+}
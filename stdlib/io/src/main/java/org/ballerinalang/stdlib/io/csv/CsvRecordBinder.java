@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.io.csv;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * <p>
+ * Binds the fields of tokenized records to a record type.
+ * </p>
+ * <p>
+ * The n<sup>th</sup> field of a record is bound to the n<sup>th</sup> field of the record type. The name, type and
+ * nillability of each field is resolved once, when the binder is created, and the field values are parsed straight
+ * from the characters held by the {@link CsvTokenizer}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class CsvRecordBinder {
+
+    private static final char[] TRUE = {'t', 'r', 'u', 'e'};
+
+    private static final char[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+    private static final char[] NAN = {'N', 'a', 'N'};
+
+    private static final char[] INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+    private final RecordType recordType;
+
+    private final BString[] fieldNames;
+
+    private final int[] fieldTypeTags;
+
+    private final boolean[] nillable;
+
+    private final boolean[] optional;
+
+    private CsvRecordBinder(RecordType recordType) {
+        this.recordType = recordType;
+        int numberOfFields = recordType.getFields().size();
+        this.fieldNames = new BString[numberOfFields];
+        this.fieldTypeTags = new int[numberOfFields];
+        this.nillable = new boolean[numberOfFields];
+        this.optional = new boolean[numberOfFields];
+        int index = 0;
+        for (Field field : recordType.getFields().values()) {
+            Type fieldType = field.getFieldType();
+            if (fieldType.getTag() == TypeTags.UNION_TAG) {
+                fieldType = getNonNilMemberType(field, (UnionType) fieldType);
+                nillable[index] = true;
+            }
+            switch (fieldType.getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    break;
+                default:
+                    throw IOUtils.createError("unsupported type '" + fieldType + "' for the record field '" +
+                                                      field.getFieldName() + "', only int, float, decimal, " +
+                                                      "boolean and string fields are supported");
+            }
+            fieldNames[index] = StringUtils.fromString(field.getFieldName());
+            fieldTypeTags[index] = fieldType.getTag();
+            optional[index] = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL);
+            index++;
+        }
+    }
+
+    /**
+     * Creates a binder for the given type.
+     *
+     * @param type record type the records should be bound to.
+     * @return the binder.
+     */
+    public static CsvRecordBinder forType(Type type) {
+        if (type.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            throw IOUtils.createError("unsupported type '" + type + "', records could only be bound to a " +
+                                              "record type");
+        }
+        return new CsvRecordBinder((RecordType) type);
+    }
+
+    private static Type getNonNilMemberType(Field field, UnionType unionType) {
+        List<Type> members = unionType.getMemberTypes();
+        if (members.size() == 2) {
+            if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                return members.get(1);
+            } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                return members.get(0);
+            }
+        }
+        throw IOUtils.createError("unsupported type '" + unionType + "' for the record field '" +
+                                          field.getFieldName() + "', only nillable unions are supported");
+    }
+
+    /**
+     * Creates a record from the current record of the tokenizer.
+     *
+     * @param tokenizer tokenizer positioned at the record.
+     * @return the bound record.
+     */
+    public BMap<BString, Object> bind(CsvTokenizer tokenizer) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
+                                                                      recordType.getName());
+        char[] content = tokenizer.getContent();
+        int numberOfColumns = tokenizer.getFieldCount();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (i >= numberOfColumns) {
+                bindMissing(record, i);
+                continue;
+            }
+            int start = tokenizer.getFieldStart(i);
+            int length = tokenizer.getFieldLength(i);
+            if (length == 0 && fieldTypeTags[i] != TypeTags.STRING_TAG) {
+                bindMissing(record, i);
+                continue;
+            }
+            record.put(fieldNames[i], parse(i, content, start, length));
+        }
+        return record;
+    }
+
+    private void bindMissing(BMap<BString, Object> record, int index) {
+        if (nillable[index]) {
+            record.put(fieldNames[index], null);
+        } else if (!optional[index]) {
+            throw IOUtils.createError("no value for the record field '" + fieldNames[index] + "'");
+        }
+    }
+
+    private Object parse(int index, char[] content, int start, int length) {
+        try {
+            switch (fieldTypeTags[index]) {
+                case TypeTags.INT_TAG:
+                    return parseInt(content, start, length);
+                case TypeTags.FLOAT_TAG:
+                    return parseFloat(content, start, length);
+                case TypeTags.DECIMAL_TAG:
+                    return ValueCreator.createDecimalValue(new BigDecimal(content, start, length));
+                case TypeTags.BOOLEAN_TAG:
+                    return parseBoolean(content, start, length);
+                default:
+                    return StringUtils.fromString(new String(content, start, length));
+            }
+        } catch (NumberFormatException e) {
+            throw IOUtils.createError("invalid value '" + new String(content, start, length) +
+                                              "' for the record field '" + fieldNames[index] + "'");
+        }
+    }
+
+    /**
+     * Parses a decimal integer without creating an intermediate string.
+     *
+     * @param content characters which hold the value.
+     * @param start   position where the value starts.
+     * @param length  number of characters of the value.
+     * @return the parsed value.
+     */
+    private static long parseInt(char[] content, int start, int length) {
+        int index = start;
+        int end = start + length;
+        boolean negative = content[index] == '-';
+        if (negative || content[index] == '+') {
+            index++;
+        }
+        if (index == end) {
+            throw new NumberFormatException();
+        }
+        //The value is accumulated as a negative number, since the range of negative longs is larger
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = Character.digit(content[index], 10);
+            if (digit < 0 || value < multiplicationLimit) {
+                throw new NumberFormatException();
+            }
+            value = value * 10;
+            if (value < limit + digit) {
+                throw new NumberFormatException();
+            }
+            value = value - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Parses a float in the form accepted by {@code float:fromString}, i.e. a decimal floating point number with an
+     * optional sign, {@code NaN} or an optionally signed {@code Infinity}. Unlike {@link Double#parseDouble(String)},
+     * surrounding whitespace, hexadecimal floats and the {@code f} and {@code d} type suffixes are rejected.
+     *
+     * @param content characters which hold the value.
+     * @param start   position where the value starts.
+     * @param length  number of characters of the value.
+     * @return the parsed value.
+     */
+    private static double parseFloat(char[] content, int start, int length) {
+        if (matches(content, start, length, NAN)) {
+            return Double.NaN;
+        }
+        int index = start;
+        int end = start + length;
+        boolean negative = content[index] == '-';
+        if (negative || content[index] == '+') {
+            index++;
+        }
+        if (matches(content, index, end - index, INFINITY)) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        int integerEnd = skipDigits(content, index, end);
+        int fractionEnd = integerEnd;
+        if (integerEnd < end && content[integerEnd] == '.') {
+            fractionEnd = skipDigits(content, integerEnd + 1, end);
+        }
+        //At least one digit is required, either before or after the decimal point
+        if (integerEnd == index && fractionEnd <= integerEnd + 1) {
+            throw new NumberFormatException();
+        }
+        index = fractionEnd;
+        if (index < end && (content[index] == 'e' || content[index] == 'E')) {
+            index++;
+            if (index < end && (content[index] == '-' || content[index] == '+')) {
+                index++;
+            }
+            int exponentEnd = skipDigits(content, index, end);
+            if (exponentEnd == index) {
+                throw new NumberFormatException();
+            }
+            index = exponentEnd;
+        }
+        if (index != end) {
+            throw new NumberFormatException();
+        }
+        return Double.parseDouble(new String(content, start, length));
+    }
+
+    private static int skipDigits(char[] content, int start, int end) {
+        int index = start;
+        while (index < end && content[index] >= '0' && content[index] <= '9') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Parses a boolean, which should either be {@code true} or {@code false}.
+     *
+     * @param content characters which hold the value.
+     * @param start   position where the value starts.
+     * @param length  number of characters of the value.
+     * @return the parsed value.
+     */
+    private static boolean parseBoolean(char[] content, int start, int length) {
+        if (matches(content, start, length, TRUE)) {
+            return true;
+        } else if (matches(content, start, length, FALSE)) {
+            return false;
+        }
+        throw new NumberFormatException();
+    }
+
+    private static boolean matches(char[] content, int start, int length, char[] expected) {
+        if (length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (content[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
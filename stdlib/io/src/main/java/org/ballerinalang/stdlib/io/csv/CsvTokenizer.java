@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.io.csv;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Tokenizes delimited records streamed from a character source.
+ * </p>
+ * <p>
+ * Characters are read into a buffer which is reused across records. The fields of the current record are exposed as
+ * offsets within the buffer, hence no strings are created while tokenizing. Fields may be enclosed in double quotes
+ * as specified in RFC4180, in which case the field could contain separators, line breaks and escaped ("") quotes.
+ * Escaped quotes are collapsed in place.
+ * </p>
+ * <p>
+ * Records are separated by '\n' or "\r\n". Blank lines are skipped.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class CsvTokenizer {
+
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int INITIAL_FIELD_COUNT = 16;
+
+    private final Readable source;
+
+    private final char fieldSeparator;
+
+    private char[] buffer = new char[INITIAL_BUFFER_SIZE];
+
+    private CharBuffer readBuffer = CharBuffer.wrap(buffer);
+
+    /**
+     * Number of characters in the buffer.
+     */
+    private int limit;
+
+    /**
+     * Position of the buffer where the next record starts.
+     */
+    private int position;
+
+    /**
+     * Position of the buffer where the current record starts.
+     */
+    private int recordStart;
+
+    /**
+     * Position of the buffer where the field which is being tokenized starts.
+     */
+    private int fieldPosition;
+
+    private boolean endOfInput;
+
+    private int[] fieldStarts = new int[INITIAL_FIELD_COUNT];
+
+    private int[] fieldEnds = new int[INITIAL_FIELD_COUNT];
+
+    private int fieldCount;
+
+    public CsvTokenizer(Readable source, char fieldSeparator) {
+        this.source = source;
+        this.fieldSeparator = fieldSeparator;
+    }
+
+    /**
+     * Tokenizes the next record.
+     *
+     * @return true if a record is available, false if the source has reached its end.
+     * @throws IOException errors which occur while reading from the source.
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            fieldCount = 0;
+            recordStart = position;
+            fieldPosition = position;
+            while (position >= limit && !endOfInput) {
+                fill();
+            }
+            if (position >= limit) {
+                return false;
+            }
+            while (!tokenizeRecord()) {
+                fill();
+            }
+            if (!isBlankRecord()) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the buffer which holds the content of the fields of the current record. The buffer is only valid until
+     * the next record is tokenized.
+     *
+     * @return the buffer.
+     */
+    public char[] getContent() {
+        return buffer;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public int getFieldStart(int index) {
+        return fieldStarts[index];
+    }
+
+    public int getFieldLength(int index) {
+        return fieldEnds[index] - fieldStarts[index];
+    }
+
+    public String getField(int index) {
+        return new String(buffer, fieldStarts[index], getFieldLength(index));
+    }
+
+    private boolean isBlankRecord() {
+        return fieldCount == 1 && fieldStarts[0] == fieldEnds[0] && buffer[recordStart] != QUOTE;
+    }
+
+    /**
+     * Tokenizes the fields of the current record, starting from the field which is not tokenized yet.
+     *
+     * @return true if the record is complete, false if more characters are required.
+     */
+    private boolean tokenizeRecord() {
+        while (true) {
+            int index = fieldPosition;
+            int start;
+            int end;
+            if (index < limit && buffer[index] == QUOTE) {
+                int closingQuote = findClosingQuote(index + 1);
+                if (closingQuote < 0) {
+                    return false;
+                }
+                index = skipToDelimiter(Math.min(closingQuote + 1, limit));
+                if (index >= limit && !endOfInput) {
+                    return false;
+                }
+                start = fieldPosition + 1;
+                end = unescape(start, closingQuote);
+            } else {
+                index = skipToDelimiter(index);
+                if (index >= limit && !endOfInput) {
+                    return false;
+                }
+                start = fieldPosition;
+                end = index;
+                if (end > start && buffer[end - 1] == CARRIAGE_RETURN && (index >= limit || buffer[index] ==
+                        LINE_FEED)) {
+                    end--;
+                }
+            }
+            addField(start, end);
+            if (index >= limit) {
+                position = limit;
+                return true;
+            }
+            if (buffer[index] == LINE_FEED) {
+                position = index + 1;
+                return true;
+            }
+            fieldPosition = index + 1;
+        }
+    }
+
+    private int skipToDelimiter(int index) {
+        while (index < limit && buffer[index] != fieldSeparator && buffer[index] != LINE_FEED) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the quote which encloses a quoted field.
+     *
+     * @param index position after the opening quote.
+     * @return position of the closing quote or -1 if more characters are required to identify it.
+     */
+    private int findClosingQuote(int index) {
+        while (index < limit) {
+            if (buffer[index] == QUOTE) {
+                if (index + 1 >= limit) {
+                    return endOfInput ? index : -1;
+                }
+                if (buffer[index + 1] != QUOTE) {
+                    return index;
+                }
+                index++;
+            }
+            index++;
+        }
+        //A quoted field which is not terminated spans to the end of the content
+        return endOfInput ? limit : -1;
+    }
+
+    /**
+     * Collapses the escaped quotes of a quoted field.
+     *
+     * @param start position where the content of the field starts.
+     * @param end   position of the closing quote.
+     * @return position where the content of the field ends after collapsing.
+     */
+    private int unescape(int start, int end) {
+        int writeIndex = start;
+        for (int readIndex = start; readIndex < end; readIndex++) {
+            char character = buffer[readIndex];
+            buffer[writeIndex++] = character;
+            if (character == QUOTE) {
+                readIndex++;
+            }
+        }
+        return writeIndex;
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    /**
+     * Reads characters from the source. The record which is being tokenized is moved to the beginning of the buffer
+     * and the buffer is enlarged if the record occupies more than half of it.
+     *
+     * @throws IOException errors which occur while reading from the source.
+     */
+    private void fill() throws IOException {
+        int shift = recordStart;
+        if (shift > 0) {
+            System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+            for (int i = 0; i < fieldCount; i++) {
+                fieldStarts[i] -= shift;
+                fieldEnds[i] -= shift;
+            }
+            limit -= shift;
+            position -= shift;
+            recordStart -= shift;
+            fieldPosition -= shift;
+        }
+        if (limit > buffer.length / 2) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            readBuffer = CharBuffer.wrap(buffer);
+        }
+        readBuffer.limit(buffer.length).position(limit);
+        int numberOfCharsRead = source.read(readBuffer);
+        if (numberOfCharsRead < 0) {
+            endOfInput = true;
+        } else {
+            limit += numberOfCharsRead;
+        }
+    }
+}
@@ -27,7 +27,10 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.channels.base.DirectBufferPool;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
@@ -44,7 +47,6 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Arrays;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.BYTE_CHANNEL_NAME;
 
@@ -66,30 +68,125 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     public static Object read(BObject channel, long nBytes) {
         int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
+            ByteBuffer buffer = DirectBufferPool.acquire(arraySize);
             try {
-                byteChannel.read(content);
-                return ValueCreator.createArrayValue(getContentData(content));
+                buffer.limit(arraySize);
+                int numberOfBytesRead = byteChannel.read(buffer);
+                return createContentArray(buffer, numberOfBytesRead);
             } catch (Exception e) {
                 String msg = "error occurred while reading bytes from the channel. " + e.getMessage();
                 log.error(msg, e);
                 return IOUtils.createError(msg);
+            } finally {
+                DirectBufferPool.release(buffer);
             }
         }
     }
 
-    private static byte[] getContentData(final ByteBuffer contentBuffer) {
-        int bufferSize = contentBuffer.limit();
-        int readPosition = contentBuffer.position();
-        byte[] content = contentBuffer.array();
-        final int startPosition = 0;
-        if (readPosition == bufferSize) {
-            return content;
+    /**
+     * Creates the byte array returned to the caller from the buffer the content was read into. The channel reads
+     * into a pooled direct buffer, hence the content is copied out once into an array of the exact size. The array
+     * which backs a heap buffer is adopted as is if the read filled it.
+     *
+     * @param buffer            the buffer the content was read into.
+     * @param numberOfBytesRead number of bytes read into the buffer.
+     * @return byte array which holds the content.
+     */
+    private static BArray createContentArray(ByteBuffer buffer, int numberOfBytesRead) {
+        buffer.flip();
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && numberOfBytesRead == buffer.array().length) {
+            return ValueCreator.createArrayValue(buffer.array());
         }
-        return Arrays.copyOfRange(content, startPosition, readPosition);
+        byte[] content = new byte[numberOfBytesRead];
+        buffer.get(content, 0, numberOfBytesRead);
+        return ValueCreator.createArrayValue(content);
+    }
+
+    public static Object copyTo(BObject channel, BObject destination) {
+        Channel sourceChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel destinationChannel = (Channel) destination.getNativeData(BYTE_CHANNEL_NAME);
+        if (sourceChannel.hasReachedEnd()) {
+            return IOUtils.createEoFError();
+        }
+        try {
+            return copy(sourceChannel, destinationChannel);
+        } catch (IOException e) {
+            String msg = "error occurred while copying bytes between channels. " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
+    /**
+     * Copies the remaining content of the source channel to the destination. The source channel will be at its end
+     * once the copy completes, regardless of whether the bytes were transferred directly or through a buffer.
+     *
+     * @param sourceChannel      channel the content is read from.
+     * @param destinationChannel channel the content is written to.
+     * @return the number of bytes copied.
+     * @throws IOException errors which occur during the copy.
+     */
+    public static long copy(Channel sourceChannel, Channel destinationChannel) throws IOException {
+        if (sourceChannel.getByteChannel() instanceof MappedFileChannel) {
+            long numberOfBytesTransferred = ((MappedFileChannel) sourceChannel.getByteChannel()).transferTo(
+                    destinationChannel.getByteChannel());
+            sourceChannel.markReachedEnd();
+            return numberOfBytesTransferred;
+        }
+        if (sourceChannel.getByteChannel() instanceof FileChannel) {
+            return transferFile(sourceChannel, destinationChannel);
+        }
+        return copyThroughBuffer(sourceChannel, destinationChannel);
+    }
+
+    /**
+     * Transfers the remaining content of a file to the destination. The bytes are moved by the OS, without being
+     * copied into the heap, where the platform supports it.
+     *
+     * @param sourceChannel      channel of the file which should be copied from its current position.
+     * @param destinationChannel channel the content is written to.
+     * @return the number of bytes transferred.
+     * @throws IOException errors which occur during the transfer.
+     */
+    private static long transferFile(Channel sourceChannel, Channel destinationChannel) throws IOException {
+        FileChannel fileChannel = (FileChannel) sourceChannel.getByteChannel();
+        long startPosition = fileChannel.position();
+        long position = startPosition;
+        long size = fileChannel.size();
+        while (position < size) {
+            long numberOfBytesTransferred = fileChannel.transferTo(position, size - position,
+                                                                   destinationChannel.getByteChannel());
+            if (numberOfBytesTransferred <= 0) {
+                break;
+            }
+            position = position + numberOfBytesTransferred;
+        }
+        fileChannel.position(position);
+        if (position >= size) {
+            sourceChannel.markReachedEnd();
+        }
+        return position - startPosition;
+    }
+
+    private static long copyThroughBuffer(Channel sourceChannel, Channel destinationChannel) throws IOException {
+        ByteBuffer buffer = DirectBufferPool.acquire(DirectBufferPool.POOLED_BUFFER_SIZE);
+        long totalNumberOfBytesCopied = 0;
+        try {
+            while (!sourceChannel.hasReachedEnd()) {
+                buffer.clear();
+                sourceChannel.read(buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    totalNumberOfBytesCopied = totalNumberOfBytesCopied + destinationChannel.write(buffer);
+                }
+            }
+        } finally {
+            DirectBufferPool.release(buffer);
+        }
+        return totalNumberOfBytesCopied;
     }
 
     public static Object base64Encode(BObject channel) {
@@ -136,6 +233,23 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
+    public static Object openReadableMappedFile(BString pathUrl) {
+        try {
+            Path path = Paths.get(pathUrl.getValue());
+            FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
+            try {
+                return createChannel(new MappedFileIOChannel(fileChannel));
+            } catch (IOException e) {
+                fileChannel.close();
+                throw e;
+            }
+        } catch (BallerinaIOException | IOException e) {
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
     public static Object openWritableFile(BString pathUrl, boolean accessMode) {
         try {
             return createChannel(inFlow(pathUrl.getValue(), accessMode));
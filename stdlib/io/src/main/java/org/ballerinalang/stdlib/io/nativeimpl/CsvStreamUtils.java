@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.io.nativeimpl;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.CsvRecordBinder;
+import org.ballerinalang.stdlib.io.csv.CsvTokenizer;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import static org.ballerinalang.stdlib.io.utils.IOConstants.CSV_RECORD_READER_NAME;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.IO_PACKAGE_ID;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.TXT_RECORD_CHANNEL_NAME;
+
+/**
+ * This class hold Java inter-ops bridging functions for streaming CSV records as records.
+ *
+ * @since 2.0.0
+ */
+public class CsvStreamUtils {
+
+    private static final String CSV_CHANNEL_DELIMITED_STRUCT_FIELD = "dc";
+    private static final String CSV_RECORD_ITERATOR_STRUCT = "CSVRecordIterator";
+    private static final String RECORD_SEPARATOR = "\n";
+
+    private CsvStreamUtils() {
+    }
+
+    public static Object csvStream(BObject csvChannel, BTypedesc rowType) {
+        try {
+            BObject delimitedObj = (BObject) csvChannel.get(StringUtils.fromString(CSV_CHANNEL_DELIMITED_STRUCT_FIELD));
+            DelimitedRecordChannel delimitedChannel =
+                    (DelimitedRecordChannel) delimitedObj.getNativeData(TXT_RECORD_CHANNEL_NAME);
+            String fieldSeparator = delimitedChannel.getFieldSeparator();
+            if (fieldSeparator.length() != 1 || !RECORD_SEPARATOR.equals(delimitedChannel.getRecordSeparator())) {
+                return IOUtils.createError("records could only be streamed when fields are separated by a " +
+                                                   "single character and records are separated by new lines");
+            }
+            CsvRecordReader reader = new CsvRecordReader(delimitedChannel, fieldSeparator.charAt(0),
+                                                         CsvRecordBinder.forType(rowType.getDescribingType()));
+            BObject iterator = ValueCreator.createObjectValue(IO_PACKAGE_ID, CSV_RECORD_ITERATOR_STRUCT);
+            iterator.addNativeData(CSV_RECORD_READER_NAME, reader);
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(rowType.getDescribingType()),
+                                                  iterator);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    public static Object next(BObject iterator) {
+        CsvRecordReader reader = (CsvRecordReader) iterator.getNativeData(CSV_RECORD_READER_NAME);
+        try {
+            if (reader.tokenizer.next()) {
+                return reader.binder.bind(reader.tokenizer);
+            }
+            return null;
+        } catch (IOException e) {
+            return IOUtils.createError("failed to read the delimited file: " + e.getMessage());
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    public static Object close(BObject iterator) {
+        CsvRecordReader reader = (CsvRecordReader) iterator.getNativeData(CSV_RECORD_READER_NAME);
+        try {
+            reader.channel.close();
+        } catch (IOException e) {
+            return IOUtils.createError(e);
+        }
+        return null;
+    }
+
+    /**
+     * Holds the state of a stream of records read from a delimited record channel.
+     */
+    private static class CsvRecordReader {
+
+        private final DelimitedRecordChannel channel;
+
+        private final CsvTokenizer tokenizer;
+
+        private final CsvRecordBinder binder;
+
+        private CsvRecordReader(DelimitedRecordChannel channel, char fieldSeparator, CsvRecordBinder binder) {
+            this.channel = channel;
+            this.tokenizer = new CsvTokenizer(dst -> read(channel, dst), fieldSeparator);
+            this.binder = binder;
+        }
+
+        private static int read(DelimitedRecordChannel channel, CharBuffer dst) throws IOException {
+            try {
+                return channel.read(dst);
+            } catch (BallerinaIOException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+}
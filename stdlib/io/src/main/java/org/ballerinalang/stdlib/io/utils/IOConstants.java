@@ -48,6 +48,11 @@ public class IOConstants {
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the CSV record reader which will be represented through the native struct.
+     */
+    public static final String CSV_RECORD_READER_NAME = "csv_record_reader";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
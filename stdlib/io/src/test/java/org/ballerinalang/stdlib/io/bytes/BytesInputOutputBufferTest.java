@@ -18,8 +18,11 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.BlobChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -33,6 +36,14 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 
 /**
@@ -175,6 +186,20 @@ public class BytesInputOutputBufferTest {
         buffer.reverse(2);
     }
 
+    @Test(description = "Get bytes through the buffer after reversing a partially processed read")
+    public void getThroughBufferAfterReverse() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/text/6charfile.txt");
+        Channel channel = new MockByteChannel(byteChannel);
+        Buffer buffer = new Buffer(0);
+        ByteBuffer content = buffer.get(4, channel);
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(content).toString(), "1234");
+        buffer.reverse(1);
+        content = buffer.get(4, channel);
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(content).toString(), "456");
+        buffer.release();
+        channel.close();
+    }
+
     @Test(description = "Copy I/O byte file as a stream")
     public void fileStreamCopyTest() throws IOException, URISyntaxException {
         final int readLimit = 10000;
@@ -201,6 +226,61 @@ public class BytesInputOutputBufferTest {
         Assert.assertEquals(totalNumberOfBytesRead, totalNumberOfBytesWritten);
     }
 
+    @Test(description = "Read a file through memory mapped windows")
+    public void readThroughMappedWindows() throws IOException, URISyntaxException {
+        final int numberOfBytesInFile = 45613;
+        final int windowSize = 4096;
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        Channel channel = new MockByteChannel(new MappedFileChannel(fileChannel, windowSize));
+        ReadByteResult result = read(numberOfBytesInFile + 1, channel);
+        channel.close();
+        ByteChannel expectedChannel = TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        byte[] expectedContent = read(numberOfBytesInFile, new MockByteChannel(expectedChannel)).getContent();
+        expectedChannel.close();
+
+        Assert.assertEquals(result.getNumberOfBytesRead(), numberOfBytesInFile);
+        Assert.assertEquals(Arrays.copyOf(result.getContent(), numberOfBytesInFile), expectedContent);
+        Assert.assertTrue(channel.hasReachedEnd());
+    }
+
+    @Test(description = "Copy a file through a direct file transfer")
+    public void copyThroughFileTransfer() throws IOException, URISyntaxException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        copyAndVerify(new MockByteChannel(byteChannel), "ballerinaFileTransferCopy.png");
+    }
+
+    @Test(description = "Copy a file through memory mapped windows")
+    public void copyThroughMappedWindows() throws IOException, URISyntaxException {
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        copyAndVerify(new MockByteChannel(new MappedFileChannel(fileChannel, 4096)), "ballerinaMappedCopy.png");
+    }
+
+    @Test(description = "Copy a channel which does not support direct transfers through a buffer")
+    public void copyThroughBuffer() throws IOException, URISyntaxException {
+        ReadableByteChannel readableChannel = Channels.newChannel(
+                Channels.newInputStream(TestUtil.openForReading("datafiles/io/images/ballerina.png")));
+        copyAndVerify(new MockByteChannel(new BlobChannel(readableChannel)), "ballerinaBufferCopy.png");
+    }
+
+    private void copyAndVerify(Channel sourceChannel, String destinationFile) throws IOException, URISyntaxException {
+        final int numberOfBytesInFile = 45613;
+        Path destinationPath = Paths.get(currentDirectoryPath, destinationFile);
+        Files.deleteIfExists(destinationPath);
+        Channel destinationChannel = new MockByteChannel(
+                TestUtil.openForReadingAndWriting(destinationPath.toString()));
+        long numberOfBytesCopied = ByteChannelUtils.copy(sourceChannel, destinationChannel);
+        Assert.assertEquals(numberOfBytesCopied, numberOfBytesInFile);
+        Assert.assertTrue(sourceChannel.hasReachedEnd());
+        Assert.assertEquals(ByteChannelUtils.copy(sourceChannel, destinationChannel), 0);
+        sourceChannel.close();
+        destinationChannel.close();
+
+        ByteChannel expectedChannel = TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        byte[] expectedContent = read(numberOfBytesInFile, new MockByteChannel(expectedChannel)).getContent();
+        expectedChannel.close();
+        Assert.assertEquals(Files.readAllBytes(destinationPath), expectedContent);
+    }
+
     @Test(description = "Read bytes from fix buffer into multiple reads")
     public void multiReadFromFixedBuffer() throws IOException, URISyntaxException {
 
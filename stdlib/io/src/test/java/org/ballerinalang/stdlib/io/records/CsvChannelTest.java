@@ -435,6 +435,61 @@ public class CsvChannelTest {
         }
     }
 
+    @Test(description = "Test streaming records bound to a record type")
+    public void streamRecords() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample8.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BInteger(1) };
+        BRunUtil.invoke(csvInputOutputProgramFile, "initPayrollStream", args);
+
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextPayroll");
+        Assert.assertEquals(returns[0].stringValue(), "1|Alice|1500.5|12.25|true|Eng");
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextPayroll");
+        Assert.assertEquals(returns[0].stringValue(), "2|Bob|2000.0|0.5|false|");
+        //The salary is empty and the department column is missing
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextPayroll");
+        Assert.assertEquals(returns[0].stringValue(), "3|Carol|nil|3.75|true|absent");
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextPayroll");
+        Assert.assertNull(returns[0]);
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "closePayrollStream");
+        Assert.assertNull(returns[0]);
+        //The underlying channel is released once the stream is closed
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextRecord");
+        Assert.assertTrue(returns[0] instanceof BError);
+    }
+
+    @Test(description = "Test streaming records when the header is not skipped")
+    public void streamRecordsWithHeader() throws URISyntaxException {
+        assertStreamError("datafiles/io/records/sample8.csv", "invalid value 'ID' for the record field 'id'");
+    }
+
+    @Test(description = "Test streaming records with a malformed float")
+    public void streamRecordsWithInvalidFloat() throws URISyntaxException {
+        assertStreamError("datafiles/io/records/sample9.csv", "invalid value '1f' for the record field 'salary'");
+    }
+
+    @Test(description = "Test streaming records with a malformed boolean")
+    public void streamRecordsWithInvalidBoolean() throws URISyntaxException {
+        assertStreamError("datafiles/io/records/sample10.csv", "invalid value 'yes' for the record field 'active'");
+    }
+
+    @Test(description = "Test streaming records with a missing column")
+    public void streamRecordsWithMissingColumn() throws URISyntaxException {
+        assertStreamError("datafiles/io/records/sample11.csv", "no value for the record field 'bonus'");
+    }
+
+    private void assertStreamError(String resourceToRead, String expectedMessage) throws URISyntaxException {
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BInteger(0) };
+        BRunUtil.invoke(csvInputOutputProgramFile, "initPayrollStream", args);
+
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "nextPayroll");
+        BError error = (BError) returns[0];
+        Assert.assertEquals(error.getMessage(), expectedMessage);
+
+        returns = BRunUtil.invoke(csvInputOutputProgramFile, "closePayrollStream");
+        Assert.assertNull(returns[0]);
+    }
+
     private String getAbsoluteFilePath(String relativePath) throws URISyntaxException {
         URL fileResource = BCompileUtil.class.getClassLoader().getResource(relativePath);
         String pathValue = "";
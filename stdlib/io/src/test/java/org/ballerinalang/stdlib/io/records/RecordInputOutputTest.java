@@ -21,6 +21,8 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.CsvTokenizer;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -28,6 +30,7 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
 import java.nio.charset.StandardCharsets;
@@ -70,6 +73,86 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Tokenizes quoted fields of records streamed from the channel")
+    public void tokenizeQuotedRecords() throws IOException, URISyntaxException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfc.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+        CsvTokenizer tokenizer = new CsvTokenizer(dst -> {
+            try {
+                return recordChannel.read(dst);
+            } catch (BallerinaIOException e) {
+                throw new IOException(e);
+            }
+        }, ',');
+
+        Assert.assertTrue(tokenizer.next());
+        Assert.assertEquals(tokenizer.getFieldCount(), 3);
+        Assert.assertEquals(tokenizer.getField(0), "User1,12");
+        Assert.assertTrue(tokenizer.next());
+        Assert.assertEquals(tokenizer.getField(1), "WSO2,Colombo");
+        Assert.assertTrue(tokenizer.next());
+        Assert.assertEquals(tokenizer.getField(2), "07xxxxxxx,SL");
+        Assert.assertTrue(tokenizer.next());
+        Assert.assertEquals(tokenizer.getField(1), "");
+        Assert.assertEquals(tokenizer.getField(2), "123xxxxx");
+        Assert.assertFalse(tokenizer.next());
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Tokenizes the records which remain after reading the header")
+    public void tokenizeRecordsAfterHeader() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleWithHeader.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, "\n", ",");
+        Assert.assertEquals(recordChannel.read()[0], "Name Contat Email");
+        CsvTokenizer tokenizer = new CsvTokenizer(dst -> {
+            try {
+                return recordChannel.read(dst);
+            } catch (BallerinaIOException e) {
+                throw new IOException(e);
+            }
+        }, ',');
+
+        Assert.assertTrue(tokenizer.next());
+        Assert.assertEquals(tokenizer.getField(0), "Brown");
+        Assert.assertEquals(tokenizer.getField(2), "brown@wso2.com");
+        Assert.assertTrue(tokenizer.next());
+        Assert.assertEquals(tokenizer.getField(0), "White");
+
+        recordChannel.close();
+    }
+
+    @Test(description = "Tokenizes records which span across multiple reads")
+    public void tokenizeRecordsAcrossReads() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            content.append(i).append(",\"a \"\"quoted\"\"\nvalue\",").append(i * 2).append("\r\n\n");
+        }
+        StringReader reader = new StringReader(content.toString());
+        //Reads a few characters at a time, so that records span across reads
+        CsvTokenizer tokenizer = new CsvTokenizer(dst -> {
+            char[] chars = new char[Math.min(7, dst.remaining())];
+            int numberOfCharsRead = reader.read(chars);
+            if (numberOfCharsRead > 0) {
+                dst.put(chars, 0, numberOfCharsRead);
+            }
+            return numberOfCharsRead;
+        }, ',');
+
+        for (int i = 0; i < 2000; i++) {
+            Assert.assertTrue(tokenizer.next());
+            Assert.assertEquals(tokenizer.getFieldCount(), 3);
+            Assert.assertEquals(tokenizer.getField(0), String.valueOf(i));
+            Assert.assertEquals(tokenizer.getField(1), "a \"quoted\"\nvalue");
+            Assert.assertEquals(tokenizer.getField(2), String.valueOf(i * 2));
+        }
+        Assert.assertFalse(tokenizer.next());
+    }
+
     @Test(description = "Processors records in sequence with hasNext()")
     public void processRecordSequence() throws IOException, URISyntaxException, BallerinaIOException {
         int expectedFieldCount = 3;
@@ -53,8 +53,18 @@ type CommonApp record {
     string schoolLookup;
 };
 
+type Payroll record {
+    int id;
+    string name;
+    float? salary;
+    decimal bonus;
+    boolean active;
+    string department?;
+};
+
 io:ReadableCSVChannel? rch = ();
 io:WritableCSVChannel? wch = ();
+stream<Payroll, io:Error?>? payrollStream = ();
 
 function initReadableCsvChannel(string filePath, string encoding, io:Separator fieldSeparator) returns error? {
     var byteChannel = io:openReadableFile(filePath);
@@ -179,3 +189,34 @@ function getTableWithHeader(string filePath) returns @tainted string[] | error {
     }
     return keys;
 }
+
+function initPayrollStream(string filePath, int nHeaders) returns error? {
+    io:ReadableCSVChannel csvChannel = check io:openReadableCsvFile(filePath, skipHeaders = nHeaders);
+    payrollStream = check csvChannel.csvStream(Payroll);
+    rch = csvChannel;
+}
+
+function nextPayroll() returns @tainted string|error? {
+    var records = payrollStream;
+    if (records is stream<Payroll, io:Error?>) {
+        record {| Payroll value; |}|io:Error? result = records.next();
+        if (result is record {| Payroll value; |}) {
+            Payroll payroll = result.value;
+            float? salary = payroll.salary;
+            string salaryValue = salary is float ? salary.toString() : "nil";
+            string? department = payroll?.department;
+            string departmentValue = department is string ? department : "absent";
+            return string `${payroll.id}|${payroll.name}|${salaryValue}|${payroll.bonus}|${payroll.active}|`
+                + departmentValue;
+        }
+        return result;
+    }
+    return error io:GenericError("Record stream not initialized properly");
+}
+
+function closePayrollStream() returns error? {
+    var records = payrollStream;
+    if (records is stream<Payroll, io:Error?>) {
+        check records.close();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.bala.functions;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for functions of a BALA dependency, which are defined when they are first looked up.
+ */
+public class LazyFunctionLoadingBalaTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        BCompileUtil.compileAndCacheBala("test-src/bala/test_projects/test_project");
+        result = BCompileUtil.compile("test-src/bala/test_bala/functions/test_lazy_function_loading.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, result.getDiagnosticResult().diagnostics().toString());
+    }
+
+    @Test(dataProvider = "lazyFunctionLoadingTestFunctions")
+    public void testLazyFunctionLoading(String testFunction) {
+        BRunUtil.invoke(result, testFunction);
+    }
+
+    @DataProvider(name = "lazyFunctionLoadingTestFunctions")
+    public Object[][] lazyFunctionLoadingTestFunctions() {
+        return new Object[][]{
+                {"testFunctionUsedViaImportedModule"},
+                {"testFunctionReferencedFromGlobalInitializer"},
+                {"testFunctionReferencedFromClosure"}
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
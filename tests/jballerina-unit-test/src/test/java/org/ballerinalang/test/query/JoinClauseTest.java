@@ -115,6 +115,24 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause on decimal keys with different scales")
+    public void testJoinClauseWithDecimalKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithDecimalKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause on float keys")
+    public void testJoinClauseWithFloatKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithFloatKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause on record keys with fields in different orders")
+    public void testJoinClauseWithRecordKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithRecordKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
@@ -239,6 +239,12 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test order by clause with multiple keys keeps the order of equal frames")
+    public void testStableOrderByWithMultipleKeys() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testStableOrderByWithMultipleKeys");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
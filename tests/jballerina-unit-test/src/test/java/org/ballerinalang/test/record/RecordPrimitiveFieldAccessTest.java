@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.record;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for loading int, float, boolean and byte fields of records, which are read directly from the generated
+ * record value class when possible.
+ */
+public class RecordPrimitiveFieldAccessTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/record/record_primitive_field_access.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, result.getDiagnosticResult().diagnostics().toString());
+    }
+
+    @Test(dataProvider = "primitiveFieldAccessTestFunctions")
+    public void testPrimitiveFieldAccess(String testFunction) {
+        BRunUtil.invoke(result, testFunction);
+    }
+
+    @DataProvider(name = "primitiveFieldAccessTestFunctions")
+    public Object[][] primitiveFieldAccessTestFunctions() {
+        return new Object[][]{
+                {"testPrimitiveFieldLoad"},
+                {"testPrimitiveFieldLoadAfterUpdate"},
+                {"testPrimitiveFieldLoadAfterUpdateViaMap"},
+                {"testPrimitiveFieldLoadOfStructurallyTypedValue"},
+                {"testOptionalPrimitiveFieldLoad"},
+                {"testReadonlyPrimitiveFieldLoad"},
+                {"testPrimitiveFieldLoadIntoUnion"}
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
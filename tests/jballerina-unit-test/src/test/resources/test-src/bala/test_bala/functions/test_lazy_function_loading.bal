@@ -0,0 +1,52 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import testorg/foo.lazy_functions as lazy;
+
+// The functions of the imported module are first used by the initializers of these globals
+int initialValue = lazy:square(3);
+function (int) returns int globalCube = lazy:cube;
+
+function testFunctionUsedViaImportedModule() {
+    assertEquality(10, lazy:add(3, 7));
+    assertEquality("abc-cba", lazy:mirror("abc"));
+}
+
+function testFunctionReferencedFromGlobalInitializer() {
+    assertEquality(9, initialValue);
+    assertEquality(64, globalCube(4));
+}
+
+function testFunctionReferencedFromClosure() {
+    int base = 5;
+    var addCube = function (int x) returns int {
+        return lazy:add(base, lazy:cube(x));
+    };
+    assertEquality(13, addCube(2));
+
+    function () returns int increment = lazy:increment;
+    assertEquality(1, increment());
+    assertEquality(2, lazy:increment());
+    assertEquality(2, lazy:counter);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,48 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Module level functions of this module are defined in the importing module when they are first looked up
+
+public int counter = 0;
+
+public function add(int a, int b) returns int {
+    return a + b;
+}
+
+public function square(int x) returns int {
+    return x * x;
+}
+
+public function cube(int x) returns int {
+    return square(x) * x;
+}
+
+public function mirror(string s) returns string {
+    return s + "-" + reverse(s);
+}
+
+public function increment() returns int {
+    counter += 1;
+    return counter;
+}
+
+function reverse(string s) returns string {
+    string reversed = "";
+    foreach string c in s {
+        reversed = c + reversed;
+    }
+    return reversed;
+}
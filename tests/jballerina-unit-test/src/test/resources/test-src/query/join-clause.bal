@@ -455,3 +455,72 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type Price record {|
+    string item;
+    decimal price;
+|};
+
+type Discount record {|
+    decimal price;
+    string rate;
+|};
+
+type Location record {|
+    string city;
+    decimal zone;
+|};
+
+type Shopper record {|
+    string name;
+    Location location;
+|};
+
+type Store record {|
+    string store;
+    Location location;
+|};
+
+function testJoinClauseWithDecimalKeys() returns boolean {
+    Price[] prices = [{item: "apple", price: 1.5}, {item: "orange", price: 2.00}, {item: "grape", price: 3.25}];
+    Discount[] discounts = [{price: 1.50, rate: "5%"}, {price: 2, rate: "10%"}];
+
+    string[] result = from var p in prices
+                      join var d in discounts
+                      on p.price equals d.price
+                      select p.item + ":" + d.rate;
+
+    return result == ["apple:5%", "orange:10%"];
+}
+
+function testJoinClauseWithFloatKeys() returns boolean {
+    float[] lhs = [0.5, 1.0, 2.5, 1.0];
+    float[] rhs = [1.0, 2.5, 3.0, 2.5];
+
+    float[] result = from var l in lhs
+                     join var r in rhs
+                     on l equals r
+                     select l + r;
+
+    return result == [2.0, 5.0, 5.0, 2.0];
+}
+
+function testJoinClauseWithRecordKeys() returns boolean {
+    Shopper[] shoppers = [
+        {name: "Anne", location: {city: "Colombo", zone: 1.0}},
+        {name: "Bob", location: {city: "Kandy", zone: 2}},
+        {name: "Carl", location: {city: "Galle", zone: 3}}
+    ];
+    Store[] stores = [
+        {store: "Main", location: {zone: 1.00, city: "Colombo"}},
+        {store: "Hill", location: {city: "Kandy", zone: 3}},
+        {store: "Fort", location: {zone: 3.0, city: "Galle"}}
+    ];
+
+    string[] result = from var s in shoppers
+                      join var st in stores
+                      on s.location equals st.location
+                      select s.name + "@" + st.store;
+
+    return result == ["Anne@Main", "Carl@Fort"];
+}
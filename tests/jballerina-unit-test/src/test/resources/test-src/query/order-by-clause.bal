@@ -502,3 +502,28 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+type Score record {|
+    string name;
+    string team;
+    int points;
+    float time;
+|};
+
+function testStableOrderByWithMultipleKeys() returns boolean {
+    Score[] scores = [
+        {name: "A", team: "red", points: 10, time: 1.5},
+        {name: "B", team: "blue", points: 20, time: 1.5},
+        {name: "C", team: "red", points: 10, time: 1.5},
+        {name: "D", team: "blue", points: 20, time: 1.2},
+        {name: "E", team: "red", points: 30, time: 2.0},
+        {name: "F", team: "blue", points: 20, time: 1.5}
+    ];
+
+    string[] names = from var s in scores
+                     order by s.team ascending, s.points descending, s.time
+                     select s.name;
+
+    // Frames with equal keys keep their relative order.
+    return names == ["D", "B", "F", "E", "A", "C"];
+}
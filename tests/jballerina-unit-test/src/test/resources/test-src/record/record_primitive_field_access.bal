@@ -0,0 +1,201 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Sample record {|
+    int i;
+    float f;
+    boolean b;
+    byte by;
+|};
+
+type OpenSample record {
+    int i;
+    float f;
+    boolean b;
+    byte by;
+};
+
+type OtherSample record {|
+    int i;
+    float f;
+    boolean b;
+    byte by;
+|};
+
+type OptionalSample record {
+    int i?;
+    float f?;
+    boolean b?;
+    byte by?;
+};
+
+type ReadonlySample record {|
+    readonly int i;
+    readonly float f;
+    readonly boolean b;
+    readonly byte by;
+|};
+
+function testPrimitiveFieldLoad() {
+    Sample s = {i: 10, f: 2.5, b: true, by: 7};
+    int i = s.i;
+    float f = s.f;
+    boolean b = s.b;
+    byte by = s.by;
+    assertEquality(10, i);
+    assertEquality(2.5, f);
+    assertEquality(true, b);
+    assertEquality(7, by);
+
+    OpenSample os = {i: -3, f: -0.5, b: false, by: 255, "rest": 1};
+    i = os.i;
+    f = os.f;
+    b = os.b;
+    by = os.by;
+    assertEquality(-3, i);
+    assertEquality(-0.5, f);
+    assertEquality(false, b);
+    assertEquality(255, by);
+}
+
+function testPrimitiveFieldLoadAfterUpdate() {
+    Sample s = {i: 10, f: 2.5, b: true, by: 7};
+    s.i = 11;
+    s.f = 3.5;
+    s.b = false;
+    s.by = 8;
+    assertEquality(11, s.i);
+    assertEquality(3.5, s.f);
+    assertEquality(false, s.b);
+    assertEquality(8, s.by);
+
+    int sum = 0;
+    foreach int n in 1 ... 10 {
+        s.i = n;
+        sum += s.i;
+    }
+    assertEquality(55, sum);
+}
+
+function testPrimitiveFieldLoadAfterUpdateViaMap() {
+    Sample s = {i: 10, f: 2.5, b: true, by: 7};
+    map<anydata> m = s;
+    m["i"] = 20;
+    m["f"] = 4.5;
+    m["b"] = false;
+    m["by"] = 9;
+    int i = s.i;
+    float f = s.f;
+    boolean b = s.b;
+    byte by = s.by;
+    assertEquality(20, i);
+    assertEquality(4.5, f);
+    assertEquality(false, b);
+    assertEquality(9, by);
+
+    OpenSample os = {i: 1, f: 1.0, b: true, by: 1};
+    map<anydata> om = os;
+    om["i"] = 2;
+    om["by"] = 3;
+    assertEquality(2, os.i);
+    assertEquality(3, os.by);
+}
+
+function testPrimitiveFieldLoadOfStructurallyTypedValue() {
+    OtherSample other = {i: 5, f: 6.5, b: true, by: 4};
+    Sample s = other;
+    int i = s.i;
+    float f = s.f;
+    boolean b = s.b;
+    byte by = s.by;
+    assertEquality(5, i);
+    assertEquality(6.5, f);
+    assertEquality(true, b);
+    assertEquality(4, by);
+
+    map<anydata> m = {i: 7, f: 8.5, b: false, by: 2};
+    OpenSample|error converted = m.cloneWithType(OpenSample);
+    if converted is error {
+        panic converted;
+    }
+    assertEquality(7, converted.i);
+    assertEquality(8.5, converted.f);
+    assertEquality(false, converted.b);
+    assertEquality(2, converted.by);
+}
+
+function testOptionalPrimitiveFieldLoad() {
+    OptionalSample os = {i: 1, b: true};
+    int? i = os?.i;
+    float? f = os?.f;
+    boolean? b = os?.b;
+    byte? by = os?.by;
+    assertEquality(1, i);
+    assertEquality((), f);
+    assertEquality(true, b);
+    assertEquality((), by);
+
+    map<anydata> m = os;
+    m["f"] = 1.5;
+    m["by"] = 6;
+    assertEquality(1.5, os?.f);
+    assertEquality(6, os?.by);
+}
+
+function testReadonlyPrimitiveFieldLoad() {
+    ReadonlySample rs = {i: 12, f: 1.25, b: true, by: 100};
+    int i = rs.i;
+    float f = rs.f;
+    boolean b = rs.b;
+    byte by = rs.by;
+    assertEquality(12, i);
+    assertEquality(1.25, f);
+    assertEquality(true, b);
+    assertEquality(100, by);
+
+    Sample & readonly immutable = {i: 13, f: 2.25, b: false, by: 101};
+    i = immutable.i;
+    f = immutable.f;
+    b = immutable.b;
+    by = immutable.by;
+    assertEquality(13, i);
+    assertEquality(2.25, f);
+    assertEquality(false, b);
+    assertEquality(101, by);
+
+    Sample base = {i: 14, f: 3.25, b: true, by: 102};
+    Sample frozen = base.cloneReadOnly();
+    assertEquality(14, frozen.i);
+    assertEquality(3.25, frozen.f);
+    assertEquality(true, frozen.b);
+    assertEquality(102, frozen.by);
+}
+
+function testPrimitiveFieldLoadIntoUnion() {
+    Sample s = {i: 10, f: 2.5, b: true, by: 7};
+    int|string i = s.i;
+    anydata f = s.f;
+    assertEquality(10, i);
+    assertEquality(2.5, f);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error("expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}